@@ -0,0 +1,55 @@
+package core;
+
+import core.components.CollideComponent;
+import core.components.HealthComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/** Measures the component lookup with {@link Entity#fetch(Class)}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBenchmark {
+
+    private Entity entity;
+
+    @Setup
+    public void setup() {
+        entity = new Entity();
+        entity.addComponent(new PositionComponent(1, 1));
+        entity.addComponent(new VelocityComponent());
+        entity.addComponent(new CollideComponent());
+    }
+
+    @Benchmark
+    public Optional<PositionComponent> fetchPresent() {
+        return entity.fetch(PositionComponent.class);
+    }
+
+    @Benchmark
+    public Optional<HealthComponent> fetchMissing() {
+        return entity.fetch(HealthComponent.class);
+    }
+
+    @Benchmark
+    public boolean isPresent() {
+        return entity.isPresent(VelocityComponent.class);
+    }
+}
@@ -0,0 +1,94 @@
+package core.crafting;
+
+import core.Entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Crafting#recipeByIngredients(CraftingIngredient[])} with a growing number of
+ * registered recipes.
+ *
+ * <p>The recipes use simple ingredients without textures. Each recipe has three ingredients, half
+ * of the recipes are ordered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CraftingBenchmark {
+
+    private static final int INGREDIENT_TYPES = 20;
+    private static final CraftingResult[] NO_RESULTS = new CraftingResult[0];
+
+    @Param({"10", "100", "1000"})
+    private int recipes;
+
+    private CraftingIngredient[] known;
+    private CraftingIngredient[] unknown;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        Crafting.clearRecipes();
+        for (int i = 0; i < recipes; i++) {
+            CraftingIngredient[] ingredients = {
+                new Ingredient(random.nextInt(INGREDIENT_TYPES)),
+                new Ingredient(random.nextInt(INGREDIENT_TYPES)),
+                new Ingredient(random.nextInt(INGREDIENT_TYPES))
+            };
+            Crafting.addRecipe(new Recipe(i % 2 == 0, ingredients, NO_RESULTS));
+            if (i == recipes / 2) known = ingredients.clone();
+        }
+        unknown =
+                new CraftingIngredient[] {
+                    new Ingredient(INGREDIENT_TYPES),
+                    new Ingredient(INGREDIENT_TYPES),
+                    new Ingredient(INGREDIENT_TYPES)
+                };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Crafting.clearRecipes();
+    }
+
+    @Benchmark
+    public Optional<Recipe> recipeFound() {
+        return Crafting.recipeByIngredients(known);
+    }
+
+    @Benchmark
+    public Optional<Recipe> recipeNotFound() {
+        return Crafting.recipeByIngredients(unknown);
+    }
+
+    private record Ingredient(int type) implements CraftingIngredient {
+        @Override
+        public CraftingType ingredientType() {
+            return CraftingType.ITEM;
+        }
+
+        @Override
+        public boolean match(CraftingIngredient input) {
+            return input instanceof Ingredient && ((Ingredient) input).type == type;
+        }
+    }
+}
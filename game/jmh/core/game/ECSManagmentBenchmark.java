@@ -0,0 +1,80 @@
+package core.game;
+
+import core.Entity;
+import core.System;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the iteration over the entities with {@link ECSManagment#entityStream()} and {@link
+ * ECSManagment#entityStream(System)}.
+ *
+ * <p>Half of the entities have a {@link VelocityComponent}, so the system stream only contains
+ * half of the entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ECSManagmentBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int entities;
+
+    private final System system = new MovingSystem();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ECSManagment.add(system);
+        for (int i = 0; i < entities; i++) {
+            Entity entity = new Entity();
+            entity.addComponent(new PositionComponent(i, i));
+            if (i % 2 == 0) entity.addComponent(new VelocityComponent());
+            ECSManagment.add(entity);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ECSManagment.removeAllEntities();
+        ECSManagment.removeAllSystems();
+    }
+
+    @Benchmark
+    public void entityStream(Blackhole blackhole) {
+        ECSManagment.entityStream().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void entityStreamOfSystem(Blackhole blackhole) {
+        ECSManagment.entityStream(system).forEach(blackhole::consume);
+    }
+
+    private static final class MovingSystem extends System {
+        private MovingSystem() {
+            super(PositionComponent.class, VelocityComponent.class);
+        }
+
+        @Override
+        public void execute() {}
+    }
+}
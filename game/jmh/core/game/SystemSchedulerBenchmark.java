@@ -0,0 +1,99 @@
+package core.game;
+
+import core.Component;
+import core.System;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential execution of four systems with the execution by the {@link
+ * SystemScheduler}.
+ *
+ * <p>Each system does the same amount of work and writes its own component. If the systems declare
+ * their access, they form one stage and are executed concurrently. If they do not, like the {@link
+ * core.systems.AISystem} and the {@link core.systems.XPSystem}, each system is a stage of its own,
+ * and the scheduler can not be faster than the sequential execution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SystemSchedulerBenchmark {
+
+    @Param({"true", "false"})
+    private boolean declared;
+
+    @Param({"10000", "100000"})
+    private int work;
+
+    private final SystemScheduler scheduler = new SystemScheduler();
+    private List<System> systems;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        systems =
+                List.of(
+                        new WorkSystem(A.class),
+                        new WorkSystem(B.class),
+                        new WorkSystem(C.class),
+                        new WorkSystem(D.class));
+    }
+
+    @Benchmark
+    public long sequential() {
+        for (System system : systems) system.execute();
+        return result();
+    }
+
+    @Benchmark
+    public long scheduled() {
+        scheduler.execute(systems, System::execute);
+        return result();
+    }
+
+    private long result() {
+        long result = 0;
+        for (System system : systems) result += ((WorkSystem) system).result;
+        return result;
+    }
+
+    private static final class A implements Component {}
+
+    private static final class B implements Component {}
+
+    private static final class C implements Component {}
+
+    private static final class D implements Component {}
+
+    private final class WorkSystem extends System {
+        private long result;
+
+        private WorkSystem(Class<? extends Component> writes) {
+            if (declared) declareAccess(Set.of(), Set.of(writes));
+        }
+
+        @Override
+        public void execute() {
+            long value = result;
+            for (int i = 0; i < work; i++) value = value * 31 + i;
+            result = value;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package core.level;
+
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+
+/** Level layouts for the benchmarks. */
+public final class BenchmarkLevels {
+
+    private BenchmarkLevels() {}
+
+    /**
+     * Create a square maze with a single long way through it.
+     *
+     * <p>The level is surrounded by walls. Every fourth column is a wall with a gap alternating at
+     * the top and the bottom, so a path from {@code (1, 1)} to {@code (size - 2, size - 2)} has to
+     * snake through the whole level.
+     *
+     * @param size width and height of the level
+     * @return the layout, indexed by {@code [y][x]}
+     */
+    public static LevelElement[][] serpentine(int size) {
+        LevelElement[][] layout = new LevelElement[size][size];
+        boolean gapAtTop = true;
+        for (int x = 0; x < size; x++) {
+            boolean wallColumn = x % 4 == 2 && x < size - 2;
+            for (int y = 0; y < size; y++) {
+                boolean border = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                boolean gap = gapAtTop ? y == size - 2 : y == 1;
+                layout[y][x] =
+                        border || (wallColumn && !gap) ? LevelElement.WALL : LevelElement.FLOOR;
+            }
+            if (wallColumn) gapAtTop = !gapAtTop;
+        }
+        layout[size - 2][size - 2] = LevelElement.EXIT;
+        return layout;
+    }
+
+    /**
+     * Create a {@link TileLevel} with the {@link #serpentine(int)} layout.
+     *
+     * @param size width and height of the level
+     * @return the level
+     */
+    public static TileLevel serpentineLevel(int size) {
+        return new TileLevel(serpentine(size), DesignLabel.DEFAULT);
+    }
+}
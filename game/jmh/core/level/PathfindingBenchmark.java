@@ -0,0 +1,63 @@
+package core.level;
+
+import core.level.utils.Coordinate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link core.level.elements.IPathable#findPath(Tile, Tile)} on small, medium and large
+ * levels.
+ *
+ * <p>The levels use the {@link BenchmarkLevels#serpentine(int)} layout, so the path runs through
+ * the whole level.
+ *
+ * <p>{@link #findPath()} measures the A* search itself, so the {@link
+ * core.level.elements.astar.PathCache} of the level is cleared before each search. Clearing the
+ * cache only drops one entry, which is negligible next to the search. {@link #findPathCached()}
+ * measures the lookup of an already searched path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+
+    @Param({"20", "60", "150"})
+    private int size;
+
+    private TileLevel level;
+    private Tile start;
+    private Tile end;
+
+    @Setup
+    public void setup() {
+        level = BenchmarkLevels.serpentineLevel(size);
+        start = level.tileAt(new Coordinate(1, 1));
+        end = level.tileAt(new Coordinate(size - 2, size - 2));
+    }
+
+    @Benchmark
+    public Object findPath() {
+        level.pathCache().clear();
+        return level.findPath(start, end);
+    }
+
+    @Benchmark
+    public Object findPathCached() {
+        return level.findPath(start, end);
+    }
+}
@@ -0,0 +1,62 @@
+package core.level.generator.graphBased;
+
+import core.Entity;
+import core.level.elements.ILevel;
+import core.level.utils.DesignLabel;
+import core.utils.GameRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of a room-based level with {@link RoombasedLevelGenerator#level(Set,
+ * DesignLabel)}.
+ *
+ * <p>The rooms are filled with plain entities, so no textures are needed. The {@link GameRandom} is
+ * seeded once, each invocation generates a different level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoombasedLevelGeneratorBenchmark {
+
+    @Param({"5", "10", "20"})
+    private int rooms;
+
+    @Param({"1", "5"})
+    private int entitiesPerRoom;
+
+    private Set<Set<Entity>> entities;
+
+    @Setup
+    public void setup() {
+        GameRandom.seed(42);
+        entities = new HashSet<>();
+        for (int i = 0; i < rooms; i++) {
+            Set<Entity> room = new HashSet<>();
+            for (int j = 0; j < entitiesPerRoom; j++) room.add(new Entity());
+            entities.add(room);
+        }
+    }
+
+    @Benchmark
+    public ILevel level() {
+        return RoombasedLevelGenerator.level(entities, DesignLabel.DEFAULT);
+    }
+}
@@ -0,0 +1,51 @@
+package core.level.utils;
+
+import core.level.BenchmarkLevels;
+import core.level.Tile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TileTextureFactory#findTexturePath(Tile, Tile[][])}.
+ *
+ * <p>Each invocation looks up the texture of the next tile of the level, so the result is the
+ * average cost per tile over walls, floors and corners.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileTextureFactoryBenchmark {
+
+    @Param({"20", "60", "150"})
+    private int size;
+
+    private Tile[][] layout;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        layout = BenchmarkLevels.serpentineLevel(size).layout();
+    }
+
+    @Benchmark
+    public String findTexturePath() {
+        Tile tile = layout[next / size][next % size];
+        next = (next + 1) % (size * size);
+        return TileTextureFactory.findTexturePath(tile, layout);
+    }
+}
@@ -0,0 +1,89 @@
+package core.systems;
+
+import core.Entity;
+import core.Game;
+import core.components.CollideComponent;
+import core.components.PositionComponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one frame of the {@link CollisionSystem}.
+ *
+ * <p>Each invocation moves every entity a little bit and executes the system, including the enter
+ * and leave callbacks. The entities are spread over a square area, so that on average each
+ * collider covers about two tiles of free space.
+ *
+ * <p>See {@link core.utils.components.collision.BroadPhaseBenchmark} for a comparison of the broad
+ * phase strategies alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionSystemBenchmark {
+
+    private static final float MAX_STEP = 0.1f;
+
+    @Param({"100", "1000", "10000"})
+    private int entities;
+
+    private final Random random = new Random(42);
+    private final CollisionSystem system = new CollisionSystem();
+    private PositionComponent[] positions;
+    private float worldSize;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Game.add(system);
+        worldSize = (float) Math.sqrt(entities * 2);
+        positions = new PositionComponent[entities];
+        for (int i = 0; i < entities; i++) {
+            Entity entity = new Entity();
+            positions[i] =
+                    new PositionComponent(
+                            random.nextFloat() * worldSize, random.nextFloat() * worldSize);
+            entity.addComponent(positions[i]);
+            entity.addComponent(new CollideComponent());
+            Game.add(entity);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+    }
+
+    @Benchmark
+    public void execute() {
+        for (PositionComponent pc : positions)
+            pc.position(
+                    wrap(pc.x() + (random.nextFloat() - 0.5f) * MAX_STEP),
+                    wrap(pc.y() + (random.nextFloat() - 0.5f) * MAX_STEP));
+        system.execute();
+    }
+
+    private float wrap(float value) {
+        if (value < 0) return value + worldSize;
+        if (value >= worldSize) return value - worldSize;
+        return value;
+    }
+}
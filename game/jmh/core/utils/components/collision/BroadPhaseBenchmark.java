@@ -0,0 +1,89 @@
+package core.utils.components.collision;
+
+import core.Entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link BroadPhase} implementations.
+ *
+ * <p>Each invocation moves every hitbox a little bit (like one frame of the game) and searches for
+ * all overlapping pairs. The hitboxes are spread over a square area, so that on average each
+ * hitbox covers about two tiles of free space.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadPhaseBenchmark {
+
+    private static final float HITBOX_SIZE = 0.5f;
+    private static final float MAX_STEP = 0.1f;
+
+    @Param({"100", "1000", "10000"})
+    private int colliders;
+
+    @Param({"ALL_PAIRS", "UNIFORM_GRID", "SWEEP_AND_PRUNE"})
+    private String broadPhaseType;
+
+    private final Random random = new Random(42);
+    private final HitboxBuffer hitboxes = new HitboxBuffer();
+    private BroadPhase broadPhase;
+    private Entity[] entities;
+    private float[] x;
+    private float[] y;
+    private float worldSize;
+
+    @Setup
+    public void setup() {
+        broadPhase =
+                switch (broadPhaseType) {
+                    case "ALL_PAIRS" -> new AllPairsBroadPhase();
+                    case "UNIFORM_GRID" -> new UniformGridBroadPhase();
+                    case "SWEEP_AND_PRUNE" -> new SweepAndPruneBroadPhase();
+                    default -> throw new IllegalArgumentException(broadPhaseType);
+                };
+        worldSize = (float) Math.sqrt(colliders * 2);
+        entities = new Entity[colliders];
+        x = new float[colliders];
+        y = new float[colliders];
+        for (int i = 0; i < colliders; i++) {
+            entities[i] = new Entity();
+            x[i] = random.nextFloat() * worldSize;
+            y[i] = random.nextFloat() * worldSize;
+        }
+    }
+
+    @Benchmark
+    public void findPairs(Blackhole blackhole) {
+        hitboxes.clear();
+        for (int i = 0; i < colliders; i++) {
+            x[i] = wrap(x[i] + (random.nextFloat() - 0.5f) * MAX_STEP);
+            y[i] = wrap(y[i] + (random.nextFloat() - 0.5f) * MAX_STEP);
+            hitboxes.add(entities[i], null, x[i], y[i], x[i] + HITBOX_SIZE, y[i] + HITBOX_SIZE);
+        }
+        broadPhase.findPairs(hitboxes, (a, b) -> blackhole.consume(a + b));
+    }
+
+    private float wrap(float value) {
+        if (value < 0) return value + worldSize;
+        if (value >= worldSize) return value - worldSize;
+        return value;
+    }
+}
@@ -1,9 +1,11 @@
 package core;
 
 import core.game.ECSManagment;
+import core.utils.ComponentMask;
 
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -32,10 +34,11 @@ import java.util.stream.Stream;
  */
 public final class Entity implements Comparable<Entity> {
     private static final Logger LOGGER = Logger.getLogger(Entity.class.getName());
-    private static int nextId = 0;
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
     private final int id;
     private String name;
     private final HashMap<Class<? extends Component>, Component> components;
+    private ComponentMask componentMask = ComponentMask.EMPTY;
 
     /**
      * Create a new Entity you have to register it in {@link Game} using {@link Game#add}.
@@ -43,10 +46,7 @@ public final class Entity implements Comparable<Entity> {
      * @param name the name of the entity, used for better logging and debugging
      */
     public Entity(final String name) {
-        id = nextId++;
-        components = new HashMap<>();
-        this.name = name;
-        LOGGER.info("The entity '" + name + "' was created.");
+        this(NEXT_ID.getAndIncrement(), name);
     }
 
     /**
@@ -55,7 +55,18 @@ public final class Entity implements Comparable<Entity> {
      * <p>The name of the entity will be its id
      */
     public Entity() {
-        this("_" + nextId);
+        this(NEXT_ID.getAndIncrement());
+    }
+
+    private Entity(int id) {
+        this(id, "_" + id);
+    }
+
+    private Entity(int id, final String name) {
+        this.id = id;
+        components = new HashMap<>();
+        this.name = name;
+        LOGGER.info("The entity '" + name + "' was created.");
     }
 
     /**
@@ -71,6 +82,7 @@ public final class Entity implements Comparable<Entity> {
      */
     public void addComponent(final Component component) {
         components.put(component.getClass(), component);
+        componentMask = componentMask.with(component.getClass());
         ECSManagment.informAboutChanges(this);
         LOGGER.info(component.getClass().getName() + " Components from " + this + " was added.");
     }
@@ -85,6 +97,7 @@ public final class Entity implements Comparable<Entity> {
      */
     public void removeComponent(final Class<? extends Component> klass) {
         if (components.remove(klass) != null) {
+            componentMask = componentMask.without(klass);
             ECSManagment.informAboutChanges(this);
             LOGGER.info(klass.getName() + " from " + name + " was removed.");
         }
@@ -101,6 +114,19 @@ public final class Entity implements Comparable<Entity> {
         return Optional.ofNullable(klass.cast(components.get(klass)));
     }
 
+    /**
+     * Get the component without wrapping it in an {@link Optional}.
+     *
+     * <p>Use this in loops that run for every entity each frame, where creating an Optional for
+     * each lookup adds up. Prefer {@link #fetch(Class)} everywhere else.
+     *
+     * @param klass Class of the component
+     * @return the requested component, null if the entity has no component of the class
+     */
+    public <T extends Component> T fetchOrNull(final Class<T> klass) {
+        return klass.cast(components.get(klass));
+    }
+
     /**
      * Check if the entity has a component of the given class
      *
@@ -111,6 +137,18 @@ public final class Entity implements Comparable<Entity> {
         return components.containsKey(klass);
     }
 
+    /**
+     * Get the {@link ComponentMask} of the components currently stored in this entity.
+     *
+     * <p>The mask will be replaced with a new one on each component change, so a returned mask
+     * will never change.
+     *
+     * @return the mask of the components of this entity
+     */
+    public ComponentMask componentMask() {
+        return componentMask;
+    }
+
     /**
      * @return The id of this entity
      */
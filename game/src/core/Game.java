@@ -7,6 +7,7 @@ import core.components.PositionComponent;
 import core.configuration.KeyboardConfig;
 import core.game.ECSManagment;
 import core.game.GameLoop;
+import core.game.GameTime;
 import core.game.PreRunConfiguration;
 import core.level.Tile;
 import core.level.elements.ILevel;
@@ -15,7 +16,8 @@ import core.level.utils.LevelElement;
 import core.systems.LevelSystem;
 import core.utils.IVoidFunction;
 import core.utils.Point;
-import core.utils.components.MissingComponentException;
+import core.utils.SpatialIndex;
+import core.utils.profiling.SystemProfiler;
 
 import java.io.IOException;
 import java.util.Map;
@@ -84,6 +86,16 @@ public final class Game {
         return PreRunConfiguration.frameRate();
     }
 
+    /**
+     * Get the time step of the current frame.
+     *
+     * @return the time step in seconds
+     * @see GameTime#deltaTime()
+     */
+    public static float deltaTime() {
+        return GameTime.deltaTime();
+    }
+
     /**
      * Sets the frame rate in the pre-run configuration.
      *
@@ -111,6 +123,56 @@ public final class Game {
         PreRunConfiguration.disableAudio(disableAudio);
     }
 
+    /**
+     * Sets whether the hot components should be stored in dense primitive arrays in the pre-run
+     * configuration.
+     *
+     * @param denseComponentStorage True to enable dense component storage, false otherwise.
+     */
+    public static void denseComponentStorage(boolean denseComponentStorage) {
+        PreRunConfiguration.denseComponentStorage(denseComponentStorage);
+    }
+
+    /**
+     * Sets whether the execution of the systems should be measured each frame in the pre-run
+     * configuration.
+     *
+     * @param profiling True to enable profiling, false otherwise.
+     */
+    public static void profiling(boolean profiling) {
+        PreRunConfiguration.profiling(profiling);
+    }
+
+    /**
+     * Sets the path of the CSV file the profiling data is written to in the pre-run configuration.
+     *
+     * @param profilerCsvPath The path of the CSV file.
+     */
+    public static void profilerCsvPath(String profilerCsvPath) {
+        PreRunConfiguration.profilerCsvPath(profilerCsvPath);
+    }
+
+    /**
+     * Sets whether the game logic should run with a fixed time step in the pre-run configuration.
+     *
+     * @param fixedTimestep True to enable the fixed time step, false otherwise.
+     * @see PreRunConfiguration#fixedTimestep(boolean)
+     */
+    public static void fixedTimestep(boolean fixedTimestep) {
+        PreRunConfiguration.fixedTimestep(fixedTimestep);
+    }
+
+    /**
+     * Sets whether independent systems should be executed concurrently in the pre-run
+     * configuration.
+     *
+     * @param parallelSystems True to execute independent systems concurrently, false otherwise.
+     * @see PreRunConfiguration#parallelSystems(boolean)
+     */
+    public static void parallelSystems(boolean parallelSystems) {
+        PreRunConfiguration.parallelSystems(parallelSystems);
+    }
+
     /**
      * Sets the user-defined function for frame updates in the pre-run configuration.
      *
@@ -258,6 +320,28 @@ public final class Game {
         return ECSManagment.entityStream(filter);
     }
 
+    /**
+     * Get the {@link SpatialIndex} of the current level.
+     *
+     * <p>Use the index to find entities on a tile, in a radius or closest to a point without
+     * iterating over every entity.
+     *
+     * @return the spatial index of the entities in the current level
+     */
+    public static SpatialIndex spatialIndex() {
+        return ECSManagment.spatialIndex();
+    }
+
+    /**
+     * Get the profiler that measures the systems each frame.
+     *
+     * @return the profiler, empty if profiling is disabled or the game is not set up yet
+     * @see PreRunConfiguration#profiling()
+     */
+    public static Optional<SystemProfiler> profiler() {
+        return GameLoop.profiler();
+    }
+
     /**
      * @return the player character, can be null if not initialized
      * @see Optional
@@ -347,6 +431,17 @@ public final class Game {
         return currentLevel().tileAt(c);
     }
 
+    /**
+     * Get the tile at the given position in the level
+     *
+     * @param x x-position from where to get the tile
+     * @param y y-position from where to get the tile
+     * @return the tile at the given position.
+     */
+    public static Tile tileAT(float x, float y) {
+        return currentLevel().tileAt(x, y);
+    }
+
     /**
      * @return a random Tile in the Level
      */
@@ -389,22 +484,7 @@ public final class Game {
      * @return Stream of all entities on the given tile
      */
     public static Stream<Entity> entityAtTile(Tile t) {
-        Tile tile = Game.tileAT(t.position());
-
-        return ECSManagment.entityStream(Set.of(PositionComponent.class))
-                .filter(
-                        e ->
-                                tileAT(
-                                                e.fetch(PositionComponent.class)
-                                                        .orElseThrow(
-                                                                () ->
-                                                                        MissingComponentException
-                                                                                .build(
-                                                                                        e,
-                                                                                        PositionComponent
-                                                                                                .class))
-                                                        .position())
-                                        .equals(tile));
+        return ECSManagment.spatialIndex().entitiesAt(t);
     }
 
     /**
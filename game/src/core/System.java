@@ -1,5 +1,6 @@
 package core;
 
+import core.utils.ComponentMask;
 import core.utils.EntitySystemMapper;
 
 import java.util.HashSet;
@@ -28,10 +29,20 @@ import java.util.stream.Stream;
  * #triggerOnAdd(Entity)} or {@link #triggerOnRemove(Entity)} will be called by the {@link
  * EntitySystemMapper}. Set the {@link #onEntityAdd} or {@link #onEntityRemove} attributes in the
  * inheriting System to implement the corresponding logic for these events.
+ *
+ * <p>A System can declare which components it reads and writes with {@link #declareAccess(Set,
+ * Set)}. Systems that declared non-conflicting access may be executed concurrently by the {@link
+ * core.game.SystemScheduler}. Systems without a declaration are always executed alone on the render
+ * thread.
  */
 public abstract class System {
     protected static Logger LOGGER = Logger.getLogger(System.class.getName());
     private final Set<Class<? extends Component>> filterRules;
+    private final ComponentMask filterMask;
+    private Set<Class<? extends Component>> reads;
+    private Set<Class<? extends Component>> writes = Set.of();
+    private boolean accessDeclared = false;
+    private boolean renderThread = false;
     protected boolean run;
 
     /**
@@ -64,6 +75,8 @@ public abstract class System {
     public System(Class<? extends Component>... filterRules) {
         if (filterRules != null) this.filterRules = Set.of(filterRules);
         else this.filterRules = new HashSet<>();
+        filterMask = ComponentMask.of(this.filterRules);
+        reads = Set.copyOf(this.filterRules);
         run = true;
         LOGGER.info("A new " + this.getClass().getName() + " was created");
     }
@@ -107,6 +120,96 @@ public abstract class System {
         return new HashSet<>(filterRules);
     }
 
+    /**
+     * Retrieves the filter rules of this System as {@link ComponentMask}.
+     *
+     * <p>The mask is calculated once at creation, so this is the cheap way to look up the matching
+     * {@link EntitySystemMapper} each frame.
+     *
+     * @return the {@link ComponentMask} of the filter rules.
+     */
+    public final ComponentMask filterMask() {
+        return filterMask;
+    }
+
+    /**
+     * Declare which components this system reads and writes during {@link #execute()}.
+     *
+     * <p>The filter rules are always part of the read set. Components of other entities (e.g. the
+     * position of the hero) must be declared as well.
+     *
+     * <p>By declaring its access, the system promises that {@link #execute()} only changes the
+     * state of the written components. Entities may be added to or removed from the game, these
+     * changes are applied after the concurrently executed systems are done. Adding or removing
+     * components of existing entities, changing the level, and using the user interface or OpenGL
+     * is not allowed; use {@link #renderThread(boolean)} if the system needs LibGDX resources.
+     *
+     * <p>Call this in the constructor of the system.
+     *
+     * @param reads components this system reads
+     * @param writes components this system writes, writing implies reading
+     */
+    protected final void declareAccess(
+            final Set<Class<? extends Component>> reads,
+            final Set<Class<? extends Component>> writes) {
+        Set<Class<? extends Component>> all = new HashSet<>(filterRules);
+        all.addAll(reads);
+        this.reads = Set.copyOf(all);
+        this.writes = Set.copyOf(writes);
+        accessDeclared = true;
+    }
+
+    /**
+     * Set whether this system has to be executed on the render thread.
+     *
+     * <p>Systems that declared their access but use LibGDX resources that are bound to the render
+     * thread (e.g. audio or textures) can still be executed concurrently with other systems, while
+     * they stay on the render thread.
+     *
+     * @param renderThread true if the system has to be executed on the render thread
+     */
+    protected final void renderThread(boolean renderThread) {
+        this.renderThread = renderThread;
+    }
+
+    /**
+     * Check if this system declared which components it reads and writes.
+     *
+     * @return true if {@link #declareAccess(Set, Set)} was called, false if not
+     */
+    public final boolean accessDeclared() {
+        return accessDeclared;
+    }
+
+    /**
+     * Get the components this system reads.
+     *
+     * @return unmodifiable set of the read components, including the filter rules
+     */
+    public final Set<Class<? extends Component>> reads() {
+        return reads;
+    }
+
+    /**
+     * Get the components this system writes.
+     *
+     * @return unmodifiable set of the written components, empty if the access is not declared
+     */
+    public final Set<Class<? extends Component>> writes() {
+        return writes;
+    }
+
+    /**
+     * Check if this system has to be executed on the render thread.
+     *
+     * <p>This is always the case for systems without declared access.
+     *
+     * @return true if the system has to be executed on the render thread
+     */
+    public final boolean renderThread() {
+        return renderThread || !accessDeclared;
+    }
+
     /**
      * Toggle this system between running and paused states.
      *
@@ -122,6 +225,13 @@ public abstract class System {
         else run();
     }
 
+    /**
+     * Called after this system was removed from the game.
+     *
+     * <p>Override this to release resources of the system, like threads.
+     */
+    public void onRemove() {}
+
     /**
      * Set this system to the running state.
      *
@@ -2,10 +2,12 @@ package core.components;
 
 import core.Component;
 import core.Entity;
+import core.game.PreRunConfiguration;
 import core.level.Tile;
 import core.systems.CollisionSystem;
 import core.utils.Point;
 import core.utils.TriConsumer;
+import core.utils.components.DenseStorage;
 import core.utils.components.MissingComponentException;
 import core.utils.logging.CustomLogLevel;
 
@@ -36,6 +38,9 @@ import java.util.logging.Logger;
  * parameter is the entity with which the collision is happening, and the third parameter defines
  * the direction from where the collision is happening.
  *
+ * <p>If {@link PreRunConfiguration#denseComponentStorage()} is enabled, the offset and size of the
+ * hitbox are stored in the shared {@link #STORAGE}.
+ *
  * @see CollisionSystem
  */
 public final class CollideComponent implements Component {
@@ -44,6 +49,15 @@ public final class CollideComponent implements Component {
     public static final TriConsumer<Entity, Entity, Tile.Direction> DEFAULT_COLLIDER =
             (a, b, c) -> {};
 
+    /** Dense storage for the hitboxes, if {@link #denseStorage()} is enabled. */
+    public static final DenseStorage STORAGE = new DenseStorage(4);
+
+    private static final int OFFSET_X = 0;
+    private static final int OFFSET_Y = 1;
+    private static final int SIZE_X = 2;
+    private static final int SIZE_Y = 3;
+
+    private final int slot;
     private final Point offset;
     private final Point size;
     private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
@@ -68,6 +82,13 @@ public final class CollideComponent implements Component {
             final TriConsumer<Entity, Entity, Tile.Direction> collideLeave) {
         this.offset = offset;
         this.size = size;
+        if (PreRunConfiguration.denseComponentStorage()) {
+            slot = STORAGE.allocate(this);
+            STORAGE.set(OFFSET_X, slot, offset.x);
+            STORAGE.set(OFFSET_Y, slot, offset.y);
+            STORAGE.set(SIZE_X, slot, size.x);
+            STORAGE.set(SIZE_Y, slot, size.y);
+        } else slot = -1;
         this.collideEnter = collideEnter;
         this.collideLeave = collideLeave;
     }
@@ -140,7 +161,7 @@ public final class CollideComponent implements Component {
                                 () ->
                                         MissingComponentException.build(
                                                 entity, PositionComponent.class));
-        return new Point(pc.position().x + offset.x, pc.position().y + offset.y);
+        return new Point(pc.x() + offsetX(), pc.y() + offsetY());
     }
 
     /**
@@ -156,7 +177,7 @@ public final class CollideComponent implements Component {
                                 () ->
                                         MissingComponentException.build(
                                                 entity, PositionComponent.class));
-        return new Point(pc.position().x + offset.x + size.x, pc.position().y + offset.y + size.y);
+        return new Point(pc.x() + offsetX() + sizeX(), pc.y() + offsetY() + sizeY());
     }
 
     /**
@@ -173,7 +194,7 @@ public final class CollideComponent implements Component {
                                         MissingComponentException.build(
                                                 entity, PositionComponent.class));
         return new Point(
-                pc.position().x + offset.x + size.x / 2, pc.position().y + offset.y + size.y / 2);
+                pc.x() + offsetX() + sizeX() / 2, pc.y() + offsetY() + sizeY() / 2);
     }
 
     /**
@@ -202,4 +223,49 @@ public final class CollideComponent implements Component {
     public Point size() {
         return new Point(size);
     }
+
+    /**
+     * Get the x-offset of the hitbox to the position without creating a {@link Point}.
+     *
+     * @return the x-offset of the hitbox
+     */
+    public float offsetX() {
+        return slot < 0 ? offset.x : STORAGE.get(OFFSET_X, slot);
+    }
+
+    /**
+     * Get the y-offset of the hitbox to the position without creating a {@link Point}.
+     *
+     * @return the y-offset of the hitbox
+     */
+    public float offsetY() {
+        return slot < 0 ? offset.y : STORAGE.get(OFFSET_Y, slot);
+    }
+
+    /**
+     * Get the width of the hitbox without creating a {@link Point}.
+     *
+     * @return the width of the hitbox
+     */
+    public float sizeX() {
+        return slot < 0 ? size.x : STORAGE.get(SIZE_X, slot);
+    }
+
+    /**
+     * Get the height of the hitbox without creating a {@link Point}.
+     *
+     * @return the height of the hitbox
+     */
+    public float sizeY() {
+        return slot < 0 ? size.y : STORAGE.get(SIZE_Y, slot);
+    }
+
+    /**
+     * Check if this component stores its hitbox in the {@link #STORAGE}.
+     *
+     * @return true if the dense storage is used, false if not
+     */
+    public boolean denseStorage() {
+        return slot >= 0;
+    }
 }
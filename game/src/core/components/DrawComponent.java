@@ -4,25 +4,26 @@ import core.Component;
 import core.Entity;
 import core.systems.VelocitySystem;
 import core.utils.components.draw.Animation;
+import core.utils.components.draw.AnimationClip;
+import core.utils.components.draw.AnimationQueue;
 import core.utils.components.draw.CoreAnimations;
+import core.utils.components.draw.DepthLayer;
 import core.utils.components.draw.IPath;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
 import java.util.*;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Store all {@link Animation}s for an entity.
  *
- * <p>At creation, the component will read in each subdirectory in the given path and create an
- * animation for each subdirectory.
+ * <p>At creation, the component will create an animation for each subdirectory in the given path.
+ * The subdirectories are looked up in the {@link core.utils.components.draw.AnimationManifest}, so
+ * the assets are only scanned once.
+ *
+ * <p>All components of the same path share the {@link AnimationClip}s of their animations. The
+ * {@link Animation} that stores the playback state of this entity is only created when the
+ * animation is used for the first time.
  *
  * <p>Each Animation will be created with default settings. If you want to change these settings,
  * use the methods from {@link Animation}.
@@ -51,14 +52,17 @@ import java.util.stream.Collectors;
  */
 public final class DrawComponent implements Component {
     private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
+    /** Shared definitions of the animations that are not in the {@link #animationMap} yet. */
+    private Map<String, AnimationClip> clips = Map.of();
+
     private Map<String, Animation> animationMap = null;
     private Animation currentAnimation;
     /** allows only one Element from a certain priority and orders them */
-    private Map<IPath, Integer> animationQueue =
-            new TreeMap<>(Comparator.comparingInt(IPath::priority));
+    private final AnimationQueue animationQueue = new AnimationQueue();
 
     private int blinkForFrames = 0;
     private int isBlinkingSince = 0;
+    private DepthLayer depthLayer = DepthLayer.DEFAULT;
 
     /**
      * Create a new DrawComponent.
@@ -82,24 +86,19 @@ public final class DrawComponent implements Component {
      */
     public DrawComponent(final String path) throws IOException {
         // fetch available animations
-        try {
-            loadAnimationsFromDirectory(path);
-            currentAnimation(
-                    CoreAnimations.IDLE_DOWN,
-                    CoreAnimations.IDLE_LEFT,
-                    CoreAnimations.IDLE_RIGHT,
-                    CoreAnimations.IDLE_UP,
-                    CoreAnimations.IDLE);
-
-            // if no idle animation exists, set the missing texture animation as idle
-            if (currentAnimation == null) {
-                animationMap.put(CoreAnimations.IDLE.pathString(), Animation.defaultAnimation());
-                currentAnimation(CoreAnimations.IDLE);
-            }
-        } catch (NullPointerException np) {
-            // We convert the "NullPointerException" to a "FileNotFoundException" because the only
-            // reason for a NullPointerException is if the directory does not exist.
-            throw new FileNotFoundException("Path " + path + " not found.");
+        clips = AnimationClip.directory(path);
+        animationMap = new HashMap<>();
+        currentAnimation(
+                CoreAnimations.IDLE_DOWN,
+                CoreAnimations.IDLE_LEFT,
+                CoreAnimations.IDLE_RIGHT,
+                CoreAnimations.IDLE_UP,
+                CoreAnimations.IDLE);
+
+        // if no idle animation exists, set the missing texture animation as idle
+        if (currentAnimation == null) {
+            animationMap.put(CoreAnimations.IDLE.pathString(), Animation.defaultAnimation());
+            currentAnimation(CoreAnimations.IDLE);
         }
     }
 
@@ -143,17 +142,32 @@ public final class DrawComponent implements Component {
      * @see IPath
      */
     public void currentAnimation(final IPath... animationName) {
-        for (IPath animationPath : animationName) {
-            Animation animation = animationMap.get(animationPath.pathString());
-            if (animation != null) {
-                currentAnimation = animation;
-                return;
-            } else
-                LOGGER.warning(
-                        "Animation "
-                                + animationPath
-                                + " can not be set, because the given Animation could not be found.");
+        for (IPath animationPath : animationName) if (trySetCurrentAnimation(animationPath)) return;
+    }
+
+    /**
+     * Set the current animation displayed on the entity.
+     *
+     * <p>Same as {@link #currentAnimation(IPath...)} for a single path, but without creating an
+     * array for the arguments.
+     *
+     * @param animationName Path of the new current animation (this is the name of the directory).
+     */
+    public void currentAnimation(final IPath animationName) {
+        trySetCurrentAnimation(animationName);
+    }
+
+    private boolean trySetCurrentAnimation(final IPath animationPath) {
+        Animation animation = animation(animationPath.pathString());
+        if (animation != null) {
+            currentAnimation = animation;
+            return true;
         }
+        LOGGER.warning(
+                "Animation "
+                        + animationPath
+                        + " can not be set, because the given Animation could not be found.");
+        return false;
     }
 
     /**
@@ -181,14 +195,8 @@ public final class DrawComponent implements Component {
             if (lowest == null) lowest = path;
             if (lowest.priority() > path.priority()) lowest = path;
         }
-        for (Map.Entry<IPath, Integer> entry : animationQueue.entrySet()) {
-            // check for already added entry
-            if (entry.getKey().equals(lowest)) {
-                return;
-            }
-        }
         // add if not already in queue
-        animationQueue.put(lowest, forFrames);
+        animationQueue.queue(lowest, forFrames);
     }
 
     /**
@@ -197,7 +205,7 @@ public final class DrawComponent implements Component {
      * @param prio priority to remove
      */
     public void deQueueByPriority(int prio) {
-        animationQueue.keySet().removeIf(e -> e.priority() == prio);
+        animationQueue.removePriority(prio);
     }
 
     /**
@@ -209,7 +217,7 @@ public final class DrawComponent implements Component {
      * @return The animation or null
      */
     public Optional<Animation> getAnimation(final IPath path) {
-        return Optional.ofNullable(animationMap.get(path.pathString()));
+        return Optional.ofNullable(animation(path.pathString()));
     }
 
     /**
@@ -219,7 +227,8 @@ public final class DrawComponent implements Component {
      * @return true if the animation exists in this component, false if not
      */
     public boolean hasAnimation(final IPath path) {
-        return animationMap.containsKey(path.pathString());
+        return animationMap.containsKey(path.pathString())
+                || clips.containsKey(path.pathString());
     }
 
     /**
@@ -232,8 +241,10 @@ public final class DrawComponent implements Component {
      *     no animation for the given oath is stored in this component.
      */
     public boolean isCurrentAnimation(final IPath path) {
-        Optional<Animation> animation = getAnimation(path);
-        if (animation.isPresent()) return animation.get() == currentAnimation;
+        Animation animation = animationMap.get(path.pathString());
+        if (animation != null) return animation == currentAnimation;
+        // the current animation is always in the map
+        if (clips.containsKey(path.pathString())) return false;
         LOGGER.warning("Animation " + path + " is not stored.");
         return false;
     }
@@ -262,20 +273,54 @@ public final class DrawComponent implements Component {
      * @return true if Animation is in queue
      */
     public boolean isAnimationQueued(IPath requestedAnimation) {
-        for (Map.Entry<IPath, Integer> animationArr : animationQueue.entrySet()) {
-            if (animationArr.getKey().pathString().equals(requestedAnimation.pathString()))
-                return true;
-        }
-        return false;
+        return animationQueue.contains(requestedAnimation);
     }
 
     /**
+     * Get the queued animations and the number of frames they are still played for.
+     *
+     * <p>The map is a view of the {@link #queuedAnimations()}, sorted by priority. Changes of the
+     * map are written to the queue.
+     *
      * @return the whole queue of animations
      */
     public Map<IPath, Integer> animationQueue() {
+        return animationQueue.asMap();
+    }
+
+    /**
+     * Get the queue of the animations, for callers that read it every tick.
+     *
+     * <p>Unlike the map of {@link #animationQueue()}, the queue can be read and updated without
+     * allocating.
+     *
+     * @return the whole queue of animations
+     */
+    public AnimationQueue queuedAnimations() {
         return animationQueue;
     }
 
+    /**
+     * Get the layer in which the entity is drawn.
+     *
+     * @return the layer of the entity
+     * @see DepthLayer
+     */
+    public DepthLayer depthLayer() {
+        return depthLayer;
+    }
+
+    /**
+     * Set the layer in which the entity is drawn.
+     *
+     * <p>Entities in a higher layer are drawn on top of entities in a lower layer.
+     *
+     * @param depthLayer the new layer of the entity
+     */
+    public void depthLayer(final DepthLayer depthLayer) {
+        this.depthLayer = depthLayer;
+    }
+
     public int blinkForFrames() {
         return blinkForFrames;
     }
@@ -294,115 +339,38 @@ public final class DrawComponent implements Component {
     /**
      * Allows replacing the whole AnimationQueue with a new one
      *
-     * @param queue
+     * @param queue the animations to queue and the number of frames to play them for
      */
     public void animationQueue(Map<IPath, Integer> queue) {
-        animationQueue = queue;
+        animationQueue.clear();
+        queue.forEach(animationQueue::queue);
     }
 
     /**
      * Allows replacing and adding Entries.
      *
+     * <p>Creates the playback state of all animations that were not used yet.
+     *
      * @return the whole animationMap
      */
     public Map<String, Animation> animationMap() {
+        clips.keySet().forEach(this::animation);
         return animationMap;
     }
 
-    /*
-     * Loading logic
+    /**
+     * Get the animation with the given name, create its playback state from the shared clip if it
+     * was not used yet.
      */
-    private void loadAnimationsFromDirectory(String path) throws IOException {
-        File jarFile =
-                new File(getClass().getProtectionDomain().getCodeSource().getLocation().getPath());
-        if (jarFile.isFile()) loadAnimationsFromJar(path, jarFile);
-        else loadAnimationsFromIDE(path);
-    }
-
-    private void loadAnimationsFromJar(String path, File jarFile) throws IOException {
-        // This function will create a map of directories (String) and the files
-        // (LinkedList<String>) inside these directories.
-        // The map will be filled with the directories inside the given path (e.g.,
-        // "character/knight").
-        // Ultimately, this function will manually create an Animation for each entry within this
-        // map.
-
-        JarFile jar = new JarFile(jarFile);
-        Enumeration<JarEntry> entries = jar.entries(); // gives ALL entries in jar
-
-        // This will be used to map the directory names (e.g., "idle") and the texture files.
-        // Ultimately, we will create animations out of this by using the
-        // Animation(LinkedList<String>) constructor.
-
-        HashMap<String, List<String>> storage = new HashMap<>();
-        animationMap = new HashMap<>();
-
-        // Iterate over each file and directory in the JAR.
-
-        while (entries.hasMoreElements()) {
-            // example: character/knight/idle_down/idle_down_knight_1.png
-            // but also: character/knight/idle/
-            // and: character/knight/
-            String fileName = entries.nextElement().getName();
-
-            // If the entry starts with the path name (character/knight/idle),
-            // this is true for entries like (character/knight/idle_down/idle_down_knight_1.png) and
-            // (character/knight/idle/).
-            if (fileName.startsWith(path + "/")) {
-
-                // Get the index of the last FileSeparator; every character after that separator is
-                // part of the filename.
-                int lastSlashIndex = fileName.lastIndexOf("/");
-
-                // Ignore directories, so we only work with strings like
-                // (character/knight/idle_down/idle_down_knight_1.png).
-                if (lastSlashIndex != fileName.length() - 1) {
-                    // Get the index of the second-to-last part of the string.
-                    // For example, in "character/knight/idle_down/idle_down_knight_1.png", this
-                    // would
-                    // be the
-                    // index of the slash in "/idle".
-
-                    int secondLastSlashIndex = fileName.lastIndexOf("/", lastSlashIndex - 1);
-
-                    // Get the name of the directory. The directory name is between the
-                    // second-to-last and the last separator index.
-                    // The directory name serves as the key of the animation in the animation map
-                    // (similar to what the IPATh values are for them).
-                    // For example: "idle"
-
-                    String lastDir = fileName.substring(secondLastSlashIndex + 1, lastSlashIndex);
-
-                    // add animation-files to new or existing storage map
-                    if (storage.containsKey(lastDir)) storage.get(lastDir).add(fileName);
-                    else {
-                        LinkedList<String> list = new LinkedList<>();
-                        list.add(fileName);
-                        storage.put(lastDir, list);
-                    }
-                }
-            }
-        }
-
-        // sort the files in lexicographic order (like the most os)
-        // animations will be played in order
-        storage.values().forEach(Collections::sort);
-        // create animations
-        storage.forEach((name, textureSet) -> animationMap.put(name, new Animation(textureSet)));
-        jar.close();
-    }
-
-    private void loadAnimationsFromIDE(String path) {
-        URL url = DrawComponent.class.getResource("/" + path);
-        if (url != null) {
-            try {
-                File apps = new File(url.toURI());
-                animationMap =
-                        Arrays.stream(Objects.requireNonNull(apps.listFiles()))
-                                .filter(File::isDirectory)
-                                .collect(Collectors.toMap(File::getName, Animation::of));
-            } catch (URISyntaxException ignored) {
+    private Animation animation(final String name) {
+        Animation animation = animationMap.get(name);
+        if (animation == null) {
+            AnimationClip clip = clips.get(name);
+            if (clip != null) {
+                animation = new Animation(clip);
+                animationMap.put(name, animation);
             }
         }
+        return animation;
     }
 }
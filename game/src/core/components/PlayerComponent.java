@@ -5,6 +5,7 @@ import com.badlogic.gdx.Input;
 
 import core.Component;
 import core.Entity;
+import core.game.InputLatch;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,7 +21,7 @@ import java.util.function.Consumer;
  *
  * <p>The {@link core.systems.PlayerSystem} invokes the {@link #execute} method of this component,
  * which invokes for each stored tuple the associated callback if the corresponding button was
- * pressed.
+ * pressed. A press is seen by exactly one logic tick, see {@link InputLatch}.
  *
  * @see Input.Keys
  * @see core.systems.PlayerSystem
@@ -59,6 +60,7 @@ public final class PlayerComponent implements Component {
         if (callbacks.containsKey(key)) {
             oldCallback = callbacks.get(key).callback();
         }
+        InputLatch.watch(key);
         callbacks.put(key, new InputData(true, callback));
         return Optional.ofNullable(oldCallback);
     }
@@ -80,6 +82,7 @@ public final class PlayerComponent implements Component {
         if (callbacks.containsKey(key)) {
             oldCallback = callbacks.get(key).callback();
         }
+        InputLatch.watch(key);
         callbacks.put(key, new InputData(repeat, callback, pausable));
         return Optional.ofNullable(oldCallback);
     }
@@ -131,10 +134,10 @@ public final class PlayerComponent implements Component {
     }
 
     private void execute(Entity entity, int key, final InputData data) {
-        if ((!data.repeat()
-                        && (Gdx.input.isKeyJustPressed(key) || Gdx.input.isButtonJustPressed(key)))
-                || (data.repeat()
-                        && (Gdx.input.isKeyPressed(key) || Gdx.input.isButtonJustPressed(key)))) {
+        // the presses are latched once per frame, so each press is seen by exactly one tick
+        boolean pressed =
+                InputLatch.justPressed(key) || (data.repeat() && Gdx.input.isKeyPressed(key));
+        if (pressed) {
             data.callback().accept(entity);
         }
     }
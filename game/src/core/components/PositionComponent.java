@@ -1,9 +1,14 @@
 package core.components;
 
 import core.Component;
+import core.game.PreRunConfiguration;
 import core.level.Tile;
 import core.utils.Point;
+import core.utils.components.DenseStorage;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
@@ -15,13 +20,42 @@ import java.util.logging.Logger;
  * position of an entity. See <a
  * href="https://github.com/Programmiermethoden/Dungeon/tree/master/doc/ecs/systems">System-Overview</a>.
  *
+ * <p>If {@link PreRunConfiguration#denseComponentStorage()} is enabled, the position is stored in
+ * the shared {@link #STORAGE} instead of a {@link Point} object. In this mode, {@link #position()}
+ * only creates a new {@link Point} if the position changed since the last call. Use {@link #x()}
+ * and {@link #y()} to read the position without allocation. The previous positions of all these
+ * components are stored column by column with {@link #storeDensePreviousPositions()}.
+ *
+ * <p>The component also keeps the position of the previous logic tick, which is stored by the
+ * {@link core.game.GameLoop} with {@link #storePreviousPosition()} at the beginning of each tick.
+ * Renderers use {@link #interpolatedX(float)} and {@link #interpolatedY(float)} to draw the entity
+ * between the two positions if the game logic runs with a fixed time step.
+ *
+ * <p>Listeners can be registered with {@link #addPositionListener(Consumer)}, they will be called
+ * each time the position is set. The {@link core.utils.SpatialIndex} uses this to keep its buckets
+ * up to date. The listeners are called on the thread that sets the position, which may be a thread
+ * of the {@link core.game.SystemScheduler}, so they must be thread-safe.
+ *
  * @see Point
  */
 public final class PositionComponent implements Component {
 
     public static final Point ILLEGAL_POSITION = new Point(-100, -100);
+
+    /** Dense storage for the positions, if {@link #denseStorage()} is enabled. */
+    public static final DenseStorage STORAGE = new DenseStorage(4);
+
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int PREVIOUS_X = 2;
+    private static final int PREVIOUS_Y = 3;
     private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
+    private final int slot;
     private Point position;
+    private float previousX;
+    private float previousY;
+    // replaced on each change, so the listeners can be called without locking or copying
+    private volatile List<Consumer<PositionComponent>> listeners = List.of();
 
     /**
      * Create a new PositionComponent with given position.
@@ -31,7 +65,9 @@ public final class PositionComponent implements Component {
      * @param position The position of the entity in the level.
      */
     public PositionComponent(final Point position) {
-        this.position = position;
+        slot = PreRunConfiguration.denseComponentStorage() ? STORAGE.allocate(this) : -1;
+        position(position);
+        storePreviousPosition();
     }
 
     /**
@@ -54,7 +90,7 @@ public final class PositionComponent implements Component {
      * #ILLEGAL_POSITION} will be replaced with a random accessible position.
      */
     public PositionComponent() {
-        position = ILLEGAL_POSITION;
+        this(ILLEGAL_POSITION);
     }
 
     /**
@@ -63,6 +99,12 @@ public final class PositionComponent implements Component {
      * @return The position of the associated entity.
      */
     public Point position() {
+        if (slot >= 0) {
+            float x = STORAGE.get(X, slot);
+            float y = STORAGE.get(Y, slot);
+            // like in the sparse mode, a returned point is not changed by a later position change
+            if (position == null || position.x != x || position.y != y) position = new Point(x, y);
+        }
         return position;
     }
 
@@ -72,7 +114,155 @@ public final class PositionComponent implements Component {
      * @param position new Position of the associated entity
      */
     public void position(final Point position) {
-        this.position = position;
+        if (slot < 0) {
+            this.position = position;
+            positionChanged();
+        } else position(position.x, position.y);
+    }
+
+    /**
+     * Set the position of the associated entity.
+     *
+     * @param x new x-position of the associated entity
+     * @param y new y-position of the associated entity
+     */
+    public void position(float x, float y) {
+        if (slot < 0) position = new Point(x, y);
+        else {
+            STORAGE.set(X, slot, x);
+            STORAGE.set(Y, slot, y);
+        }
+        positionChanged();
+    }
+
+    /**
+     * Get the x-position of the associated entity without creating a {@link Point}.
+     *
+     * @return The x-position of the associated entity.
+     */
+    public float x() {
+        return slot < 0 ? position.x : STORAGE.get(X, slot);
+    }
+
+    /**
+     * Get the y-position of the associated entity without creating a {@link Point}.
+     *
+     * @return The y-position of the associated entity.
+     */
+    public float y() {
+        return slot < 0 ? position.y : STORAGE.get(Y, slot);
+    }
+
+    /**
+     * Remember the current position as the position of the previous logic tick.
+     *
+     * <p>Call this before the position is updated for the next tick, or after the entity was
+     * teleported so it will not be interpolated across the level.
+     */
+    public void storePreviousPosition() {
+        if (slot < 0) {
+            previousX = position.x;
+            previousY = position.y;
+        } else {
+            STORAGE.set(PREVIOUS_X, slot, STORAGE.get(X, slot));
+            STORAGE.set(PREVIOUS_Y, slot, STORAGE.get(Y, slot));
+        }
+    }
+
+    /**
+     * Remember the current positions of all components in the {@link #STORAGE} as the positions of
+     * the previous logic tick.
+     *
+     * <p>Copies the position columns page by page, instead of visiting each entity. The components
+     * that do not use the dense storage are not changed, call {@link #storePreviousPosition()} for
+     * them.
+     */
+    public static void storeDensePreviousPositions() {
+        for (int page = 0; page < STORAGE.pageCount(); page++) {
+            System.arraycopy(
+                    STORAGE.page(X, page),
+                    0,
+                    STORAGE.page(PREVIOUS_X, page),
+                    0,
+                    DenseStorage.PAGE_SIZE);
+            System.arraycopy(
+                    STORAGE.page(Y, page),
+                    0,
+                    STORAGE.page(PREVIOUS_Y, page),
+                    0,
+                    DenseStorage.PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Get the x-position between the previous and the current logic tick.
+     *
+     * @param alpha progress between the previous (0) and the current (1) position
+     * @return the interpolated x-position
+     */
+    public float interpolatedX(float alpha) {
+        if (alpha >= 1f) return x();
+        float previous = slot < 0 ? previousX : STORAGE.get(PREVIOUS_X, slot);
+        return previous + (x() - previous) * alpha;
+    }
+
+    /**
+     * Get the y-position between the previous and the current logic tick.
+     *
+     * @param alpha progress between the previous (0) and the current (1) position
+     * @return the interpolated y-position
+     */
+    public float interpolatedY(float alpha) {
+        if (alpha >= 1f) return y();
+        float previous = slot < 0 ? previousY : STORAGE.get(PREVIOUS_Y, slot);
+        return previous + (y() - previous) * alpha;
+    }
+
+    /**
+     * Check if this component stores its position in the {@link #STORAGE}.
+     *
+     * @return true if the dense storage is used, false if not
+     */
+    public boolean denseStorage() {
+        return slot >= 0;
+    }
+
+    /**
+     * Get the slot of this component in the {@link #STORAGE}.
+     *
+     * @return the slot index, or -1 if the dense storage is not used
+     */
+    public int slot() {
+        return slot;
+    }
+
+    /**
+     * Add a listener that is called each time the position of this component is set.
+     *
+     * <p>The listener is called on the thread that sets the position.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addPositionListener(final Consumer<PositionComponent> listener) {
+        List<Consumer<PositionComponent>> changed = new ArrayList<>(listeners);
+        changed.add(listener);
+        listeners = List.copyOf(changed);
+    }
+
+    /**
+     * Remove a listener that was added with {@link #addPositionListener(Consumer)}.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void removePositionListener(final Consumer<PositionComponent> listener) {
+        List<Consumer<PositionComponent>> changed = new ArrayList<>(listeners);
+        changed.remove(listener);
+        listeners = List.copyOf(changed);
+    }
+
+    private void positionChanged() {
+        List<Consumer<PositionComponent>> current = listeners;
+        for (int i = 0; i < current.size(); i++) current.get(i).accept(this);
     }
 
     /**
@@ -2,6 +2,8 @@ package core.components;
 
 import core.Component;
 import core.Entity;
+import core.game.PreRunConfiguration;
+import core.utils.components.DenseStorage;
 import core.utils.logging.CustomLogLevel;
 
 import java.util.function.Consumer;
@@ -24,11 +26,24 @@ import java.util.logging.Logger;
  *
  * <p>Use {@link #yVelocity(float)} or {@link #xVelocity(float)} to change the current velocity.
  * Normally you want to use the {@link #xVelocity} or {@link #yVelocity} as parameter this.
+ *
+ * <p>If {@link PreRunConfiguration#denseComponentStorage()} is enabled, the velocity values are
+ * stored in the shared {@link #STORAGE} instead of the fields of this component.
  */
 public final class VelocityComponent implements Component {
 
+    /** Dense storage for the velocities, if {@link #denseStorage()} is enabled. */
+    public static final DenseStorage STORAGE = new DenseStorage(6);
+
+    private static final int CURRENT_X = 0;
+    private static final int CURRENT_Y = 1;
+    private static final int X = 2;
+    private static final int Y = 3;
+    private static final int PREVIOUS_X = 4;
+    private static final int PREVIOUS_Y = 5;
     private static final Consumer<Entity> DEFAULT_ON_WALL_HIT = e -> {};
     private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
+    private final int slot;
     private float currentXVelocity;
     private float currentYVelocity;
     private float xVelocity;
@@ -44,10 +59,11 @@ public final class VelocityComponent implements Component {
      * @param yVelocity Speed with which the entity can move on the y-axis
      */
     public VelocityComponent(float xVelocity, float yVelocity, Consumer<Entity> onWallHit) {
-        this.currentXVelocity = 0;
-        this.currentYVelocity = 0;
-        this.xVelocity = xVelocity;
-        this.yVelocity = yVelocity;
+        slot = PreRunConfiguration.denseComponentStorage() ? STORAGE.allocate(this) : -1;
+        currentXVelocity(0);
+        currentYVelocity(0);
+        xVelocity(xVelocity);
+        yVelocity(yVelocity);
         this.onWallHit = onWallHit;
     }
 
@@ -80,7 +96,7 @@ public final class VelocityComponent implements Component {
      * @return current velocity on the x-axis
      */
     public float currentXVelocity() {
-        return currentXVelocity;
+        return slot < 0 ? currentXVelocity : STORAGE.get(CURRENT_X, slot);
     }
 
     /**
@@ -94,7 +110,8 @@ public final class VelocityComponent implements Component {
      * @param currentXVelocity set current speed on the x-axis
      */
     public void currentXVelocity(float currentXVelocity) {
-        this.currentXVelocity = currentXVelocity;
+        if (slot < 0) this.currentXVelocity = currentXVelocity;
+        else STORAGE.set(CURRENT_X, slot, currentXVelocity);
     }
 
     /**
@@ -107,7 +124,7 @@ public final class VelocityComponent implements Component {
      * @return current velocity on the y-axis
      */
     public float currentYVelocity() {
-        return currentYVelocity;
+        return slot < 0 ? currentYVelocity : STORAGE.get(CURRENT_Y, slot);
     }
 
     /**
@@ -121,7 +138,8 @@ public final class VelocityComponent implements Component {
      * @param currentYVelocity set current speed on the x-axis
      */
     public void currentYVelocity(float currentYVelocity) {
-        this.currentYVelocity = currentYVelocity;
+        if (slot < 0) this.currentYVelocity = currentYVelocity;
+        else STORAGE.set(CURRENT_Y, slot, currentYVelocity);
     }
 
     /**
@@ -132,6 +150,7 @@ public final class VelocityComponent implements Component {
      * @return velocity with which the entity should move on the x-axis
      */
     public float xVelocity() {
+        float xVelocity = slot < 0 ? this.xVelocity : STORAGE.get(X, slot);
         LOGGER.log(CustomLogLevel.DEBUG, "Fetching x-velocity for entity '" + "': " + xVelocity);
         return xVelocity;
     }
@@ -144,7 +163,8 @@ public final class VelocityComponent implements Component {
      * @param xVelocity set speed with which the entity can should on the x-axis
      */
     public void xVelocity(float xVelocity) {
-        this.xVelocity = xVelocity;
+        if (slot < 0) this.xVelocity = xVelocity;
+        else STORAGE.set(X, slot, xVelocity);
     }
 
     /**
@@ -155,6 +175,7 @@ public final class VelocityComponent implements Component {
      * @return velocity with which the entity should move on the y-axis
      */
     public float yVelocity() {
+        float yVelocity = slot < 0 ? this.yVelocity : STORAGE.get(Y, slot);
         LOGGER.log(CustomLogLevel.DEBUG, "Fetching y-velocity for entity '" + "': " + yVelocity);
         return yVelocity;
     }
@@ -167,7 +188,8 @@ public final class VelocityComponent implements Component {
      * @param yVelocity set speed with which the entity can should on the y-axis
      */
     public void yVelocity(float yVelocity) {
-        this.yVelocity = yVelocity;
+        if (slot < 0) this.yVelocity = yVelocity;
+        else STORAGE.set(Y, slot, yVelocity);
     }
 
     /**
@@ -175,14 +197,15 @@ public final class VelocityComponent implements Component {
      * the direction.
      */
     public void previousXVelocity(float previousXVelocity) {
-        this.previousXVelocity = previousXVelocity;
+        if (slot < 0) this.previousXVelocity = previousXVelocity;
+        else STORAGE.set(PREVIOUS_X, slot, previousXVelocity);
     }
 
     /**
      * @return the x velocity from the last movement
      */
     public float previousXVelocity() {
-        return previousXVelocity;
+        return slot < 0 ? previousXVelocity : STORAGE.get(PREVIOUS_X, slot);
     }
 
     /**
@@ -190,14 +213,33 @@ public final class VelocityComponent implements Component {
      * the direction.
      */
     public void previousYVelocity(float previousYVelocity) {
-        this.previousYVelocity = previousYVelocity;
+        if (slot < 0) this.previousYVelocity = previousYVelocity;
+        else STORAGE.set(PREVIOUS_Y, slot, previousYVelocity);
     }
 
     /**
      * @return the y velocity from the last movement
      */
     public float previousYVelocity() {
-        return previousYVelocity;
+        return slot < 0 ? previousYVelocity : STORAGE.get(PREVIOUS_Y, slot);
+    }
+
+    /**
+     * Check if this component stores its values in the {@link #STORAGE}.
+     *
+     * @return true if the dense storage is used, false if not
+     */
+    public boolean denseStorage() {
+        return slot >= 0;
+    }
+
+    /**
+     * Get the slot of this component in the {@link #STORAGE}.
+     *
+     * @return the slot index, or -1 if the dense storage is not used
+     */
+    public int slot() {
+        return slot;
     }
 
     /** Sets the behavior when a wall is hit. */
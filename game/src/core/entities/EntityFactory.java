@@ -12,12 +12,14 @@ import core.hud.crafting.CraftingGUI;
 import core.hud.inventory.InventoryGUI;
 import core.item.Item;
 import core.level.Tile;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.Tuple;
 import core.utils.components.ItemDataGenerator;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.ChestAnimations;
 import core.utils.components.draw.CoreAnimations;
+import core.utils.components.draw.DepthLayer;
 import core.utils.components.health.Damage;
 import core.utils.components.interaction.DropItemsInteraction;
 import core.utils.components.interaction.InteractionTool;
@@ -38,7 +40,7 @@ import java.util.stream.IntStream;
  */
 public class EntityFactory {
     public static final int DEFAULT_INVENTORY_SIZE = 10;
-    private static final Random RANDOM = new Random();
+    private static final Random RANDOM = GameRandom.RANDOM;
     private static final String HERO_FILE_PATH = "character/wizard";
     private static final float X_SPEED_HERO = 7.5f;
     private static final float Y_SPEED_HERO = 7.5f;
@@ -60,7 +62,9 @@ public class EntityFactory {
         PositionComponent poc = new PositionComponent();
         hero.addComponent(poc);
         hero.addComponent(new VelocityComponent(X_SPEED_HERO, Y_SPEED_HERO));
-        hero.addComponent(new DrawComponent(HERO_FILE_PATH));
+        DrawComponent dc = new DrawComponent(HERO_FILE_PATH);
+        dc.depthLayer(DepthLayer.PLAYER);
+        hero.addComponent(dc);
         HealthComponent hc =
                 new HealthComponent(
                         HERO_HP,
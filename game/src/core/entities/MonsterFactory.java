@@ -7,6 +7,7 @@ import core.Entity;
 import core.Game;
 import core.components.*;
 import core.item.Item;
+import core.utils.GameRandom;
 import core.utils.components.ItemDataGenerator;
 import core.utils.components.health.DamageType;
 import core.utils.components.interaction.DropItemsInteraction;
@@ -21,7 +22,7 @@ import java.util.function.BiConsumer;
 public class MonsterFactory {
 
     private static final String BASE_PATH = "character/monster/";
-    private static final Random RANDOM = new Random();
+    private static final Random RANDOM = GameRandom.RANDOM;
     public static final int MONSTER_COLLIDE_COOL_DOWN = 2 * Game.frameRate();
 
     public static Entity randomMonster() throws IOException {
@@ -153,7 +154,7 @@ public class MonsterFactory {
 
         public static MonsterType getRandomMonsterByStrength(Strength strength) {
             List<MonsterType> monstersWithStrength = Arrays.asList(values());
-            Collections.shuffle(monstersWithStrength);
+            Collections.shuffle(monstersWithStrength, RANDOM);
             for (MonsterType monster : monstersWithStrength) {
                 if (monster.strength == strength) {
                     return monster;
@@ -163,8 +164,7 @@ public class MonsterFactory {
         }
 
         public static MonsterType getRandomMonster() {
-            Random random = new Random();
-            return values()[random.nextInt(values().length)];
+            return values()[RANDOM.nextInt(values().length)];
         }
 
         // Getters for textureName and strength if needed
@@ -8,6 +8,7 @@ import core.components.PositionComponent;
 import core.item.Item;
 import core.utils.Constants;
 import core.utils.Point;
+import core.utils.components.draw.DepthLayer;
 
 /** Class which creates all needed Components for a basic WorldItem */
 public class WorldItemBuilder {
@@ -21,7 +22,9 @@ public class WorldItemBuilder {
     public static Entity buildWorldItem(Item item) {
         Entity droppedItem = new Entity();
         droppedItem.addComponent(new PositionComponent(PositionComponent.ILLEGAL_POSITION));
-        droppedItem.addComponent(new DrawComponent(item.worldAnimation()));
+        DrawComponent dc = new DrawComponent(item.worldAnimation());
+        dc.depthLayer(DepthLayer.GROUND);
+        droppedItem.addComponent(dc);
         droppedItem.addComponent(new ItemComponent(item));
 
         droppedItem.addComponent(
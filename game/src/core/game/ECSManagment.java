@@ -4,23 +4,47 @@ import core.Component;
 import core.Entity;
 import core.System;
 import core.level.elements.ILevel;
+import core.utils.ComponentMask;
 import core.utils.EntitySystemMapper;
+import core.utils.SpatialIndex;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
-/** The class responsible for managing the ECS (Entity-Component-System) in the game. */
+/**
+ * The class responsible for managing the ECS (Entity-Component-System) in the game.
+ *
+ * <p>Each level has its own entity storage. The storage maps the {@link ComponentMask} of the
+ * filter rules to the matching {@link EntitySystemMapper}, so finding the entities of a {@link
+ * System} is a single map lookup. Each storage always contains the {@link EntitySystemMapper} for
+ * the empty filter, which contains every entity of the level.
+ *
+ * <p>The positions of the entities in the active storage are tracked by a {@link SpatialIndex},
+ * see {@link #spatialIndex()}. The index is rebuilt if the active storage changes.
+ *
+ * <p>While the {@link SystemScheduler} executes systems concurrently, changes to the entity storage
+ * are deferred and applied on the render thread once the concurrent systems are done, see {@link
+ * #deferChanges(boolean)}.
+ */
 public class ECSManagment {
     private static final Logger LOGGER = Logger.getLogger("ECSManagment");
     private static final Map<Class<? extends System>, System> systems = new LinkedHashMap<>();
-    private static final Map<ILevel, Set<EntitySystemMapper>> levelStorageMap = new HashMap<>();
+    private static List<System> systemList = List.of();
+    private static final Map<ILevel, Map<ComponentMask, EntitySystemMapper>> levelStorageMap =
+            new HashMap<>();
+    private static final SpatialIndex spatialIndex = new SpatialIndex();
     private static Entity hero;
-    private static Set<EntitySystemMapper> activeEntityStorage = new HashSet<>();
+    private static Map<ComponentMask, EntitySystemMapper> activeEntityStorage = newEntityStorage();
+    private static final Queue<Runnable> deferredChanges = new ConcurrentLinkedQueue<>();
+    private static volatile boolean deferChanges = false;
+    /** True on a thread that builds entities outside the game, see {@link #buildDetached}. */
+    private static final ThreadLocal<Boolean> detached = ThreadLocal.withInitial(() -> false);
 
     static {
         levelStorageMap.put(null, activeEntityStorage);
-        activeEntityStorage.add(new EntitySystemMapper());
     }
 
     /**
@@ -32,8 +56,15 @@ public class ECSManagment {
      * @param entity the entity that has changes in its Component Collection.
      */
     public static void informAboutChanges(Entity entity) {
-        if (entityStream().anyMatch(entity1 -> entity1.equals(entity))) {
-            activeEntityStorage.forEach(f -> f.update(entity));
+        // entities built detached are not in the game, there is nothing to inform
+        if (detached.get()) return;
+        if (deferChanges) {
+            deferredChanges.add(() -> informAboutChanges(entity));
+            return;
+        }
+        if (activeEntityStorage.get(ComponentMask.EMPTY).has(entity)) {
+            activeEntityStorage.values().forEach(f -> f.update(entity));
+            spatialIndex.update(entity);
             LOGGER.info("Entity: " + entity + " informed the Game about component changes.");
         }
     }
@@ -49,7 +80,12 @@ public class ECSManagment {
      * @param entity the entity to add.
      */
     public static void add(Entity entity) {
-        activeEntityStorage.forEach(f -> f.add(entity));
+        if (deferChanges) {
+            deferredChanges.add(() -> add(entity));
+            return;
+        }
+        activeEntityStorage.values().forEach(f -> f.add(entity));
+        spatialIndex.update(entity);
         LOGGER.info("Entity: " + entity + " will be added to the Game.");
     }
 
@@ -61,10 +97,54 @@ public class ECSManagment {
      * @param entity the entity to remove
      */
     public static void remove(Entity entity) {
-        activeEntityStorage.forEach(f -> f.remove(entity));
+        if (deferChanges) {
+            deferredChanges.add(() -> remove(entity));
+            return;
+        }
+        activeEntityStorage.values().forEach(f -> f.remove(entity));
+        spatialIndex.remove(entity);
         LOGGER.info("Entity: " + entity + " will be removed from the Game.");
     }
 
+    /**
+     * Set whether changes to the entity storage are deferred.
+     *
+     * <p>While enabled, {@link #add(Entity)}, {@link #remove(Entity)} and {@link
+     * #informAboutChanges(Entity)} only queue the change. If disabled, the queued changes are
+     * applied in the order they were made.
+     *
+     * <p>This is used by the {@link SystemScheduler} so concurrently executed systems can add and
+     * remove entities without corrupting the storage.
+     *
+     * @param defer true to defer the changes, false to apply the queued changes
+     */
+    static void deferChanges(boolean defer) {
+        deferChanges = defer;
+        if (defer) return;
+        Runnable change;
+        while ((change = deferredChanges.poll()) != null) change.run();
+    }
+
+    /**
+     * Build entities that are not in the game yet, e.g. on a thread that generates the next level.
+     *
+     * <p>While the builder is executed, the component changes of entities on the calling thread are
+     * not reported to the entity storage, so the storage is not read from another thread. The
+     * entities have to be added to the game with {@link #add(Entity)} later, on the game thread.
+     *
+     * @param builder builds the entities
+     * @param <T> type of the result
+     * @return the result of the builder
+     */
+    public static <T> T buildDetached(final Supplier<T> builder) {
+        detached.set(true);
+        try {
+            return builder.get();
+        } finally {
+            detached.set(false);
+        }
+    }
+
     /**
      * Create a new {@link EntitySystemMapper} with the given filter rules.
      *
@@ -74,8 +154,7 @@ public class ECSManagment {
      * with {@link EntitySystemMapper#add(Entity)}.
      *
      * <p>This function will not check if an {@link EntitySystemMapper} with the same rules already
-     * exists. If an {@link EntitySystemMapper} exists, it will not be replaced, and the {@link
-     * EntitySystemMapper} created in this function will be lost.
+     * exists. If an {@link EntitySystemMapper} exists, it will be replaced.
      *
      * @param filter Set of Component classes that define the filter rules.
      * @return the created {@link EntitySystemMapper}.
@@ -83,11 +162,41 @@ public class ECSManagment {
     private static EntitySystemMapper createNewEntitySystemMapper(
             Set<Class<? extends Component>> filter) {
         EntitySystemMapper mapper = new EntitySystemMapper(filter);
-        activeEntityStorage.add(mapper);
         entityStream().forEach(mapper::add);
+        activeEntityStorage.put(mapper.filterMask(), mapper);
+        return mapper;
+    }
+
+    /**
+     * Get the {@link EntitySystemMapper} for the given filter rules from the {@link
+     * #activeEntityStorage}.
+     *
+     * <p>If no matching {@link EntitySystemMapper} exists, a new one will be created.
+     *
+     * @param mask the filter rules as {@link ComponentMask}, used for the lookup
+     * @param filter the filter rules, used if a new {@link EntitySystemMapper} must be created
+     * @return the matching {@link EntitySystemMapper}
+     */
+    private static EntitySystemMapper mapper(
+            ComponentMask mask, Set<Class<? extends Component>> filter) {
+        EntitySystemMapper mapper = activeEntityStorage.get(mask);
+        if (mapper == null) mapper = createNewEntitySystemMapper(filter);
         return mapper;
     }
 
+    /**
+     * Create a new entity storage for a level.
+     *
+     * <p>The storage will contain an {@link EntitySystemMapper} with no filter rules.
+     *
+     * @return the new storage
+     */
+    protected static Map<ComponentMask, EntitySystemMapper> newEntityStorage() {
+        Map<ComponentMask, EntitySystemMapper> storage = new HashMap<>();
+        storage.put(ComponentMask.EMPTY, new EntitySystemMapper());
+        return storage;
+    }
+
     /**
      * Add a {@link System} to the game.
      *
@@ -96,7 +205,8 @@ public class ECSManagment {
      *
      * <p>Additionally, the system will be informed about all new, changed, and removed entities.
      *
-     * <p>The game can only store one system of each system type.
+     * <p>The game can only store one system of each system type. A replaced system is informed
+     * with {@link System#onRemove()}.
      *
      * @param system the System to add
      * @return an optional that contains the previous existing system of the given system class, if
@@ -107,24 +217,33 @@ public class ECSManagment {
     public static Optional<System> add(System system) {
         System currentSystem = systems.get(system.getClass());
         systems.put(system.getClass(), system);
+        systemList = List.copyOf(systems.values());
+        if (currentSystem != null && currentSystem != system) currentSystem.onRemove();
         // add to existing filter or create new filter if no matching exists
-        Optional<EntitySystemMapper> filter =
-                activeEntityStorage.stream()
-                        .filter(f -> f.equals(system.filterRules()))
-                        .findFirst();
-        filter.ifPresentOrElse(
-                f -> f.add(system),
-                () -> createNewEntitySystemMapper(system.filterRules()).add(system));
+        mapper(system.filterMask(), system.filterRules()).add(system);
         LOGGER.info("A new " + system.getClass().getName() + " was added to the game");
         return Optional.ofNullable(currentSystem);
     }
 
-    protected static Map<ILevel, Set<EntitySystemMapper>> levelStorageMap() {
+    protected static Map<ILevel, Map<ComponentMask, EntitySystemMapper>> levelStorageMap() {
         return levelStorageMap;
     }
 
-    protected static void activeEntityStorage(Set<EntitySystemMapper> computeIfAbsent) {
+    protected static void activeEntityStorage(
+            Map<ComponentMask, EntitySystemMapper> computeIfAbsent) {
         activeEntityStorage = computeIfAbsent;
+        spatialIndex.rebuild(entityStream());
+    }
+
+    /**
+     * Get the {@link SpatialIndex} of the active entity storage.
+     *
+     * <p>Use the index for proximity queries instead of filtering {@link #entityStream()}.
+     *
+     * @return the spatial index of the entities in the current level
+     */
+    public static SpatialIndex spatialIndex() {
+        return spatialIndex;
     }
 
     /**
@@ -134,6 +253,19 @@ public class ECSManagment {
         return new LinkedHashMap<>(systems);
     }
 
+    /**
+     * Get all registered systems in the order they were added.
+     *
+     * <p>Unlike {@link #systems()}, this does not create a copy on each call. The returned list is
+     * immutable and replaced if a system is added or removed, so it is safe to iterate over it
+     * while systems change.
+     *
+     * @return immutable list of all registered {@link System}s
+     */
+    public static List<System> systemList() {
+        return systemList;
+    }
+
     /**
      * Remove all registered systems from the game.
      *
@@ -143,13 +275,23 @@ public class ECSManagment {
         new HashSet<>(systems.keySet()).forEach(ECSManagment::remove);
     }
 
+    /**
+     * Remove all registered systems from the game, to add them again afterward.
+     *
+     * <p>Like {@link #removeAllSystems()}, but {@link System#onRemove()} is not called, because the
+     * systems are not released. Used by {@link GameLoop#switchLevel()}.
+     */
+    static void detachAllSystems() {
+        new HashSet<>(systems.keySet()).forEach(klass -> remove(klass, false));
+    }
+
     /**
      * Use this stream if you want to iterate over all currently active entities.
      *
      * @return a stream of all entities currently in the game
      */
     public static Stream<Entity> entityStream() {
-        return entityStream(new HashSet<>());
+        return activeEntityStorage.get(ComponentMask.EMPTY).stream();
     }
 
     /**
@@ -160,7 +302,19 @@ public class ECSManagment {
      *     system.
      */
     public static Stream<Entity> entityStream(System system) {
-        return entityStream(system.filterRules());
+        return mapper(system.filterMask(), system.filterRules()).stream();
+    }
+
+    /**
+     * Get the number of entities that are processed by the given system.
+     *
+     * @param system the system to check
+     * @return the number of entities in the active storage that match the filter rules of the
+     *     system
+     */
+    public static int entityCount(System system) {
+        EntitySystemMapper mapper = activeEntityStorage.get(system.filterMask());
+        return mapper == null ? 0 : mapper.size();
     }
 
     /**
@@ -169,15 +323,7 @@ public class ECSManagment {
      * @return a stream of all entities currently in the game that contains the given components.
      */
     public static Stream<Entity> entityStream(Set<Class<? extends Component>> filter) {
-        Stream<Entity> returnStream;
-        Optional<EntitySystemMapper> rf =
-                activeEntityStorage.stream().filter(f -> f.equals(filter)).findFirst();
-
-        if (rf.isEmpty()) {
-            EntitySystemMapper newMapper = createNewEntitySystemMapper(filter);
-            returnStream = newMapper.stream();
-        } else returnStream = rf.get().stream();
-        return returnStream;
+        return mapper(ComponentMask.of(filter), filter).stream();
     }
 
     /**
@@ -202,13 +348,22 @@ public class ECSManagment {
     /**
      * Remove the stored system of the given class from the game. If the System is successfully
      * removed, the {@link System#triggerOnRemove(Entity)} method of the System will be called for
-     * each existing Entity that was associated with the removed System.
+     * each existing Entity that was associated with the removed System. Afterward, {@link
+     * System#onRemove()} is called.
      *
      * @param system the class of the system to remove
      */
     public static void remove(Class<? extends System> system) {
+        remove(system, true);
+    }
+
+    private static void remove(Class<? extends System> system, boolean release) {
         System systemInstance = systems.remove(system);
-        if (systemInstance != null) activeEntityStorage.forEach(f -> f.remove(systemInstance));
+        if (systemInstance != null) {
+            systemList = List.copyOf(systems.values());
+            activeEntityStorage.values().forEach(f -> f.remove(systemInstance));
+            if (release) systemInstance.onRemove();
+        }
     }
 
     /**
@@ -230,14 +385,14 @@ public class ECSManagment {
      */
     public static Stream<Entity> allEntities() {
         Set<Entity> allEntities = new HashSet<>();
+        // the mapper with the empty filter contains every entity of the level
         levelStorageMap
                 .values()
                 .forEach(
-                        entitySystemMappers ->
-                                entitySystemMappers.forEach(
-                                        entitySystemMapper ->
-                                                entitySystemMapper.stream()
-                                                        .forEach(allEntities::add)));
+                        storage ->
+                                storage.get(ComponentMask.EMPTY)
+                                        .stream()
+                                        .forEach(allEntities::add));
 
         return allEntities.stream();
     }
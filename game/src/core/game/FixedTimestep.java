@@ -0,0 +1,85 @@
+package core.game;
+
+/**
+ * Accumulator that converts the real time between rendered frames into a number of fixed logic
+ * ticks.
+ *
+ * <p>Each frame, the elapsed time is added to the accumulator with {@link #advance(float)}. For
+ * each full time step in the accumulator, one logic tick has to be executed. The remainder is used
+ * to interpolate the rendering between the last two ticks, see {@link #alpha()}.
+ *
+ * <p>To avoid a spiral of death if the logic can not keep up, at most {@link #maxTicksPerFrame()}
+ * ticks are executed per frame, the rest of the accumulated time is dropped.
+ */
+final class FixedTimestep {
+
+    /** Default maximum number of logic ticks per rendered frame. */
+    static final int DEFAULT_MAX_TICKS_PER_FRAME = 5;
+
+    private final float step;
+    private final int maxTicksPerFrame;
+    private float accumulator = 0f;
+
+    /**
+     * Create a new accumulator.
+     *
+     * @param step length of one logic tick in seconds
+     * @param maxTicksPerFrame maximum number of logic ticks per rendered frame
+     */
+    FixedTimestep(float step, int maxTicksPerFrame) {
+        if (step <= 0) throw new IllegalArgumentException("The time step must be positive.");
+        if (maxTicksPerFrame < 1)
+            throw new IllegalArgumentException("At least one tick per frame is required.");
+        this.step = step;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    /**
+     * Create a new accumulator with {@link #DEFAULT_MAX_TICKS_PER_FRAME}.
+     *
+     * @param step length of one logic tick in seconds
+     */
+    FixedTimestep(float step) {
+        this(step, DEFAULT_MAX_TICKS_PER_FRAME);
+    }
+
+    /**
+     * Add the time of the last frame and consume the full time steps.
+     *
+     * @param delta real time since the last frame in seconds
+     * @return the number of logic ticks to execute in this frame
+     */
+    int advance(float delta) {
+        accumulator += Math.max(0f, delta);
+        int ticks = (int) (accumulator / step);
+        if (ticks > maxTicksPerFrame) {
+            ticks = maxTicksPerFrame;
+            // drop the time the logic could not catch up with
+            accumulator = 0f;
+        } else accumulator -= ticks * step;
+        return ticks;
+    }
+
+    /**
+     * Get the progress between the last logic tick and the next one.
+     *
+     * @return the remaining time in the accumulator as fraction of a time step, between 0 and 1
+     */
+    float alpha() {
+        return Math.min(1f, accumulator / step);
+    }
+
+    /**
+     * @return the length of one logic tick in seconds
+     */
+    float step() {
+        return step;
+    }
+
+    /**
+     * @return the maximum number of logic ticks per rendered frame
+     */
+    int maxTicksPerFrame() {
+        return maxTicksPerFrame;
+    }
+}
@@ -16,12 +16,20 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.hud.UITools;
 import core.systems.*;
 import core.utils.Constants;
+import core.utils.IRenderable;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
+import core.utils.components.draw.AnimationManifest;
+import core.utils.components.draw.TextureMap;
+import core.utils.profiling.ProfilerOverlay;
+import core.utils.profiling.SystemProfiler;
 
-import java.util.HashSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -29,40 +37,29 @@ import java.util.logging.Logger;
 /** The heart of the framework. From here, all settings are pulled. */
 public class GameLoop extends ScreenAdapter {
     private static final Logger LOGGER = Logger.getLogger("GameLoop");
+    /** Asset directories with the animations of the entities, preloaded at the start. */
+    private static final List<String> PRELOADED_DIRECTORIES =
+            List.of("animation", "character", "items", "objects", "skills");
+    /** How long the texture preloading may block each frame, in milliseconds. */
+    private static final int PRELOAD_MILLIS_PER_FRAME = 4;
     private static Stage stage;
+    private static SystemProfiler profiler;
     private boolean doSetup = true;
-    private boolean newLevelWasLoadedInThisLoop = false;
+    // set by the level load callback, which may be triggered by a system on a scheduler thread
+    private volatile boolean newLevelWasLoadedInThisLoop = false;
+    /** Accumulator for the logic ticks, null if the systems are executed once per frame. */
+    private FixedTimestep timestep;
+    /** Scheduler for the concurrent execution, null if the systems are executed sequentially. */
+    private SystemScheduler scheduler;
     /**
-     * Sets {@link Game#currentLevel} to the new level and changes the currently active entity
-     * storage.
+     * Callback for the {@link LevelSystem}, see {@link #switchLevel()}.
      *
-     * <p>Will re-add the hero if they exist.
+     * <p>Will stop the current loop-run, because the systems were replaced.
      */
     private final IVoidFunction onLevelLoad =
             () -> {
                 newLevelWasLoadedInThisLoop = true;
-                boolean firstLoad =
-                        !ECSManagment.levelStorageMap().containsKey(Game.currentLevel());
-                ECSManagment.hero().ifPresent(ECSManagment::remove);
-                // Remove the systems so that each triggerOnRemove(entity) will be called (basically
-                // cleanup).
-                Map<Class<? extends System>, System> s = ECSManagment.systems();
-                ECSManagment.removeAllSystems();
-                ECSManagment.activeEntityStorage(
-                        ECSManagment.levelStorageMap()
-                                .computeIfAbsent(Game.currentLevel(), k -> new HashSet<>()));
-                // readd the systems so that each triggerOnAdd(entity) will be called (basically
-                // setup). This will also create new EntitySystemMapper if needed.
-                s.values().forEach(ECSManagment::add);
-
-                try {
-                    ECSManagment.hero().ifPresent(this::placeOnLevelStart);
-                } catch (MissingComponentException e) {
-                    LOGGER.warning(e.getMessage());
-                }
-                ECSManagment.hero().ifPresent(ECSManagment::add);
-                Game.currentLevel().onLoad();
-                PreRunConfiguration.userOnLevelLoad().accept(firstLoad);
+                switchLevel();
             };
 
     private boolean uiDebugFlag = false;
@@ -75,7 +72,11 @@ public class GameLoop extends ScreenAdapter {
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
         config.setWindowSizeLimits(
                 PreRunConfiguration.windowWidth(), PreRunConfiguration.windowHeight(), 9999, 9999);
-        config.setForegroundFPS(PreRunConfiguration.frameRate());
+        if (PreRunConfiguration.fixedTimestep()) {
+            // render at the refresh rate of the monitor, the logic rate is independent
+            config.setForegroundFPS(0);
+            config.useVsync(true);
+        } else config.setForegroundFPS(PreRunConfiguration.frameRate());
         config.setTitle(PreRunConfiguration.windowTitle());
         config.setWindowIcon(PreRunConfiguration.logoPath());
         config.disableAudio(PreRunConfiguration.disableAudio());
@@ -93,6 +94,12 @@ public class GameLoop extends ScreenAdapter {
                     public void create() {
                         setScreen(new GameLoop());
                     }
+
+                    @Override
+                    public void dispose() {
+                        super.dispose();
+                        profiler().ifPresent(GameLoop::writeProfilerCsv);
+                    }
                 },
                 config);
     }
@@ -101,6 +108,25 @@ public class GameLoop extends ScreenAdapter {
         return Optional.ofNullable(stage);
     }
 
+    /**
+     * Get the profiler that measures the systems each frame.
+     *
+     * @return the profiler, empty if {@link PreRunConfiguration#profiling()} is disabled or the
+     *     game is not set up yet
+     */
+    public static Optional<SystemProfiler> profiler() {
+        return Optional.ofNullable(profiler);
+    }
+
+    private static void writeProfilerCsv(SystemProfiler x) {
+        try {
+            x.writeCsv(Path.of(PreRunConfiguration.profilerCsvPath()));
+            LOGGER.info("Profiling data written to " + PreRunConfiguration.profilerCsvPath());
+        } catch (IOException e) {
+            LOGGER.warning("Could not write profiling data: " + e.getMessage());
+        }
+    }
+
     private static void updateStage(Stage x) {
         x.act(Gdx.graphics.getDeltaTime());
         x.draw();
@@ -117,30 +143,95 @@ public class GameLoop extends ScreenAdapter {
         Gdx.input.setInputProcessor(stage);
     }
 
+    private void setupFixedTimestep() {
+        timestep = new FixedTimestep(1f / PreRunConfiguration.frameRate());
+        GameTime.fixedDeltaTime(timestep.step());
+    }
+
+    private static void setupProfiler() {
+        profiler = new SystemProfiler();
+        stage.addActor(new ProfilerOverlay(profiler, UITools.DEFAULT_SKIN));
+    }
+
     /**
      * Main game loop.
      *
      * <p>Redraws the dungeon, updates the entity sets, and triggers the execution of the systems.
      * Will call {@link #onFrame}.
      *
+     * <p>If {@link PreRunConfiguration#fixedTimestep()} is enabled, the systems are executed in
+     * fixed logic ticks, as many as fit into the time since the last frame. Otherwise, the systems
+     * are executed once per frame. Afterward, each {@link IRenderable} system draws the current
+     * state, interpolated between the last two logic ticks.
+     *
+     * <p>If {@link PreRunConfiguration#parallelSystems()} is enabled, independent systems are
+     * executed concurrently by the {@link SystemScheduler}.
+     *
+     * <p>If {@link PreRunConfiguration#profiling()} is enabled, each system execution and the whole
+     * frame are measured by the {@link SystemProfiler}.
+     *
      * @param delta the time since the last loop
      */
     @Override
     public void render(float delta) {
         if (doSetup) onSetup();
+        if (profiler != null) profiler.beginFrame();
         DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
         onFrame();
         clearScreen();
 
-        for (System system : ECSManagment.systems().values()) {
+        InputLatch.sample(Gdx.input);
+        int ticks = timestep == null ? 1 : timestep.advance(delta);
+        for (int i = 0; i < ticks; i++) {
+            tick();
             // if a new level was loaded, stop this loop-run
             if (newLevelWasLoadedInThisLoop) break;
-            if (system.isRunning()) system.execute();
         }
         newLevelWasLoadedInThisLoop = false;
-        CameraSystem.camera().update();
+        TextureMap.instance().update(PRELOAD_MILLIS_PER_FRAME);
+        // draw the whole frame with a single batch
+        DrawSystem.painter().begin();
+        try {
+            renderSystems(timestep == null ? 1f : timestep.alpha());
+        } finally {
+            DrawSystem.painter().end();
+        }
+        CameraSystem.updateCamera();
         // stage logic
         stage().ifPresent(GameLoop::updateStage);
+        if (profiler != null) profiler.endFrame();
+    }
+
+    /** Execute one logic tick of all running systems. */
+    private void tick() {
+        // the dense positions are copied column by column, the other ones entity by entity
+        PositionComponent.storeDensePreviousPositions();
+        ECSManagment.entityStream()
+                .forEach(
+                        entity ->
+                                entity.fetch(PositionComponent.class)
+                                        .filter(pc -> !pc.denseStorage())
+                                        .ifPresent(PositionComponent::storePreviousPosition));
+        if (scheduler != null) scheduler.execute(ECSManagment.systemList(), this::execute);
+        else
+            for (System system : ECSManagment.systemList()) {
+                // if a new level was loaded, stop this loop-run
+                if (newLevelWasLoadedInThisLoop) break;
+                execute(system);
+            }
+        InputLatch.endTick();
+    }
+
+    private void execute(System system) {
+        // if a new level was loaded, skip the remaining systems
+        if (newLevelWasLoadedInThisLoop || !system.isRunning()) return;
+        if (profiler != null) profiler.execute(system, ECSManagment.entityCount(system));
+        else system.execute();
+    }
+
+    private void renderSystems(float alpha) {
+        for (System system : ECSManagment.systemList())
+            if (system instanceof IRenderable) ((IRenderable) system).render(alpha);
     }
 
     /**
@@ -151,11 +242,32 @@ public class GameLoop extends ScreenAdapter {
     private void onSetup() {
         doSetup = false;
         CameraSystem.camera().zoom = Constants.DEFAULT_ZOOM_FACTOR;
+        preloadTextures();
         createSystems();
+        if (PreRunConfiguration.fixedTimestep()) setupFixedTimestep();
+        if (PreRunConfiguration.parallelSystems()) scheduler = new SystemScheduler();
         setupStage();
+        if (PreRunConfiguration.profiling()) setupProfiler();
         PreRunConfiguration.userOnSetup().execute();
     }
 
+    /**
+     * Index the animations and start decoding their textures in the background.
+     *
+     * <p>The textures are packed into the texture atlas over the next frames, see {@link
+     * TextureMap#update(int)}.
+     */
+    private void preloadTextures() {
+        try {
+            AnimationManifest.instance().scan();
+        } catch (IOException e) {
+            LOGGER.warning("Could not scan the assets: " + e.getMessage());
+            return;
+        }
+        for (String directory : PRELOADED_DIRECTORIES)
+            TextureMap.instance().preload(AnimationManifest.instance().textures(directory));
+    }
+
     /**
      * Called at the beginning of each frame, before the entities are updated and the systems are
      * executed.
@@ -188,6 +300,40 @@ public class GameLoop extends ScreenAdapter {
         }
     }
 
+    /**
+     * Sets {@link Game#currentLevel} to the new level and changes the currently active entity
+     * storage.
+     *
+     * <p>Will re-add the hero if they exist.
+     *
+     * <p>This is used by the {@link GameLoop} and the {@link HeadlessRunner} if the {@link
+     * LevelSystem} loaded a new level.
+     */
+    static void switchLevel() {
+        boolean firstLoad = !ECSManagment.levelStorageMap().containsKey(Game.currentLevel());
+        ECSManagment.hero().ifPresent(ECSManagment::remove);
+        // Remove the systems so that each triggerOnRemove(entity) will be called (basically
+        // cleanup). They are added again, so they must not release their resources.
+        Map<Class<? extends System>, System> s = ECSManagment.systems();
+        ECSManagment.detachAllSystems();
+        ECSManagment.activeEntityStorage(
+                ECSManagment.levelStorageMap()
+                        .computeIfAbsent(
+                                Game.currentLevel(), k -> ECSManagment.newEntityStorage()));
+        // readd the systems so that each triggerOnAdd(entity) will be called (basically
+        // setup). This will also create new EntitySystemMapper if needed.
+        s.values().forEach(ECSManagment::add);
+
+        try {
+            ECSManagment.hero().ifPresent(GameLoop::placeOnLevelStart);
+        } catch (MissingComponentException e) {
+            LOGGER.warning(e.getMessage());
+        }
+        ECSManagment.hero().ifPresent(ECSManagment::add);
+        Game.currentLevel().onLoad();
+        PreRunConfiguration.userOnLevelLoad().accept(firstLoad);
+    }
+
     /**
      * Set the position of the given entity to the position of the level-start.
      *
@@ -195,7 +341,7 @@ public class GameLoop extends ScreenAdapter {
      *
      * @param entity entity to set on the start of the level, normally this is the hero.
      */
-    private void placeOnLevelStart(Entity entity) {
+    private static void placeOnLevelStart(Entity entity) {
         ECSManagment.add(entity);
         PositionComponent pc =
                 entity.fetch(PositionComponent.class)
@@ -204,6 +350,8 @@ public class GameLoop extends ScreenAdapter {
                                         MissingComponentException.build(
                                                 entity, PositionComponent.class));
         pc.position(Game.startTile());
+        // do not interpolate across the level
+        pc.storePreviousPosition();
     }
 
     /**
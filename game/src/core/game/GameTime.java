@@ -0,0 +1,51 @@
+package core.game;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Provides the time step that the systems use to advance the game.
+ *
+ * <p>By default, the time step is the time since the last frame as reported by LibGDX. If a fixed
+ * time step is set with {@link #fixedDeltaTime(float)}, each frame advances the game by exactly
+ * this amount, independent of the real time. This is used by the {@link HeadlessRunner} to run
+ * deterministic simulations, and by the {@link GameLoop} if {@link
+ * PreRunConfiguration#fixedTimestep()} is enabled.
+ */
+public final class GameTime {
+
+    private static float fixedDeltaTime = 0f;
+
+    private GameTime() {}
+
+    /**
+     * Get the time step of the current frame in seconds.
+     *
+     * <p>If no fixed time step is set and LibGDX is not running (e.g. in unit tests), 1 is
+     * returned, so values are applied unscaled.
+     *
+     * @return the time step of the current frame
+     */
+    public static float deltaTime() {
+        if (fixedDeltaTime > 0) return fixedDeltaTime;
+        if (Gdx.graphics != null) return Gdx.graphics.getDeltaTime();
+        return 1f;
+    }
+
+    /**
+     * Get the fixed time step.
+     *
+     * @return the fixed time step in seconds, or 0 if the time since the last frame is used
+     */
+    public static float fixedDeltaTime() {
+        return fixedDeltaTime;
+    }
+
+    /**
+     * Set a fixed time step.
+     *
+     * @param fixedDeltaTime the time step in seconds, or 0 to use the time since the last frame
+     */
+    public static void fixedDeltaTime(float fixedDeltaTime) {
+        GameTime.fixedDeltaTime = Math.max(0f, fixedDeltaTime);
+    }
+}
@@ -0,0 +1,182 @@
+package core.game;
+
+import core.System;
+import core.systems.CameraSystem;
+import core.systems.DrawSystem;
+import core.systems.HealthbarSystem;
+import core.systems.HeroUISystem;
+import core.systems.HudSystem;
+import core.systems.IdleSoundSystem;
+import core.systems.LevelSystem;
+import core.systems.PlayerSystem;
+import core.systems.PositionSystem;
+import core.systems.VelocitySystem;
+import core.utils.GameRandom;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Runs the game logic without a window, graphics context or audio.
+ *
+ * <p>The runner executes the systems registered in the {@link ECSManagment} in the same order as
+ * the {@link GameLoop}, but skips all systems that draw, play sounds or read the user input (see
+ * {@link #RENDER_SYSTEMS}). The {@link LevelSystem} is created without a painter, so the level is
+ * not drawn.
+ *
+ * <p>Each call of {@link #tick()} advances the game by a fixed time step (see {@link
+ * GameTime#fixedDeltaTime(float)}), independent of the real time. Together with the seed for the
+ * {@link GameRandom}, a simulation can be repeated with the same result and run as fast as the CPU
+ * allows, e.g. for soak tests, AI tuning or benchmarks on machines without a GPU.
+ *
+ * <p>The seed and the time step are global. {@link #close()} puts back the previous random
+ * generator and time step, so a runner does not change the game or the tests that run after it.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * try (HeadlessRunner runner = new HeadlessRunner(42)) {
+ *     runner.setup();
+ *     Game.add(new AISystem());
+ *     Game.add(EntityFactory.randomMonster());
+ *     runner.run(10_000);
+ * }
+ * }</pre>
+ */
+public final class HeadlessRunner implements AutoCloseable {
+
+    /** Systems that need graphics, audio or input and are skipped by default. */
+    public static final Set<Class<? extends System>> RENDER_SYSTEMS =
+            Set.of(
+                    CameraSystem.class,
+                    DrawSystem.class,
+                    HealthbarSystem.class,
+                    HeroUISystem.class,
+                    HudSystem.class,
+                    IdleSoundSystem.class,
+                    PlayerSystem.class);
+
+    private static final Logger LOGGER = Logger.getLogger("HeadlessRunner");
+
+    private final Set<Class<? extends System>> skipped = new HashSet<>(RENDER_SYSTEMS);
+    private final float timestep;
+    private final Random previousRandom;
+    private final float previousTimestep;
+    private long ticks = 0;
+    private boolean newLevelWasLoadedInThisTick = false;
+
+    /**
+     * Create a new runner.
+     *
+     * <p>Seeds the {@link GameRandom} and sets the fixed time step of the {@link GameTime}, until
+     * the runner is closed.
+     *
+     * @param seed the seed for the {@link GameRandom}
+     * @param timestep the time step of each tick in seconds
+     */
+    public HeadlessRunner(long seed, float timestep) {
+        if (timestep <= 0) throw new IllegalArgumentException("Timestep must be positive.");
+        this.timestep = timestep;
+        previousRandom = GameRandom.sequence(new Random(seed));
+        previousTimestep = GameTime.fixedDeltaTime();
+        GameTime.fixedDeltaTime(timestep);
+    }
+
+    /**
+     * Create a new runner with one tick per frame of {@link PreRunConfiguration#frameRate()}.
+     *
+     * @param seed the seed for the {@link GameRandom}
+     */
+    public HeadlessRunner(long seed) {
+        this(seed, 1f / PreRunConfiguration.frameRate());
+    }
+
+    /**
+     * Add the core systems that work without graphics.
+     *
+     * <p>The first level will be loaded by the {@link LevelSystem} in the first {@link #tick()},
+     * unless a level was already set.
+     */
+    public void setup() {
+        ECSManagment.add(new PositionSystem());
+        ECSManagment.add(new LevelSystem(null, this::onLevelLoad));
+        ECSManagment.add(new VelocitySystem());
+        LOGGER.info("Headless runner with a timestep of " + timestep + "s is set up.");
+    }
+
+    /**
+     * Skip the given system in each tick.
+     *
+     * @param system the class of the system to skip
+     */
+    public void skip(Class<? extends System> system) {
+        skipped.add(system);
+    }
+
+    /**
+     * Execute the given system in each tick, even if it is in {@link #RENDER_SYSTEMS}.
+     *
+     * @param system the class of the system to execute
+     */
+    public void execute(Class<? extends System> system) {
+        skipped.remove(system);
+    }
+
+    /**
+     * Advance the game by one time step.
+     *
+     * <p>Executes each running system that is not skipped. If a new level is loaded, the
+     * remaining systems are not executed in this tick, like in the {@link GameLoop}.
+     */
+    public void tick() {
+        for (System system : ECSManagment.systemList()) {
+            // if a new level was loaded, stop this tick
+            if (newLevelWasLoadedInThisTick) break;
+            if (system.isRunning() && !skipped.contains(system.getClass())) system.execute();
+        }
+        newLevelWasLoadedInThisTick = false;
+        ticks++;
+    }
+
+    /**
+     * Advance the game by the given number of time steps.
+     *
+     * @param ticks the number of ticks to run
+     */
+    public void run(long ticks) {
+        for (long i = 0; i < ticks; i++) tick();
+    }
+
+    /**
+     * @return the number of ticks executed so far.
+     */
+    public long ticks() {
+        return ticks;
+    }
+
+    /**
+     * @return the simulated time in seconds.
+     */
+    public double simulatedTime() {
+        return ticks * (double) timestep;
+    }
+
+    /**
+     * Put back the random generator and the time step that were used before this runner was
+     * created.
+     *
+     * <p>Runners have to be closed in the reverse order of their creation.
+     */
+    @Override
+    public void close() {
+        GameRandom.sequence(previousRandom);
+        GameTime.fixedDeltaTime(previousTimestep);
+    }
+
+    private void onLevelLoad() {
+        newLevelWasLoadedInThisTick = true;
+        GameLoop.switchLevel();
+    }
+}
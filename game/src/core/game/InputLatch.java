@@ -0,0 +1,70 @@
+package core.game;
+
+import com.badlogic.gdx.Input;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps the "just pressed" state of the keys and buttons between the rendered frames and the logic
+ * ticks.
+ *
+ * <p>LibGDX reports a key as just pressed for exactly one rendered frame. With a fixed time step
+ * (see {@link PreRunConfiguration#fixedTimestep()}), a frame can run no logic tick at all or
+ * several of them. Reading {@link Input#isKeyJustPressed(int)} inside the ticks would then drop the
+ * press or report it more than once.
+ *
+ * <p>Instead, the {@link GameLoop} samples the watched keys once per rendered frame with {@link
+ * #sample(Input)}. A sampled press is latched until the end of the next logic tick (see {@link
+ * #endTick()}), so it is seen by exactly one tick.
+ */
+public final class InputLatch {
+
+    private static final Set<Integer> watched = new HashSet<>();
+    private static final Set<Integer> pressed = new HashSet<>();
+
+    private InputLatch() {}
+
+    /**
+     * Watch the given key or button.
+     *
+     * <p>Only the watched keys are sampled in {@link #sample(Input)}.
+     *
+     * @param key the key or button code
+     */
+    public static void watch(int key) {
+        watched.add(key);
+    }
+
+    /**
+     * Sample the watched keys and buttons of the current frame.
+     *
+     * <p>Has to be called once per rendered frame, before the logic ticks are executed.
+     *
+     * @param input the input to sample, may be null if LibGDX is not running
+     */
+    public static void sample(final Input input) {
+        if (input == null) return;
+        for (int key : watched)
+            if (input.isKeyJustPressed(key) || input.isButtonJustPressed(key)) pressed.add(key);
+    }
+
+    /**
+     * Check whether the given key or button was pressed since the last logic tick.
+     *
+     * @param key the key or button code
+     * @return true if the key was pressed in a sampled frame and no logic tick ended since then
+     */
+    public static boolean justPressed(int key) {
+        return pressed.contains(key);
+    }
+
+    /**
+     * Release all latched presses.
+     *
+     * <p>Has to be called at the end of each logic tick.
+     */
+    public static void endTick() {
+        pressed.clear();
+    }
+}
@@ -33,6 +33,20 @@ public class PreRunConfiguration {
     // Audio Settings
     private static boolean DISABLE_AUDIO = false;
 
+    // Component Storage
+    private static boolean DENSE_COMPONENT_STORAGE = false;
+
+    // Profiling
+    private static boolean PROFILING = false;
+    private static String PROFILER_CSV_PATH = "profiler.csv";
+
+    // Level Generation
+    private static String LAYOUT_CACHE_PATH = null;
+
+    // Game Loop
+    private static boolean FIXED_TIMESTEP = false;
+    private static boolean PARALLEL_SYSTEMS = false;
+
     // User-Defined Functions
     private static IVoidFunction userOnFrame = () -> {};
     private static IVoidFunction userOnSetup = () -> {};
@@ -164,6 +178,142 @@ public class PreRunConfiguration {
         DISABLE_AUDIO = disableAudio;
     }
 
+    /**
+     * Checks if the hot components are stored in dense primitive arrays.
+     *
+     * @return True if dense component storage is enabled, false otherwise.
+     * @see core.utils.components.DenseStorage
+     */
+    public static boolean denseComponentStorage() {
+        return DENSE_COMPONENT_STORAGE;
+    }
+
+    /**
+     * Sets whether the hot components should be stored in dense primitive arrays.
+     *
+     * <p>Only components created after this call are affected, so set it before creating any
+     * entity.
+     *
+     * @param denseComponentStorage True to enable dense component storage, false otherwise.
+     * @see core.utils.components.DenseStorage
+     */
+    public static void denseComponentStorage(boolean denseComponentStorage) {
+        DENSE_COMPONENT_STORAGE = denseComponentStorage;
+    }
+
+    /**
+     * Checks if the execution of the systems is measured each frame.
+     *
+     * @return True if profiling is enabled, false otherwise.
+     * @see core.utils.profiling.SystemProfiler
+     */
+    public static boolean profiling() {
+        return PROFILING;
+    }
+
+    /**
+     * Sets whether the execution of the systems should be measured each frame.
+     *
+     * <p>If enabled, the measurements are shown in an overlay and written to {@link
+     * #profilerCsvPath()} when the game is closed.
+     *
+     * @param profiling True to enable profiling, false otherwise.
+     * @see core.utils.profiling.SystemProfiler
+     */
+    public static void profiling(boolean profiling) {
+        PROFILING = profiling;
+    }
+
+    /**
+     * Gets the path of the CSV file the profiling data is written to.
+     *
+     * @return The path of the CSV file.
+     */
+    public static String profilerCsvPath() {
+        return PROFILER_CSV_PATH;
+    }
+
+    /**
+     * Sets the path of the CSV file the profiling data is written to.
+     *
+     * @param profilerCsvPath The path of the CSV file.
+     */
+    public static void profilerCsvPath(String profilerCsvPath) {
+        PROFILER_CSV_PATH = profilerCsvPath;
+    }
+
+    /**
+     * Gets the directory the generated room layouts are cached in.
+     *
+     * @return The path of the directory, or null if the layouts are not cached.
+     * @see core.level.generator.graphBased.LayoutCache
+     */
+    public static String layoutCachePath() {
+        return LAYOUT_CACHE_PATH;
+    }
+
+    /**
+     * Sets the directory the generated room layouts should be cached in.
+     *
+     * <p>If set, each room layout is stored in the directory and read from there when the same room
+     * is generated again, e.g. in repeated benchmark runs with the same seed.
+     *
+     * @param layoutCachePath The path of the directory, or null to disable the cache.
+     * @see core.level.generator.graphBased.LayoutCache
+     */
+    public static void layoutCachePath(String layoutCachePath) {
+        LAYOUT_CACHE_PATH = layoutCachePath;
+    }
+
+    /**
+     * Checks if the game logic runs with a fixed time step.
+     *
+     * @return True if the fixed time step is enabled, false otherwise.
+     */
+    public static boolean fixedTimestep() {
+        return FIXED_TIMESTEP;
+    }
+
+    /**
+     * Sets whether the game logic should run with a fixed time step.
+     *
+     * <p>If enabled, the systems are executed {@link #frameRate()} times per second, independent of
+     * the number of rendered frames. Rendering is synchronized to the monitor refresh rate and
+     * interpolates the positions between the last two logic ticks. Timers that count frames (e.g.
+     * {@link core.components.DrawComponent#blinkForFrames()}) then count logic ticks, so the
+     * gameplay speed no longer depends on the render performance.
+     *
+     * <p>If disabled, the systems are executed once per rendered frame, and the frame rate is
+     * capped at {@link #frameRate()}.
+     *
+     * @param fixedTimestep True to enable the fixed time step, false otherwise.
+     */
+    public static void fixedTimestep(boolean fixedTimestep) {
+        FIXED_TIMESTEP = fixedTimestep;
+    }
+
+    /**
+     * Checks if independent systems are executed concurrently.
+     *
+     * @return True if the systems are executed by the {@link SystemScheduler}, false otherwise.
+     */
+    public static boolean parallelSystems() {
+        return PARALLEL_SYSTEMS;
+    }
+
+    /**
+     * Sets whether independent systems should be executed concurrently.
+     *
+     * <p>If enabled, the {@link SystemScheduler} executes systems that declared non-conflicting
+     * component access (see {@link core.System#declareAccess}) at the same time. Systems without a
+     * declaration are still executed one after another on the render thread.
+     *
+     * @param parallelSystems True to execute independent systems concurrently, false otherwise.
+     */
+    public static void parallelSystems(boolean parallelSystems) {
+        PARALLEL_SYSTEMS = parallelSystems;
+    }
+
     /**
      * Gets the user-defined function for frame logic.
      *
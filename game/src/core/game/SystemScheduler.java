@@ -0,0 +1,151 @@
+package core.game;
+
+import core.Component;
+import core.System;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Executes the systems of one logic tick, running non-conflicting systems concurrently.
+ *
+ * <p>Two systems conflict if one of them writes a component the other one reads or writes (see
+ * {@link System#declareAccess(Set, Set)}), or if one of them did not declare its access at all. The
+ * scheduler builds a dependency graph over the ordered system list: a system depends on each
+ * earlier system it conflicts with. The systems are then grouped into stages, each system is placed
+ * in the first stage after all of its dependencies. So conflicting systems keep their relative
+ * order, while the systems of one stage are independent of each other.
+ *
+ * <p>The systems of a stage are executed on a {@link ForkJoinPool}, except for the systems that
+ * have to run on the render thread (see {@link System#renderThread()}), which are executed by the
+ * calling thread in the meantime. While a stage with more than one system is executed, changes to
+ * the entity storage are deferred, see {@link ECSManagment#deferChanges(boolean)}. Stages with a
+ * single system are executed directly on the calling thread.
+ *
+ * <p>The stages are cached and only rebuilt if the list of systems changes.
+ *
+ * <p>Of the core systems, only the {@link core.systems.VelocitySystem}, {@link
+ * core.systems.PositionSystem}, {@link core.systems.ProjectileSystem}, {@link
+ * core.systems.SpikeSystem} and {@link core.systems.IdleSoundSystem} declare their access. The
+ * other ones, including the {@link core.systems.AISystem} and the {@link core.systems.XPSystem},
+ * call skills and callbacks that may touch any component, so they are executed alone. With the
+ * default order of the systems, this leaves the spike and the idle sound system as the only stage
+ * that is executed concurrently, so the core game gains little. The scheduler pays off for systems
+ * that declare their access and do more work, see the {@code SystemSchedulerBenchmark}.
+ *
+ * <p>The scheduler is used by the {@link GameLoop} if {@link
+ * PreRunConfiguration#parallelSystems()} is enabled.
+ */
+public final class SystemScheduler {
+
+    private final ForkJoinPool pool;
+    private List<System> systems;
+    private List<List<System>> stages = List.of();
+
+    /**
+     * Create a new scheduler.
+     *
+     * @param pool the pool to execute the concurrent systems on
+     */
+    public SystemScheduler(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /** Create a new scheduler that uses the {@link ForkJoinPool#commonPool()}. */
+    public SystemScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Execute the given systems.
+     *
+     * <p>The executor is called once for each system, it is responsible for skipping paused
+     * systems and can be used to measure the execution.
+     *
+     * @param systems the systems in their sequential order
+     * @param executor executes a single system
+     */
+    public void execute(final List<System> systems, final Consumer<System> executor) {
+        for (List<System> stage : stages(systems)) {
+            if (stage.size() == 1) executor.accept(stage.get(0));
+            else executeConcurrently(stage, executor);
+        }
+    }
+
+    /**
+     * Get the stages for the given systems.
+     *
+     * @param systems the systems in their sequential order
+     * @return the systems grouped into stages, in execution order
+     */
+    public List<List<System>> stages(final List<System> systems) {
+        if (systems != this.systems) {
+            stages = buildStages(systems);
+            this.systems = systems;
+        }
+        return stages;
+    }
+
+    private void executeConcurrently(final List<System> stage, final Consumer<System> executor) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(stage.size());
+        ECSManagment.deferChanges(true);
+        try {
+            for (System system : stage)
+                if (!system.renderThread())
+                    tasks.add(pool.submit(() -> executor.accept(system)));
+            for (System system : stage) if (system.renderThread()) executor.accept(system);
+        } finally {
+            // wait for all tasks, even if one of them failed
+            RuntimeException failure = null;
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    if (failure == null) failure = e;
+                }
+            }
+            ECSManagment.deferChanges(false);
+            if (failure != null) throw failure;
+        }
+    }
+
+    private static List<List<System>> buildStages(final List<System> systems) {
+        int[] stageOf = new int[systems.size()];
+        List<List<System>> stages = new ArrayList<>();
+        for (int i = 0; i < systems.size(); i++) {
+            int stage = 0;
+            for (int j = 0; j < i; j++)
+                if (conflicts(systems.get(j), systems.get(i)))
+                    stage = Math.max(stage, stageOf[j] + 1);
+            stageOf[i] = stage;
+            if (stage == stages.size()) stages.add(new ArrayList<>());
+            stages.get(stage).add(systems.get(i));
+        }
+        List<List<System>> result = new ArrayList<>(stages.size());
+        for (List<System> stage : stages) result.add(List.copyOf(stage));
+        return List.copyOf(result);
+    }
+
+    /**
+     * Check if the given systems must not be executed concurrently.
+     *
+     * @param a the first system
+     * @param b the second system
+     * @return true if one of the systems did not declare its access, or if one system writes a
+     *     component the other one reads or writes
+     */
+    public static boolean conflicts(final System a, final System b) {
+        if (!a.accessDeclared() || !b.accessDeclared()) return true;
+        return writesAny(a, b) || writesAny(b, a);
+    }
+
+    private static boolean writesAny(final System writer, final System other) {
+        for (Class<? extends Component> klass : writer.writes())
+            if (other.reads().contains(klass) || other.writes().contains(klass)) return true;
+        return false;
+    }
+}
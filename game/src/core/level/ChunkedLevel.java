@@ -0,0 +1,818 @@
+package core.level;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.utils.Array;
+
+import core.level.elements.ILevel;
+import core.level.elements.astar.FlowField;
+import core.level.elements.astar.GridGraph;
+import core.level.elements.astar.PathCache;
+import core.level.elements.astar.TileHeuristic;
+import core.level.elements.tile.*;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.TileTextureFactory;
+import core.utils.IVoidFunction;
+import core.utils.Point;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A level for very large maps, e.g. open caves, that only keeps the tiles near the player in
+ * memory.
+ *
+ * <p>The map is split into chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} cells. For each
+ * cell, a chunk only stores the type (one byte) and the id of the texture (two bytes, see {@link
+ * TileTextureFactory#findTextureId}). The {@link Tile} objects are only created for the loaded
+ * chunks: {@link #focus(Point)} loads the chunks within {@link #LOAD_RADIUS} chunks around the
+ * player and unloads the chunks that are more than {@link #UNLOAD_RADIUS} chunks away. The chunks
+ * with the start and the end tile are never unloaded.
+ *
+ * <p>{@link #tileAt(Coordinate)} loads the chunk of the requested tile if needed. At most {@link
+ * #MAX_LOADED_CHUNKS} chunks are loaded at the same time. If another chunk is needed, the least
+ * recently used chunk that is not near the player is unloaded. So the number of tiles in memory
+ * does not depend on the size of the map, no matter who asks for tiles.
+ *
+ * <p>The other methods only work on the loaded chunks:
+ *
+ * <ul>
+ *   <li>{@link #loadedTile(int, int)} and the {@link #layout()} return null for the cells of
+ *       unloaded chunks,
+ *   <li>the lists of the tiles, e.g. {@link #floorTiles()}, only contain the loaded tiles,
+ *   <li>paths from {@link #findPath(Tile, Tile)} and the {@link #flowField()} only lead over loaded
+ *       tiles; use the {@link #navigationGrid()} for paths over the whole map.
+ * </ul>
+ *
+ * <p>A tile from {@link #tileAt(Coordinate)} is only valid while its chunk is loaded. Once the
+ * chunk is unloaded, the tile is disconnected and its index is reused by another chunk. {@link
+ * #findPath(Tile, Tile)} therefore searches with the current tiles at the positions of the given
+ * tiles, and keeps their chunks loaded while it does.
+ *
+ * <p>Each loaded chunk gets one of the {@link #MAX_LOADED_CHUNKS} slots, and the index of a tile is
+ * the index of its cell within the slot. So the {@link #getNodeCount()} and the arrays of the path
+ * searches do not depend on the size of the map either. The indices change if a chunk is loaded
+ * again, so the cached paths are cleared when a chunk is unloaded.
+ *
+ * <p>A changed type of a tile is stored in its chunk. Other state of the tiles, e.g. the color of
+ * a door, is lost when the chunk is unloaded.
+ */
+public class ChunkedLevel implements ILevel {
+
+    /** Width and height of a chunk in cells. */
+    public static final int CHUNK_SIZE = 16;
+
+    /** Chunks within this distance (in chunks) to the player are loaded. */
+    public static final int LOAD_RADIUS = 2;
+
+    /**
+     * Chunks farther away from the player (in chunks) are unloaded. It is larger than the {@link
+     * #LOAD_RADIUS}, so walking back and forth over the border of a chunk does not load and unload
+     * the same chunks again and again.
+     */
+    public static final int UNLOAD_RADIUS = 3;
+
+    /**
+     * Maximum number of chunks in memory. It is enough for all chunks within the {@link
+     * #UNLOAD_RADIUS} around the player, the chunks with the start and the end tile, and some
+     * chunks loaded by {@link #tileAt(Coordinate)}.
+     */
+    public static final int MAX_LOADED_CHUNKS = 64;
+
+    private static final int CELLS = CHUNK_SIZE * CHUNK_SIZE;
+
+    private static final LevelElement[] ELEMENTS = LevelElement.values();
+    private static final Coordinate[] CONNECTION_OFFSETS = {
+        new Coordinate(0, 1), new Coordinate(0, -1), new Coordinate(1, 0), new Coordinate(-1, 0),
+    };
+    private static final Coordinate CENTER = new Coordinate(1, 1);
+
+    private final TileHeuristic tileHeuristic = new TileHeuristic();
+    private final PathCache pathCache = new PathCache(this);
+    private final FlowField flowField = new FlowField(this);
+    private final int width;
+    private final int height;
+    private final int chunksX;
+    private final int chunksY;
+    private final DesignLabel designLabel;
+    private final Chunk[] chunks;
+    // the loaded chunks, from the least to the most recently used
+    private final LinkedHashMap<Integer, Chunk> loaded =
+            new LinkedHashMap<>(MAX_LOADED_CHUNKS, 0.75f, true);
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>(MAX_LOADED_CHUNKS);
+    // number of cells of each type in the whole map
+    private final int[] counts = new int[ELEMENTS.length];
+    private final GridGraph navigationGrid;
+    // used to find the texture of a cell
+    private final LevelElement[][] neighbourhood = new LevelElement[3][3];
+    private final ArrayList<FloorTile> floorTiles = new ArrayList<>();
+    private final ArrayList<WallTile> wallTiles = new ArrayList<>();
+    private final ArrayList<HoleTile> holeTiles = new ArrayList<>();
+    private final ArrayList<DoorTile> doorTiles = new ArrayList<>();
+    private final ArrayList<ExitTile> exitTiles = new ArrayList<>();
+    private final ArrayList<SkipTile> skipTiles = new ArrayList<>();
+    private IVoidFunction onFirstLoad = () -> {};
+    private Consumer<Tile> onTileChanged = tile -> {};
+    private boolean wasLoaded = false;
+    private Tile startTile;
+    private Coordinate exit;
+    private int focusChunk = -1;
+    // chunks of the start and the end of the current path search, they are not unloaded
+    private int searchStartChunk = -1;
+    private int searchEndChunk = -1;
+    // only created if requested, see layout()
+    private Tile[][] layout;
+
+    /**
+     * Create a new level.
+     *
+     * <p>The layout is only read in the constructor, the level does not keep a reference to it.
+     *
+     * @param layout The layout of the level
+     * @param designLabel The design the level should have
+     */
+    public ChunkedLevel(LevelElement[][] layout, DesignLabel designLabel) {
+        this.designLabel = designLabel;
+        height = layout.length;
+        width = layout[0].length;
+        chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunks = new Chunk[chunksX * chunksY];
+        for (int i = 0; i < chunks.length; i++) chunks[i] = new Chunk(i);
+        for (int i = 0; i < MAX_LOADED_CHUNKS; i++) freeSlots.add(i);
+        navigationGrid = new GridGraph(width, height, false);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Chunk chunk = chunk(x, y);
+                chunk.elements[cell(x, y)] = (byte) layout[y][x].ordinal();
+                chunk.counts[layout[y][x].ordinal()]++;
+                counts[layout[y][x].ordinal()]++;
+                navigationGrid.walkable(x, y, layout[y][x].value());
+                if (exit == null && layout[y][x] == LevelElement.EXIT)
+                    exit = new Coordinate(x, y);
+            }
+        }
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++) chunk(x, y).textures[cell(x, y)] = textureId(x, y);
+
+        randomStart();
+        if (exit == null) randomEnd();
+        if (startTile != null) focus(startTile.position());
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * @return the number of chunks whose tiles are in memory
+     */
+    public int loadedChunks() {
+        return loaded.size();
+    }
+
+    /**
+     * Get the tile at the given position, if its chunk is loaded.
+     *
+     * <p>Unlike {@link #tileAt(Coordinate)}, this never loads a chunk.
+     *
+     * @param x column of the tile
+     * @param y row of the tile
+     * @return the tile, null if its chunk is not loaded or the position is out of bound
+     */
+    public Tile loadedTile(int x, int y) {
+        if (!contains(x, y)) return null;
+        Tile[] tiles = chunk(x, y).tiles;
+        return tiles == null ? null : tiles[cell(x, y)];
+    }
+
+    /**
+     * Get the compact navigation graph of the level.
+     *
+     * <p>Unlike the tiles, the graph covers the whole map. Use it to search paths to unloaded parts
+     * of the map.
+     *
+     * @return the navigation graph of the level
+     */
+    public GridGraph navigationGrid() {
+        return navigationGrid;
+    }
+
+    @Override
+    public void focus(Point position) {
+        Coordinate coordinate = position.toCoordinate();
+        int centerX = Math.max(0, Math.min(chunksX - 1, Math.floorDiv(coordinate.x, CHUNK_SIZE)));
+        int centerY = Math.max(0, Math.min(chunksY - 1, Math.floorDiv(coordinate.y, CHUNK_SIZE)));
+        int center = centerY * chunksX + centerX;
+        if (center == focusChunk) return;
+        focusChunk = center;
+
+        boolean unloaded = false;
+        Iterator<Chunk> iterator = loaded.values().iterator();
+        while (iterator.hasNext()) {
+            Chunk chunk = iterator.next();
+            if (isPinned(chunk.index) || distanceToFocus(chunk.index) <= UNLOAD_RADIUS) continue;
+            iterator.remove();
+            unload(chunk);
+            unloaded = true;
+        }
+        if (unloaded) removeUnloadedTiles();
+        int fromX = Math.max(0, centerX - LOAD_RADIUS);
+        int toX = Math.min(chunksX - 1, centerX + LOAD_RADIUS);
+        int fromY = Math.max(0, centerY - LOAD_RADIUS);
+        int toY = Math.min(chunksY - 1, centerY + LOAD_RADIUS);
+        for (int y = fromY; y <= toY; y++) for (int x = fromX; x <= toX; x++) load(y * chunksX + x);
+    }
+
+    /**
+     * Get the tile at the given position.
+     *
+     * <p>Loads the chunk of the tile, if it is not loaded. This may unload the least recently used
+     * chunk, see {@link #MAX_LOADED_CHUNKS}. So a tile returned earlier may belong to an unloaded
+     * chunk afterwards; get the tile again instead of keeping it.
+     *
+     * @param coordinate Position form where to get the tile.
+     * @return The tile on that coordinate. null if the Coordinate is out of bound
+     */
+    @Override
+    public Tile tileAt(Coordinate coordinate) {
+        if (!contains(coordinate.x, coordinate.y)) return null;
+        return load(chunkIndex(coordinate.x, coordinate.y)).tiles[cell(coordinate.x, coordinate.y)];
+    }
+
+    @Override
+    public Tile randomTile() {
+        return tileAt(new Coordinate(RANDOM.nextInt(width), RANDOM.nextInt(height)));
+    }
+
+    /**
+     * Get a random Tile of the whole map.
+     *
+     * <p>Loads the chunk of the tile, if it is not loaded.
+     *
+     * @param elementType Type of the Tile
+     * @return A random Tile of the given Type, null if there is none
+     */
+    @Override
+    public Tile randomTile(LevelElement elementType) {
+        int type = elementType.ordinal();
+        if (counts[type] == 0) return null;
+        int remaining = RANDOM.nextInt(counts[type]);
+        // skip the whole chunks before the chosen cell
+        int index = 0;
+        while (remaining >= chunks[index].counts[type]) remaining -= chunks[index++].counts[type];
+        int startX = (index % chunksX) * CHUNK_SIZE;
+        int startY = (index / chunksX) * CHUNK_SIZE;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int x = startX + cell % CHUNK_SIZE;
+            int y = startY + cell / CHUNK_SIZE;
+            if (contains(x, y) && chunks[index].elements[cell] == type && remaining-- == 0)
+                return tileAt(new Coordinate(x, y));
+        }
+        return null;
+    }
+
+    @Override
+    public void randomEnd() {
+        if (counts[LevelElement.FLOOR.ordinal()] <= 1) {
+            // not enough Tiles for startTile and ExitTile
+            return;
+        }
+        Tile end = randomTile(LevelElement.FLOOR);
+        while (end == startTile) end = randomTile(LevelElement.FLOOR);
+        changeTileElementType(end, LevelElement.EXIT);
+    }
+
+    @Override
+    public void changeTileElementType(Tile tile, LevelElement changeInto) {
+        if (tile.level() != this) return;
+        Coordinate c = tile.coordinate();
+        // the chunk of the tile may have been unloaded in the meantime, so use the current tile
+        removeTile(tileAt(c));
+        store(c.x, c.y, changeInto);
+        Tile newTile = createTile(c.x, c.y);
+        place(c.x, c.y, newTile);
+        addTile(newTile);
+        tileChanged(newTile);
+        for (int y = c.y - 1; y <= c.y + 1; y++) {
+            for (int x = c.x - 1; x <= c.x + 1; x++) {
+                Tile neighbour = loadedTile(x, y);
+                // doors keep their texture, because it also contains their color
+                if (neighbour == null
+                        || neighbour == newTile
+                        || neighbour.levelElement() == LevelElement.DOOR) continue;
+                String texturePath = texturePath(x, y);
+                if (!texturePath.equals(neighbour.texturePath()))
+                    neighbour.texturePath(texturePath);
+            }
+        }
+    }
+
+    @Override
+    public String printLevel() {
+        StringBuilder output = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                LevelElement element = element(x, y);
+                if (element == LevelElement.FLOOR) output.append("F");
+                else if (element == LevelElement.WALL) output.append("W");
+                else if (element == LevelElement.EXIT) output.append("E");
+                else output.append("S");
+            }
+            output.append("\n");
+        }
+        return output.toString();
+    }
+
+    /**
+     * Get the number of nodes for the path searches.
+     *
+     * <p>The indices of the tiles are local to the slots of the loaded chunks, so this only depends
+     * on {@link #MAX_LOADED_CHUNKS}.
+     *
+     * @return the number of node indices
+     */
+    @Override
+    public int getNodeCount() {
+        return MAX_LOADED_CHUNKS * CELLS;
+    }
+
+    /**
+     * Starts the indexed A* pathfinding algorithm and returns a path.
+     *
+     * <p>The chunks of the given tiles may have been unloaded since the caller got the tiles, e.g.
+     * by {@code findPath(tileAt(a), tileAt(b))}. So the path is searched between the current tiles
+     * at the same positions. Their chunks are loaded again if needed, and neither of them is
+     * unloaded for the other one.
+     *
+     * @param start Start tile
+     * @param end End tile
+     * @return Generated path
+     */
+    @Override
+    public GraphPath<Tile> findPath(Tile start, Tile end) {
+        if (start.level() != this || end.level() != this) return ILevel.super.findPath(start, end);
+        Coordinate from = start.coordinate();
+        Coordinate to = end.coordinate();
+        searchStartChunk = chunkIndex(from.x, from.y);
+        searchEndChunk = chunkIndex(to.x, to.y);
+        try {
+            return ILevel.super.findPath(tileAt(from), tileAt(to));
+        } finally {
+            searchStartChunk = -1;
+            searchEndChunk = -1;
+        }
+    }
+
+    @Override
+    public TileHeuristic tileHeuristic() {
+        return tileHeuristic;
+    }
+
+    @Override
+    public PathCache pathCache() {
+        return pathCache;
+    }
+
+    @Override
+    public FlowField flowField() {
+        return flowField;
+    }
+
+    /**
+     * Check each loaded tile around the tile, if it is accessible add it to the connectionList.
+     *
+     * @param checkTile Tile to check for.
+     */
+    @Override
+    public void addConnectionsToNeighbours(Tile checkTile) {
+        for (Coordinate v : CONNECTION_OFFSETS) {
+            int x = checkTile.coordinate().x + v.x;
+            int y = checkTile.coordinate().y + v.y;
+            Tile t = loadedTile(x, y);
+            if (t != null && t.isAccessible() && !isConnected(checkTile, t)) {
+                checkTile.addConnection(t);
+            }
+        }
+    }
+
+    @Override
+    public void onFirstLoad(IVoidFunction function) {
+        this.onFirstLoad = function;
+    }
+
+    @Override
+    public void onLoad() {
+        if (!wasLoaded) {
+            wasLoaded = true;
+            onFirstLoad.execute();
+        }
+    }
+
+    @Override
+    public void onTileChanged(Consumer<Tile> function) {
+        this.onTileChanged = function;
+    }
+
+    @Override
+    public void tileChanged(Tile tile) {
+        Coordinate c = tile.coordinate();
+        if (loadedTile(c.x, c.y) == tile) store(c.x, c.y, tile.levelElement());
+        pathCache.tileChanged(tile);
+        flowField.invalidate();
+        onTileChanged.accept(tile);
+    }
+
+    @Override
+    public void addFloorTile(FloorTile tile) {
+        floorTiles.add(tile);
+    }
+
+    @Override
+    public void addWallTile(WallTile tile) {
+        wallTiles.add(tile);
+    }
+
+    @Override
+    public void addHoleTile(HoleTile tile) {
+        holeTiles.add(tile);
+    }
+
+    @Override
+    public void addDoorTile(DoorTile tile) {
+        doorTiles.add(tile);
+    }
+
+    @Override
+    public void addExitTile(ExitTile tile) {
+        Tile end = endTile();
+        if (end != null && end != tile) changeTileElementType(end, LevelElement.FLOOR);
+        exit = tile.coordinate();
+        exitTiles.add(tile);
+    }
+
+    @Override
+    public void addSkipTile(SkipTile tile) {
+        skipTiles.add(tile);
+    }
+
+    @Override
+    public List<FloorTile> floorTiles() {
+        return floorTiles;
+    }
+
+    @Override
+    public List<WallTile> wallTiles() {
+        return wallTiles;
+    }
+
+    @Override
+    public List<HoleTile> holeTiles() {
+        return holeTiles;
+    }
+
+    @Override
+    public List<DoorTile> doorTiles() {
+        return doorTiles;
+    }
+
+    @Override
+    public List<ExitTile> exitTiles() {
+        return exitTiles;
+    }
+
+    @Override
+    public List<SkipTile> skipTiles() {
+        return skipTiles;
+    }
+
+    /**
+     * Removes the tile from the loaded tiles.
+     *
+     * <p>The type of the cell is not changed, the tile is created again when the chunk is loaded
+     * the next time.
+     *
+     * @param tile Tile to be removed
+     */
+    @Override
+    public void removeTile(Tile tile) {
+        switch (tile.levelElement()) {
+            case SKIP -> skipTiles.remove(tile);
+            case FLOOR -> floorTiles.remove(tile);
+            case WALL -> wallTiles.remove(tile);
+            case HOLE -> holeTiles.remove(tile);
+            case DOOR -> doorTiles.remove(tile);
+            case EXIT -> exitTiles.remove(tile);
+        }
+        if (tile.coordinate().equals(exit)) exit = null;
+        disconnect(tile);
+        navigationGrid.walkable(tile.coordinate().x, tile.coordinate().y, false);
+        if (tile.isAccessible()) {
+            pathCache.clear();
+            flowField.invalidate();
+        }
+    }
+
+    /**
+     * Add a tile to the level.
+     *
+     * <p>The type of the tile is stored in its chunk. If the chunk is not loaded, the tile itself
+     * is not kept, it is created again when the chunk is loaded.
+     *
+     * @param tile tile to add
+     */
+    @Override
+    public void addTile(Tile tile) {
+        Coordinate c = tile.coordinate();
+        store(c.x, c.y, tile.levelElement());
+        if (chunk(c.x, c.y).tiles == null) return;
+        place(c.x, c.y, tile);
+        switch (tile.levelElement()) {
+            case SKIP -> addSkipTile((SkipTile) tile);
+            case FLOOR -> addFloorTile((FloorTile) tile);
+            case WALL -> addWallTile((WallTile) tile);
+            case HOLE -> addHoleTile((HoleTile) tile);
+            case EXIT -> addExitTile((ExitTile) tile);
+            case DOOR -> addDoorTile((DoorTile) tile);
+        }
+        attach(tile);
+    }
+
+    /**
+     * Get the loaded tiles as a layout of the whole map.
+     *
+     * <p>The cells of unloaded chunks are null, like for {@link #loadedTile(int, int)}. The array
+     * is created on the first call and then kept up to date while chunks are loaded and unloaded,
+     * so every call returns the same array. Changes to the array are not applied to the level.
+     *
+     * <p>The array needs one reference per cell of the whole map. Prefer {@link
+     * #loadedTile(int, int)} if the level is large.
+     *
+     * @return The layout of the loaded tiles
+     */
+    @Override
+    public Tile[][] layout() {
+        if (layout == null) {
+            layout = new Tile[height][width];
+            for (int y = 0; y < height; y++)
+                for (int x = 0; x < width; x++) layout[y][x] = loadedTile(x, y);
+        }
+        return layout;
+    }
+
+    @Override
+    public Tile startTile() {
+        return startTile;
+    }
+
+    @Override
+    public void startTile(Tile start) {
+        startTile = start;
+    }
+
+    /**
+     * Get the end tile.
+     *
+     * <p>Loads the chunk of the end tile, if it is not loaded.
+     *
+     * @return The end tile.
+     */
+    @Override
+    public Tile endTile() {
+        return exit != null ? tileAt(exit) : null;
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private int chunkIndex(int x, int y) {
+        return (y / CHUNK_SIZE) * chunksX + x / CHUNK_SIZE;
+    }
+
+    private Chunk chunk(int x, int y) {
+        return chunks[chunkIndex(x, y)];
+    }
+
+    private static int cell(int x, int y) {
+        return (y % CHUNK_SIZE) * CHUNK_SIZE + x % CHUNK_SIZE;
+    }
+
+    private int distanceToFocus(int chunk) {
+        if (focusChunk < 0) return Integer.MAX_VALUE;
+        int distanceX = Math.abs(chunk % chunksX - focusChunk % chunksX);
+        int distanceY = Math.abs(chunk / chunksX - focusChunk / chunksX);
+        return Math.max(distanceX, distanceY);
+    }
+
+    private LevelElement element(int x, int y) {
+        return ELEMENTS[chunk(x, y).elements[cell(x, y)]];
+    }
+
+    private String texturePath(int x, int y) {
+        return TileTextureFactory.texturePath(designLabel, chunk(x, y).textures[cell(x, y)]);
+    }
+
+    private short textureId(int x, int y) {
+        for (int dy = -1; dy <= 1; dy++)
+            for (int dx = -1; dx <= 1; dx++)
+                neighbourhood[CENTER.y + dy][CENTER.x + dx] =
+                        contains(x + dx, y + dy) ? element(x + dx, y + dy) : null;
+        return (short)
+                TileTextureFactory.findTextureId(
+                        new TileTextureFactory.LevelPart(
+                                element(x, y), designLabel, neighbourhood, CENTER));
+    }
+
+    /** Store the type of the cell and update the textures of the cell and its neighbours. */
+    private void store(int x, int y, LevelElement element) {
+        Chunk chunk = chunk(x, y);
+        chunk.counts[chunk.elements[cell(x, y)]]--;
+        counts[chunk.elements[cell(x, y)]]--;
+        chunk.elements[cell(x, y)] = (byte) element.ordinal();
+        chunk.counts[element.ordinal()]++;
+        counts[element.ordinal()]++;
+        navigationGrid.walkable(x, y, element.value());
+        for (int ny = y - 1; ny <= y + 1; ny++)
+            for (int nx = x - 1; nx <= x + 1; nx++)
+                if (contains(nx, ny)) chunk(nx, ny).textures[cell(nx, ny)] = textureId(nx, ny);
+    }
+
+    private Tile createTile(int x, int y) {
+        return TileFactory.createTile(
+                texturePath(x, y), new Coordinate(x, y), element(x, y), designLabel);
+    }
+
+    private boolean isPinned(int chunk) {
+        if (chunk == searchStartChunk || chunk == searchEndChunk) return true;
+        if (startTile != null) {
+            Coordinate start = startTile.coordinate();
+            if (chunkIndex(start.x, start.y) == chunk) return true;
+        }
+        return exit != null && chunkIndex(exit.x, exit.y) == chunk;
+    }
+
+    /**
+     * Load the chunk with the given index, if it is not loaded, and mark it as recently used.
+     *
+     * @return the chunk
+     */
+    private Chunk load(int index) {
+        Chunk chunk = loaded.get(index);
+        if (chunk != null) return chunk;
+        chunk = chunks[index];
+        if (freeSlots.isEmpty()) unloadLeastRecentlyUsed();
+        chunk.slot = freeSlots.poll();
+        chunk.tiles = new Tile[CELLS];
+        loaded.put(index, chunk);
+        int startX = (index % chunksX) * CHUNK_SIZE;
+        int startY = (index / chunksX) * CHUNK_SIZE;
+        int endX = Math.min(startX + CHUNK_SIZE, width);
+        int endY = Math.min(startY + CHUNK_SIZE, height);
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                Tile tile = createTile(x, y);
+                place(x, y, tile);
+                register(tile);
+            }
+        }
+        // the connections need the tiles of the whole chunk
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                Tile tile = chunk.tiles[cell(x, y)];
+                attach(tile);
+                onTileChanged.accept(tile);
+            }
+        }
+        return chunk;
+    }
+
+    /** Unload the least recently used chunk that is neither pinned nor near the player. */
+    private void unloadLeastRecentlyUsed() {
+        Iterator<Chunk> iterator = loaded.values().iterator();
+        while (iterator.hasNext()) {
+            Chunk chunk = iterator.next();
+            if (isPinned(chunk.index) || distanceToFocus(chunk.index) <= LOAD_RADIUS) continue;
+            iterator.remove();
+            unload(chunk);
+            removeUnloadedTiles();
+            return;
+        }
+        throw new IllegalStateException("All loaded chunks are in use.");
+    }
+
+    /** Remove the tiles of the chunk, the caller removes the chunk from the loaded chunks. */
+    private void unload(Chunk chunk) {
+        for (Tile tile : chunk.tiles) {
+            if (tile == null) continue;
+            disconnect(tile);
+            // the index of the tile is reused by the next chunk in this slot
+            tile.connections().clear();
+            if (layout != null) layout[tile.coordinate().y][tile.coordinate().x] = null;
+        }
+        chunk.tiles = null;
+        freeSlots.add(chunk.slot);
+        chunk.slot = -1;
+        pathCache.clear();
+        flowField.invalidate();
+    }
+
+    /** Set the tile of a cell of a loaded chunk. */
+    private void place(int x, int y, Tile tile) {
+        chunk(x, y).tiles[cell(x, y)] = tile;
+        if (layout != null) layout[y][x] = tile;
+    }
+
+    /** Add the tile of a loaded chunk to the list of its type. */
+    private void register(Tile tile) {
+        switch (tile.levelElement()) {
+            case SKIP -> skipTiles.add((SkipTile) tile);
+            case FLOOR -> floorTiles.add((FloorTile) tile);
+            case WALL -> wallTiles.add((WallTile) tile);
+            case HOLE -> holeTiles.add((HoleTile) tile);
+            case EXIT -> exitTiles.add((ExitTile) tile);
+            case DOOR -> doorTiles.add((DoorTile) tile);
+        }
+    }
+
+    private void removeUnloadedTiles() {
+        skipTiles.removeIf(this::isUnloaded);
+        floorTiles.removeIf(this::isUnloaded);
+        wallTiles.removeIf(this::isUnloaded);
+        holeTiles.removeIf(this::isUnloaded);
+        exitTiles.removeIf(this::isUnloaded);
+        doorTiles.removeIf(this::isUnloaded);
+    }
+
+    private boolean isUnloaded(Tile tile) {
+        return chunk(tile.coordinate().x, tile.coordinate().y).tiles == null;
+    }
+
+    /** Connect the tile with its loaded neighbours. */
+    private void attach(Tile tile) {
+        Coordinate c = tile.coordinate();
+        tile.index(chunk(c.x, c.y).slot * CELLS + cell(c.x, c.y));
+        tile.level(this);
+        if (!tile.isAccessible()) return;
+        addConnectionsToNeighbours(tile);
+        Array<Connection<Tile>> connections = tile.connections();
+        for (int i = 0; i < connections.size; i++) {
+            Tile neighbour = connections.get(i).getToNode();
+            if (!isConnected(neighbour, tile)) neighbour.addConnection(tile);
+        }
+        pathCache.clear();
+        flowField.invalidate();
+    }
+
+    /** Remove the connections of the neighbours to the tile. */
+    private static void disconnect(Tile tile) {
+        Array<Connection<Tile>> connections = tile.connections();
+        for (int i = 0; i < connections.size; i++) {
+            Array<Connection<Tile>> back = connections.get(i).getToNode().connections();
+            for (int j = 0; j < back.size; j++)
+                if (back.get(j).getToNode() == tile) {
+                    back.removeIndex(j);
+                    break;
+                }
+        }
+    }
+
+    private static boolean isConnected(Tile from, Tile to) {
+        Array<Connection<Tile>> connections = from.connections();
+        for (int i = 0; i < connections.size; i++)
+            if (connections.get(i).getToNode() == to) return true;
+        return false;
+    }
+
+    /** The cells of one chunk, stored as primitive data, and its tiles if it is loaded. */
+    private static final class Chunk {
+        private final int index;
+        private final byte[] elements = new byte[CELLS];
+        private final short[] textures = new short[CELLS];
+        // number of cells of each type in this chunk
+        private final int[] counts = new int[ELEMENTS.length];
+        private Tile[] tiles;
+        private int slot = -1;
+
+        private Chunk(int index) {
+            this.index = index;
+        }
+    }
+}
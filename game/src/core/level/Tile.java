@@ -86,6 +86,7 @@ public abstract class Tile {
      */
     public void texturePath(String texture) {
         this.texturePath = texture;
+        changed();
     }
 
     /**
@@ -123,6 +124,16 @@ public abstract class Tile {
      */
     public void levelElement(LevelElement newLevelElement) {
         this.levelElement = newLevelElement;
+        changed();
+    }
+
+    /**
+     * Inform the level of this tile that the texture or the type of this tile changed.
+     *
+     * @see ILevel#onTileChanged(java.util.function.Consumer)
+     */
+    protected void changed() {
+        if (level != null) level.tileChanged(this);
     }
 
     /**
@@ -137,7 +148,7 @@ public abstract class Tile {
      *
      * @param tileLevel The level this tile is in
      */
-    public void level(TileLevel tileLevel) {
+    public void level(ILevel tileLevel) {
         level = tileLevel;
     }
 
@@ -1,7 +1,12 @@
 package core.level;
 
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
 import core.level.elements.ILevel;
-import core.level.elements.astar.TileConnection;
+import core.level.elements.astar.FlowField;
+import core.level.elements.astar.GridGraph;
+import core.level.elements.astar.PathCache;
 import core.level.elements.astar.TileHeuristic;
 import core.level.elements.tile.*;
 import core.level.utils.Coordinate;
@@ -13,6 +18,7 @@ import core.utils.IVoidFunction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A level is a 2D-Array of Tiles.
@@ -25,9 +31,14 @@ public class TileLevel implements ILevel {
         new Coordinate(0, 1), new Coordinate(0, -1), new Coordinate(1, 0), new Coordinate(-1, 0),
     };
     protected final TileHeuristic tileHeuristic = new TileHeuristic();
+    protected final PathCache pathCache;
+    protected final FlowField flowField = new FlowField(this);
     protected Tile startTile;
     protected int nodeCount = 0;
     protected Tile[][] layout;
+    protected final GridGraph navigationGrid;
+    // the accessible tiles by their index
+    private Tile[] nodes = new Tile[16];
     protected ArrayList<FloorTile> floorTiles = new ArrayList<>();
     protected ArrayList<WallTile> wallTiles = new ArrayList<>();
     protected ArrayList<HoleTile> holeTiles = new ArrayList<>();
@@ -35,6 +46,7 @@ public class TileLevel implements ILevel {
     protected ArrayList<ExitTile> exitTiles = new ArrayList<>();
     protected ArrayList<SkipTile> skipTiles = new ArrayList<>();
     private IVoidFunction onFirstLoad = () -> {};
+    private Consumer<Tile> onTileChanged = tile -> {};
 
     private boolean wasLoaded = false;
 
@@ -45,6 +57,8 @@ public class TileLevel implements ILevel {
      */
     public TileLevel(Tile[][] layout) {
         this.layout = layout;
+        navigationGrid = new GridGraph(layout[0].length, layout.length, false);
+        pathCache = new PathCache(this, navigationGrid);
         putTilesInLists();
         if (startTile == null) randomStart();
         if (exitTiles.size() == 0) randomEnd();
@@ -102,6 +116,28 @@ public class TileLevel implements ILevel {
         return tileHeuristic;
     }
 
+    @Override
+    public PathCache pathCache() {
+        return pathCache;
+    }
+
+    @Override
+    public FlowField flowField() {
+        return flowField;
+    }
+
+    /**
+     * Get the compact navigation graph of the level.
+     *
+     * <p>The graph has a cell for each tile of the layout, the cell is walkable if the tile is
+     * accessible. The paths of {@link #findPath(Tile, Tile)} are searched in this graph.
+     *
+     * @return the navigation graph of the level
+     */
+    public GridGraph navigationGrid() {
+        return navigationGrid;
+    }
+
     /**
      * Check each tile around the tile, if it is accessible add it to the connectionList.
      *
@@ -112,14 +148,24 @@ public class TileLevel implements ILevel {
             Coordinate c =
                     new Coordinate(checkTile.coordinate().x + v.x, checkTile.coordinate().y + v.y);
             Tile t = tileAt(c);
-            if (t != null
-                    && t.isAccessible()
-                    && !checkTile.connections().contains(new TileConnection(checkTile, t), false)) {
+            if (t != null && t.isAccessible() && !isConnected(checkTile, t)) {
                 checkTile.addConnection(t);
             }
         }
     }
 
+    private static boolean isConnected(Tile from, Tile to) {
+        Array<Connection<Tile>> connections = from.connections();
+        for (int i = 0; i < connections.size; i++)
+            if (connections.get(i).getToNode() == to) return true;
+        return false;
+    }
+
+    private void updateNavigationGrid(Tile tile, boolean walkable) {
+        Coordinate c = tile.coordinate();
+        if (navigationGrid.contains(c.x, c.y)) navigationGrid.walkable(c.x, c.y, walkable);
+    }
+
     @Override
     public void onFirstLoad(IVoidFunction function) {
         this.onFirstLoad = function;
@@ -133,6 +179,19 @@ public class TileLevel implements ILevel {
         }
     }
 
+    @Override
+    public void onTileChanged(Consumer<Tile> function) {
+        this.onTileChanged = function;
+    }
+
+    @Override
+    public void tileChanged(Tile tile) {
+        pathCache.tileChanged(tile);
+        flowField.invalidate();
+        updateNavigationGrid(tile, tile.isAccessible());
+        onTileChanged.accept(tile);
+    }
+
     @Override
     public void addFloorTile(FloorTile tile) {
         floorTiles.add(tile);
@@ -207,21 +266,30 @@ public class TileLevel implements ILevel {
             case EXIT -> exitTiles.remove(tile);
         }
 
-        tile.connections()
-                .forEach(
-                        x ->
-                                x.getToNode()
-                                        .connections()
-                                        .removeValue(
-                                                new TileConnection(x.getToNode(), tile), false));
-        if (tile.isAccessible()) removeIndex(tile.index());
+        Array<Connection<Tile>> connections = tile.connections();
+        for (int i = 0; i < connections.size; i++) {
+            Array<Connection<Tile>> back = connections.get(i).getToNode().connections();
+            for (int j = 0; j < back.size; j++)
+                if (back.get(j).getToNode() == tile) {
+                    back.removeIndex(j);
+                    break;
+                }
+        }
+        updateNavigationGrid(tile, false);
+        if (tile.isAccessible() && tile.index() < nodeCount && nodes[tile.index()] == tile) {
+            removeIndex(tile.index());
+            // the indices of the other tiles changed
+            pathCache.clear();
+            flowField.invalidate();
+        }
     }
 
     private void removeIndex(int index) {
-        Arrays.stream(layout)
-                .flatMap(x -> Arrays.stream(x).filter(y -> y.index() > index))
-                .forEach(x -> x.index(x.index() - 1));
-        nodeCount--;
+        // the last tile takes the free index, so the indices stay dense without renumbering
+        Tile last = nodes[--nodeCount];
+        last.index(index);
+        nodes[index] = last;
+        nodes[nodeCount] = null;
     }
 
     @Override
@@ -236,16 +304,18 @@ public class TileLevel implements ILevel {
         }
         if (tile.isAccessible()) {
             this.addConnectionsToNeighbours(tile);
-            tile.connections()
-                    .forEach(
-                            x -> {
-                                if (!x.getToNode()
-                                        .connections()
-                                        .contains(new TileConnection(x.getToNode(), tile), false))
-                                    x.getToNode().addConnection(tile);
-                            });
+            Array<Connection<Tile>> connections = tile.connections();
+            for (int i = 0; i < connections.size; i++) {
+                Tile neighbour = connections.get(i).getToNode();
+                if (!isConnected(neighbour, tile)) neighbour.addConnection(tile);
+            }
+            if (nodeCount == nodes.length) nodes = Arrays.copyOf(nodes, nodeCount * 2);
+            nodes[nodeCount] = tile;
             tile.index(nodeCount++);
+            pathCache.clear();
+            flowField.invalidate();
         }
+        updateNavigationGrid(tile, tile.isAccessible());
         tile.level(this);
     }
 
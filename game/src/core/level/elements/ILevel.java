@@ -5,8 +5,10 @@ import core.level.elements.tile.*;
 import core.level.utils.LevelElement;
 import core.level.utils.TileTextureFactory;
 import core.utils.IVoidFunction;
+import core.utils.Point;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ILevel extends ITileable {
 
@@ -162,6 +164,10 @@ public interface ILevel extends ITileable {
     /**
      * Change the type of tile (including changing texture)
      *
+     * <p>The textures of the neighbours depend on the type of the tile, so the textures of the 8
+     * surrounding tiles are updated as well. Doors keep their texture, because it also contains
+     * their color.
+     *
      * @param tile The Tile you want to change
      * @param changeInto The LevelElement to change the Tile into.
      */
@@ -179,6 +185,24 @@ public interface ILevel extends ITileable {
                         tile.designLabel());
         level.layout()[tile.coordinate().y][tile.coordinate().x] = newTile;
         level.addTile(newTile);
+        level.tileChanged(newTile);
+        updateNeighbourTextures(newTile);
+    }
+
+    private void updateNeighbourTextures(Tile tile) {
+        Tile[][] layout = layout();
+        for (int y = tile.coordinate().y - 1; y <= tile.coordinate().y + 1; y++) {
+            for (int x = tile.coordinate().x - 1; x <= tile.coordinate().x + 1; x++) {
+                if (y < 0 || y >= layout.length || x < 0 || x >= layout[y].length) continue;
+                Tile neighbour = layout[y][x];
+                if (neighbour == null
+                        || neighbour == tile
+                        || neighbour.levelElement() == LevelElement.DOOR) continue;
+                String texturePath = TileTextureFactory.findTexturePath(neighbour, layout);
+                if (!texturePath.equals(neighbour.texturePath()))
+                    neighbour.texturePath(texturePath);
+            }
+        }
     }
 
     @Override
@@ -227,4 +251,36 @@ public interface ILevel extends ITileable {
      * registered function from {@link #onFirstLoad(IVoidFunction)}.
      */
     void onLoad();
+
+    /**
+     * Set the function that should be executed each time a tile of this level changes its texture
+     * or type.
+     *
+     * <p>This is used to update caches of the level, e.g. the baked level geometry of the {@link
+     * core.systems.LevelSystem}. There can only be one function at a time, the previous one will be
+     * replaced.
+     *
+     * @param function The function to be executed with the changed tile.
+     */
+    void onTileChanged(Consumer<Tile> function);
+
+    /**
+     * Notify the level that the texture or the type of the given tile changed.
+     *
+     * <p>This should execute the registered function from {@link #onTileChanged(Consumer)}.
+     *
+     * @param tile The changed tile.
+     */
+    void tileChanged(Tile tile);
+
+    /**
+     * Notify the level of the position of the player.
+     *
+     * <p>Levels that keep only the tiles near the player in memory, like the {@link
+     * core.level.ChunkedLevel}, load and unload their tiles based on this position. Other levels
+     * ignore it.
+     *
+     * @param position The position of the player.
+     */
+    default void focus(Point position) {}
 }
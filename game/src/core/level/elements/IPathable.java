@@ -1,15 +1,15 @@
 package core.level.elements;
 
 import com.badlogic.gdx.ai.pfa.Connection;
-import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
 import com.badlogic.gdx.utils.Array;
 
 import core.Entity;
 import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.elements.astar.FlowField;
+import core.level.elements.astar.PathCache;
 import core.level.elements.astar.TileHeuristic;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
@@ -26,6 +26,9 @@ public interface IPathable extends IndexedGraph<Tile> {
     /**
      * Starts the indexed A* pathfinding algorithm a returns a path.
      *
+     * <p>The path is taken from the {@link #pathCache()} if it was already searched. It is shared
+     * with the other callers and can not be modified.
+     *
      * <p>Throws an IllegalArgumentException if start or end is non-accessible.
      *
      * @param start Start tile
@@ -39,9 +42,7 @@ public interface IPathable extends IndexedGraph<Tile> {
         if (!end.isAccessible())
             throw new IllegalArgumentException(
                     "Can not calculate Path because the end point is non-accessible.");
-        GraphPath<Tile> path = new DefaultGraphPath<>();
-        new IndexedAStarPathFinder<>(this).searchNodePath(start, end, tileHeuristic(), path);
-        return path;
+        return pathCache().findPath(start, end);
     }
 
     @Override
@@ -59,6 +60,16 @@ public interface IPathable extends IndexedGraph<Tile> {
      */
     TileHeuristic tileHeuristic();
 
+    /**
+     * @return the cache of the paths in the Level
+     */
+    PathCache pathCache();
+
+    /**
+     * @return the flow field of the Level, used by the entities that walk to the same target
+     */
+    FlowField flowField();
+
     /**
      * Get the Position of the given entity in the level.
      *
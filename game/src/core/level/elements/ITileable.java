@@ -5,12 +5,13 @@ import core.components.PositionComponent;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
+import core.utils.GameRandom;
 import core.utils.Point;
 
 import java.util.Random;
 
 public interface ITileable extends IPathable {
-    Random RANDOM = new Random();
+    Random RANDOM = GameRandom.RANDOM;
 
     /**
      * @return The layout of the level
@@ -44,6 +45,20 @@ public interface ITileable extends IPathable {
         return tileAt(point.toCoordinate());
     }
 
+    /**
+     * Get the tile at the given position.
+     *
+     * <p>Like {@link #tileAt(Point)}, but for callers that already have the position as floats, for
+     * example from {@link PositionComponent#x()} and {@link PositionComponent#y()}.
+     *
+     * @param x x-position form where to get the tile.
+     * @param y y-position form where to get the tile.
+     * @return The tile on that position. null if there is no Tile or the Coordinate is out of bound
+     */
+    default Tile tileAt(float x, float y) {
+        return tileAt(new Coordinate((int) x, (int) y));
+    }
+
     /**
      * @return a random Tile in the Level
      */
@@ -73,7 +88,7 @@ public interface ITileable extends IPathable {
      */
     default Tile tileAtEntity(Entity entity) {
         PositionComponent pc = (PositionComponent) entity.fetch(PositionComponent.class).get();
-        return tileAt(pc.position().toCoordinate());
+        return tileAt(pc.x(), pc.y());
     }
 
     /**
@@ -0,0 +1,112 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+import core.level.Tile;
+import core.level.elements.IPathable;
+
+import java.util.Arrays;
+
+/**
+ * The distance of each tile of a level to one target tile, and the next step towards it.
+ *
+ * <p>Many entities walk to the same target, e.g. the monsters that chase the hero. Instead of
+ * searching a path for each entity, the field is calculated once with a breadth-first search from
+ * the target over all accessible tiles. Afterward, each entity can read its next step in constant
+ * time, see {@link #next(Tile, Tile)}.
+ *
+ * <p>The field is calculated again on the first request after the target moved to another tile or
+ * the level reported a change of its tiles with {@link #invalidate()}. The arrays are indexed by
+ * {@link Tile#index()} and are reused, so a new calculation does not allocate any objects unless
+ * the level grew.
+ */
+public final class FlowField {
+
+    /** Distance of the tiles that can not reach the target. */
+    public static final int UNREACHABLE = -1;
+
+    private final IPathable level;
+    private Tile target;
+    private boolean valid = false;
+    private int[] distances = new int[0];
+    private Tile[] next = new Tile[0];
+    private Tile[] queue = new Tile[0];
+
+    /**
+     * Create a new flow field for the given level.
+     *
+     * @param level the level to calculate the field in
+     */
+    public FlowField(final IPathable level) {
+        this.level = level;
+    }
+
+    /**
+     * Get the next tile on a shortest path from the given tile to the target.
+     *
+     * @param from current tile
+     * @param target tile to walk to
+     * @return the neighbour of the given tile to step on, or null if the given tile is the target
+     *     or can not reach the target
+     */
+    public Tile next(final Tile from, final Tile target) {
+        update(target);
+        if (!from.isAccessible() || from.index() >= level.getNodeCount()) return null;
+        return next[from.index()];
+    }
+
+    /**
+     * Get the number of steps from the given tile to the target.
+     *
+     * @param from current tile
+     * @param target tile to walk to
+     * @return the number of steps, or {@link #UNREACHABLE} if the given tile can not reach the
+     *     target
+     */
+    public int distance(final Tile from, final Tile target) {
+        update(target);
+        if (!from.isAccessible() || from.index() >= level.getNodeCount()) return UNREACHABLE;
+        return distances[from.index()];
+    }
+
+    /** Calculate the field again on the next request, because the tiles of the level changed. */
+    public void invalidate() {
+        valid = false;
+    }
+
+    private void update(final Tile target) {
+        if (valid && target == this.target) return;
+        this.target = target;
+        valid = true;
+        int nodeCount = level.getNodeCount();
+        if (distances.length < nodeCount) {
+            distances = new int[nodeCount];
+            next = new Tile[nodeCount];
+            queue = new Tile[nodeCount];
+        }
+        Arrays.fill(distances, 0, nodeCount, UNREACHABLE);
+        Arrays.fill(next, 0, nodeCount, null);
+        if (!target.isAccessible() || target.index() >= nodeCount) return;
+
+        distances[target.index()] = 0;
+        queue[0] = target;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            Tile tile = queue[head++];
+            int distance = distances[tile.index()] + 1;
+            Array<Connection<Tile>> connections = level.getConnections(tile);
+            for (int i = 0; i < connections.size; i++) {
+                Tile neighbour = connections.get(i).getToNode();
+                int index = neighbour.index();
+                if (!neighbour.isAccessible() || distances[index] != UNREACHABLE) continue;
+                distances[index] = distance;
+                // the connections go both ways, so the neighbour steps back to this tile
+                next[index] = tile;
+                queue[tail++] = neighbour;
+            }
+        }
+        Arrays.fill(queue, 0, tail, null);
+    }
+}
@@ -0,0 +1,270 @@
+package core.level.elements.astar;
+
+import java.util.Arrays;
+
+/**
+ * A compact navigation graph of a grid, with an A* search over the indices of its cells.
+ *
+ * <p>The walkability of the cells is stored in a bit set, one bit per cell, and the neighbours of
+ * a cell are not stored at all but derived from its position. Changing a cell is a single bit
+ * operation, so building the graph and changing single tiles of a level is cheap, and the graph
+ * fits levels far larger than the generated ones.
+ *
+ * <p>A cell has 4 neighbours, or 8 if diagonal moves are allowed. A diagonal move is only possible
+ * if both cells next to it are walkable, so paths do not cut corners.
+ *
+ * <p>The search works on the index of the cells ({@code y * width + x}) and keeps its state in
+ * primitive arrays. The arrays are created on the first search and reused, so a search only
+ * allocates the returned path.
+ */
+public final class GridGraph {
+
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+    // the first four directions are the straight ones
+    private static final int[] DX = {0, 1, 0, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, 0, -1, 0, 1, -1, -1, 1};
+    private static final int[] NO_PATH = new int[0];
+
+    private final int width;
+    private final int height;
+    private final boolean diagonal;
+    private final long[] walkable;
+
+    private int searchId = 0;
+    private int[] visited;
+    private int[] closed;
+    private int[] costs;
+    private int[] parents;
+    private int[] heapNodes = new int[64];
+    private int[] heapKeys = new int[64];
+    private int heapSize;
+
+    /**
+     * Create a new graph without walkable cells.
+     *
+     * @param width number of columns
+     * @param height number of rows
+     * @param diagonal true to allow diagonal moves
+     */
+    public GridGraph(int width, int height, boolean diagonal) {
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("The size of the grid must be positive.");
+        this.width = width;
+        this.height = height;
+        this.diagonal = diagonal;
+        walkable = new long[(int) (((long) width * height + 63) / 64)];
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Check if the given cell is in the grid.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return true if the cell is in the grid
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return index of the cell
+     */
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * @param index index of a cell
+     * @return column of the cell
+     */
+    public int x(int index) {
+        return index % width;
+    }
+
+    /**
+     * @param index index of a cell
+     * @return row of the cell
+     */
+    public int y(int index) {
+        return index / width;
+    }
+
+    /**
+     * Check if the given cell is walkable.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return true if the cell is in the grid and walkable
+     */
+    public boolean walkable(int x, int y) {
+        return contains(x, y) && walkable(index(x, y));
+    }
+
+    /**
+     * Set if the given cell is walkable.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @param walkable true if entities can walk on the cell
+     */
+    public void walkable(int x, int y, boolean walkable) {
+        if (!contains(x, y))
+            throw new IllegalArgumentException(
+                    "The cell (" + x + ", " + y + ") is outside of the grid.");
+        int index = index(x, y);
+        if (walkable) this.walkable[index >>> 6] |= 1L << index;
+        else this.walkable[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Find a shortest path between the given cells with A*.
+     *
+     * <p>Throws an IllegalArgumentException if the start or the goal is outside of the grid or not
+     * walkable.
+     *
+     * @param start index of the start cell
+     * @param goal index of the goal cell
+     * @return the indices of the cells on the path, from the start to the goal; empty if there is
+     *     no path
+     */
+    public int[] findPath(int start, int goal) {
+        if (!contains(start))
+            throw new IllegalArgumentException(
+                    "Can not calculate Path because the start point is outside of the grid.");
+        if (!contains(goal))
+            throw new IllegalArgumentException(
+                    "Can not calculate Path because the end point is outside of the grid.");
+        if (!walkable(start))
+            throw new IllegalArgumentException(
+                    "Can not calculate Path because the start point is non-accessible.");
+        if (!walkable(goal))
+            throw new IllegalArgumentException(
+                    "Can not calculate Path because the end point is non-accessible.");
+        prepareSearch();
+        int goalX = x(goal);
+        int goalY = y(goal);
+        visited[start] = searchId;
+        costs[start] = 0;
+        parents[start] = -1;
+        push(start, heuristic(x(start), y(start), goalX, goalY));
+        int directions = diagonal ? 8 : 4;
+        while (heapSize > 0) {
+            int node = poll();
+            // the node may be queued more than once, only the cheapest entry counts
+            if (closed[node] == searchId) continue;
+            closed[node] = searchId;
+            if (node == goal) return path(goal);
+            int nodeX = x(node);
+            int nodeY = y(node);
+            for (int d = 0; d < directions; d++) {
+                int x = nodeX + DX[d];
+                int y = nodeY + DY[d];
+                if (!walkable(x, y)) continue;
+                if (d >= 4 && (!walkable(x, nodeY) || !walkable(nodeX, y))) continue;
+                int neighbour = index(x, y);
+                if (closed[neighbour] == searchId) continue;
+                int cost = costs[node] + (d < 4 ? STRAIGHT_COST : DIAGONAL_COST);
+                if (visited[neighbour] == searchId && costs[neighbour] <= cost) continue;
+                visited[neighbour] = searchId;
+                costs[neighbour] = cost;
+                parents[neighbour] = node;
+                push(neighbour, cost + heuristic(x, y, goalX, goalY));
+            }
+        }
+        return NO_PATH;
+    }
+
+    private boolean contains(int index) {
+        return index >= 0 && index < width * height;
+    }
+
+    private boolean walkable(int index) {
+        return (walkable[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int heuristic(int x, int y, int goalX, int goalY) {
+        int dx = Math.abs(x - goalX);
+        int dy = Math.abs(y - goalY);
+        if (!diagonal) return STRAIGHT_COST * (dx + dy);
+        return STRAIGHT_COST * (dx + dy) + (DIAGONAL_COST - 2 * STRAIGHT_COST) * Math.min(dx, dy);
+    }
+
+    private void prepareSearch() {
+        if (visited == null) {
+            int cells = width * height;
+            visited = new int[cells];
+            closed = new int[cells];
+            costs = new int[cells];
+            parents = new int[cells];
+        }
+        if (searchId == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            searchId = 0;
+        }
+        searchId++;
+        heapSize = 0;
+    }
+
+    private int[] path(int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = parents[node]) length++;
+        int[] path = new int[length];
+        for (int node = goal; node != -1; node = parents[node]) path[--length] = node;
+        return path;
+    }
+
+    private void push(int node, int key) {
+        if (heapSize == heapNodes.length) {
+            heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKeys[parent] <= key) break;
+            heapNodes[i] = heapNodes[parent];
+            heapKeys[i] = heapKeys[parent];
+            i = parent;
+        }
+        heapNodes[i] = node;
+        heapKeys[i] = key;
+    }
+
+    private int poll() {
+        int result = heapNodes[0];
+        heapSize--;
+        int node = heapNodes[heapSize];
+        int key = heapKeys[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) child++;
+            if (key <= heapKeys[child]) break;
+            heapNodes[i] = heapNodes[child];
+            heapKeys[i] = heapKeys[child];
+            i = child;
+        }
+        heapNodes[i] = node;
+        heapKeys[i] = key;
+        return result;
+    }
+}
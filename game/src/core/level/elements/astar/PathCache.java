@@ -0,0 +1,200 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+
+import core.level.Tile;
+import core.level.elements.IPathable;
+import core.level.elements.ITileable;
+import core.level.utils.Coordinate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds and caches the paths in one level.
+ *
+ * <p>If the cache is created with a {@link GridGraph}, the paths are searched in the graph, which
+ * keeps its state in a few primitive arrays. Otherwise, they are searched over the connections of
+ * the tiles with the A* path finder of gdx-ai. That path finder allocates a record for each node of
+ * the level, so it is created only once and reused for every search. It is only created again if
+ * the number of nodes in the level changes.
+ *
+ * <p>The found paths are cached by their start and end tile. Many entities walk to the same
+ * target (e.g. the hero), so most searches in a frame can be answered from the cache. If the cache
+ * is full, the least recently used path is removed.
+ *
+ * <p>The level has to report each change of its tiles with {@link #tileChanged(Tile)}. If a tile
+ * is no longer accessible, only the paths that lead over the tile are removed. If a tile becomes
+ * accessible, it may be a shortcut for any path, so all paths are removed.
+ *
+ * <p>The returned paths are shared between all callers and can not be modified.
+ *
+ * @see IPathable#findPath(Tile, Tile)
+ */
+public final class PathCache {
+
+    /** Maximum number of cached paths. */
+    public static final int CAPACITY = 256;
+
+    private final IPathable level;
+    private final GridGraph grid;
+    private final ITileable tiles;
+    private final Map<Long, GraphPath<Tile>> paths =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, GraphPath<Tile>> eldest) {
+                    return size() > CAPACITY;
+                }
+            };
+    private final DefaultGraphPath<Tile> searchResult = new DefaultGraphPath<>();
+    private IndexedAStarPathFinder<Tile> pathFinder;
+    private int pathFinderNodeCount = -1;
+
+    /**
+     * Create a new cache for the given level.
+     *
+     * @param level the level to find the paths in
+     */
+    public PathCache(final IPathable level) {
+        this.level = level;
+        grid = null;
+        tiles = null;
+    }
+
+    /**
+     * Create a new cache for the given level, that searches the paths in the given graph.
+     *
+     * <p>The graph must have a cell for each tile of the level, and the level has to keep the cells
+     * walkable exactly where its tiles are accessible.
+     *
+     * @param level the level to find the paths in
+     * @param grid the navigation graph of the level
+     */
+    public PathCache(final ITileable level, final GridGraph grid) {
+        this.level = level;
+        this.grid = grid;
+        tiles = level;
+    }
+
+    /**
+     * Get the path from the start to the end tile.
+     *
+     * <p>Searches the path with A*, if it is not cached.
+     *
+     * @param start Start tile, must be accessible
+     * @param end End tile, must be accessible
+     * @return the path, empty if there is no path
+     */
+    public GraphPath<Tile> findPath(final Tile start, final Tile end) {
+        long key = key(start, end);
+        GraphPath<Tile> path = paths.get(key);
+        if (path == null) {
+            path = search(start, end);
+            paths.put(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * Remove the paths that are affected by the change of the given tile.
+     *
+     * @param tile the changed tile
+     */
+    public void tileChanged(final Tile tile) {
+        if (tile.isAccessible()) paths.clear();
+        else paths.values().removeIf(path -> contains(path, tile));
+    }
+
+    /** Remove all cached paths. */
+    public void clear() {
+        paths.clear();
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    private GraphPath<Tile> search(final Tile start, final Tile end) {
+        if (grid != null) return searchGrid(start, end);
+        int nodeCount = level.getNodeCount();
+        if (pathFinder == null || pathFinderNodeCount != nodeCount) {
+            pathFinder = new IndexedAStarPathFinder<>(level);
+            pathFinderNodeCount = nodeCount;
+        }
+        searchResult.clear();
+        pathFinder.searchNodePath(start, end, level.tileHeuristic(), searchResult);
+        return new CachedPath(searchResult);
+    }
+
+    private GraphPath<Tile> searchGrid(final Tile start, final Tile end) {
+        Coordinate from = start.coordinate();
+        Coordinate to = end.coordinate();
+        int[] cells = grid.findPath(grid.index(from.x, from.y), grid.index(to.x, to.y));
+        Tile[] nodes = new Tile[cells.length];
+        for (int i = 0; i < cells.length; i++)
+            nodes[i] = tiles.tileAt(new Coordinate(grid.x(cells[i]), grid.y(cells[i])));
+        return new CachedPath(nodes);
+    }
+
+    private static long key(final Tile start, final Tile end) {
+        return ((long) start.index() << 32) | (end.index() & 0xFFFFFFFFL);
+    }
+
+    private static boolean contains(final GraphPath<Tile> path, final Tile tile) {
+        for (int i = 0; i < path.getCount(); i++) if (path.get(i) == tile) return true;
+        return false;
+    }
+
+    /** Path that can not be modified, so it can be shared between the callers. */
+    private static final class CachedPath implements GraphPath<Tile> {
+
+        private final List<Tile> tiles;
+
+        private CachedPath(final DefaultGraphPath<Tile> path) {
+            Tile[] nodes = new Tile[path.getCount()];
+            for (int i = 0; i < nodes.length; i++) nodes[i] = path.get(i);
+            tiles = List.of(nodes);
+        }
+
+        private CachedPath(final Tile[] nodes) {
+            tiles = List.of(nodes);
+        }
+
+        @Override
+        public int getCount() {
+            return tiles.size();
+        }
+
+        @Override
+        public Tile get(int index) {
+            return tiles.get(index);
+        }
+
+        @Override
+        public void add(Tile node) {
+            throw new UnsupportedOperationException("Cached paths can not be modified.");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Cached paths can not be modified.");
+        }
+
+        @Override
+        public void reverse() {
+            throw new UnsupportedOperationException("Cached paths can not be modified.");
+        }
+
+        @Override
+        public Iterator<Tile> iterator() {
+            return tiles.iterator();
+        }
+    }
+}
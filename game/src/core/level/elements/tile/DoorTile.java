@@ -110,6 +110,7 @@ public class DoorTile extends Tile {
                 }
             }
             texturePath = textureBuilder.toString();
+            changed();
         } // TODO else { error }
     }
 
@@ -120,6 +121,7 @@ public class DoorTile extends Tile {
      */
     public void open() {
         open = true;
+        texturesChanged();
     }
 
     /**
@@ -129,6 +131,13 @@ public class DoorTile extends Tile {
      */
     public void close() {
         open = false;
+        texturesChanged();
+    }
+
+    // the texture of both sides depends on the state of both doors
+    private void texturesChanged() {
+        changed();
+        if (otherDoor != null) otherDoor.changed();
     }
 
     /**
@@ -0,0 +1,129 @@
+package core.level.generator;
+
+import core.game.ECSManagment;
+import core.level.elements.ILevel;
+import core.utils.GameRandom;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+import java.util.logging.Logger;
+
+/**
+ * Generates the next level on a background thread, while the current level is played.
+ *
+ * <p>Generating a level builds the level graph, the layout of each room, the tiles and the
+ * entities of the rooms. This takes too long to do it between two frames. Call {@link
+ * #prefetch()} as soon as a level is entered, so the next level is ready when it is needed, and
+ * get it with {@link #next()}.
+ *
+ * <p>The generator must not use the render thread: no textures are loaded while the level is
+ * generated. The textures of the tiles and entities are loaded on the render thread when they are
+ * drawn the first time. The entities are built with {@link ECSManagment#buildDetached}, they are
+ * added to the game when their room is loaded the first time. Their components may be created on
+ * the background thread, because the {@link core.utils.components.DenseStorage} can be allocated
+ * from any thread. The generated level is handed over to the game thread through a {@link Future},
+ * so the game thread sees the fully built entities.
+ *
+ * <p>The first level can not be generated while a previous level is played. If {@link #next()} is
+ * called without a prefetched level, the level is generated directly on the calling thread.
+ *
+ * <p>Call {@link #shutdown()} if the generator is no longer used, to stop the background thread.
+ */
+public final class BackgroundLevelGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(BackgroundLevelGenerator.class.getName());
+
+    private final LongFunction<ILevel> generator;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "level-generator");
+                        // do not keep the game alive
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+    private Future<ILevel> next;
+
+    /**
+     * Create a new background generator.
+     *
+     * @param generator generates a new level for the given seed, will be called on the background
+     *     thread
+     */
+    public BackgroundLevelGenerator(final LongFunction<ILevel> generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Start generating the next level, if it is not already generated or being generated.
+     *
+     * <p>The seed of the level is drawn from the {@link GameRandom} on the calling thread, so the
+     * generated level does not depend on the timing of the background thread.
+     */
+    public void prefetch() {
+        if (next != null || executor.isShutdown()) return;
+        long seed = GameRandom.RANDOM.nextLong();
+        next = executor.submit(() -> ECSManagment.buildDetached(() -> generator.apply(seed)));
+        LOGGER.info("Started generating the next level.");
+    }
+
+    /**
+     * Get the next level.
+     *
+     * <p>Waits until the level is generated. If the level was not prefetched (e.g. the first level,
+     * or after {@link #shutdown()}), it is generated now on the calling thread.
+     *
+     * @return the generated level
+     */
+    public ILevel next() {
+        if (next == null) {
+            long seed = GameRandom.RANDOM.nextLong();
+            return ECSManagment.buildDetached(() -> generator.apply(seed));
+        }
+        Future<ILevel> level = next;
+        next = null;
+        try {
+            return level.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the next level.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException("Could not generate the next level.", e.getCause());
+        }
+    }
+
+    /**
+     * Check if the next level is generated.
+     *
+     * @return true if {@link #next()} will return without waiting
+     */
+    public boolean isReady() {
+        return next != null && next.isDone();
+    }
+
+    /**
+     * Stop the background thread.
+     *
+     * <p>A level that is being generated is discarded. Afterward, {@link #prefetch()} does nothing
+     * and {@link #next()} generates the level on the calling thread.
+     */
+    public void shutdown() {
+        if (next != null) next.cancel(true);
+        next = null;
+        executor.shutdownNow();
+    }
+
+    /**
+     * Check if the generator was shut down.
+     *
+     * @return true if {@link #shutdown()} was called
+     */
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+}
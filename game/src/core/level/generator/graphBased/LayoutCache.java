@@ -0,0 +1,128 @@
+package core.level.generator.graphBased;
+
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache for the generated room layouts on the disk.
+ *
+ * <p>The {@link RoomGenerator} generates the same layout for the same size, seed and door
+ * directions. Each layout is stored in its own file, named after these values, so a layout that
+ * was generated once, e.g. in an earlier benchmark run, is read from the file instead of being
+ * generated again.
+ *
+ * <p>The file name also contains the {@link #VERSION} of the generator. Increase it if the
+ * generator changes, so the old layouts are not used anymore.
+ *
+ * <p>The cache is only an optimization: if a file can not be read or written, the layout is
+ * generated and a warning is logged. Files are written to a temporary file first and moved to their
+ * place, so the cache can be used by multiple threads and processes at the same time.
+ */
+public final class LayoutCache {
+
+    /** Version of the room generator, part of each file name. */
+    public static final int VERSION = 1;
+
+    private static final Logger LOGGER = Logger.getLogger(LayoutCache.class.getName());
+    private static final LevelElement[] ELEMENTS = LevelElement.values();
+
+    private final Path directory;
+
+    /**
+     * Create a new cache in the given directory.
+     *
+     * <p>The directory is created when the first layout is stored.
+     *
+     * @param directory the directory for the layout files
+     */
+    public LayoutCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the layout for the given key from the cache, or generate and store it.
+     *
+     * @param size size of the room
+     * @param seed seed of the room
+     * @param doorMask one bit for each {@link
+     *     core.level.generator.graphBased.levelGraph.Direction#value()} with a door
+     * @param generator generates the layout if it is not cached
+     * @return the layout
+     */
+    public LevelElement[][] layout(
+            LevelSize size, long seed, int doorMask, final Supplier<LevelElement[][]> generator) {
+        Path file = file(size, seed, doorMask);
+        if (Files.isRegularFile(file)) {
+            try {
+                return read(file);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Could not read the cached layout " + file, e);
+            }
+        }
+        LevelElement[][] layout = generator.get();
+        try {
+            write(file, layout);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not cache the layout " + file, e);
+        }
+        return layout;
+    }
+
+    /**
+     * Get the file of the layout with the given key.
+     *
+     * @param size size of the room
+     * @param seed seed of the room
+     * @param doorMask one bit for each direction with a door
+     * @return the path of the file, it may not exist
+     */
+    public Path file(LevelSize size, long seed, int doorMask) {
+        return directory.resolve(
+                String.format(
+                        "v%d-%s-%016x-%x.layout",
+                        VERSION, size.name().toLowerCase(), seed, doorMask));
+    }
+
+    private static LevelElement[][] read(final Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+                DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            int height = data.readInt();
+            int width = data.readInt();
+            LevelElement[][] layout = new LevelElement[height][width];
+            for (int y = 0; y < height; y++)
+                for (int x = 0; x < width; x++) layout[y][x] = ELEMENTS[data.readUnsignedByte()];
+            return layout;
+        }
+    }
+
+    private void write(final Path file, final LevelElement[][] layout) throws IOException {
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, "layout", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temporary);
+                    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))) {
+                data.writeInt(layout.length);
+                data.writeInt(layout[0].length);
+                for (LevelElement[] row : layout)
+                    for (LevelElement element : row) data.writeByte(element.ordinal());
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
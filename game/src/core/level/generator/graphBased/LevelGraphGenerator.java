@@ -5,7 +5,7 @@ import core.level.generator.graphBased.levelGraph.Direction;
 import core.level.generator.graphBased.levelGraph.LevelGraph;
 import core.level.generator.graphBased.levelGraph.LevelNode;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -57,7 +57,7 @@ public class LevelGraphGenerator {
      * @return The generated graph.
      */
     public static LevelGraph generate(int nodeCount) {
-        Set<Set<Entity>> outerSet = new HashSet<>();
+        Set<Set<Entity>> outerSet = new LinkedHashSet<>();
         for (int i = 0; i < nodeCount; i++) outerSet.add(Set.of(new Entity()));
         return generate(outerSet);
     }
@@ -2,12 +2,14 @@ package core.level.generator.graphBased;
 
 import static core.level.elements.ILevel.RANDOM;
 
+import core.game.PreRunConfiguration;
 import core.level.generator.graphBased.levelGraph.Direction;
 import core.level.generator.graphBased.levelGraph.LevelNode;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Random;
 
@@ -39,17 +41,64 @@ public class RoomGenerator {
     private static final int BIG_MIN_Y_SIZE = 20;
     private static final int BIG_MAX_X_SIZE = 24;
     private static final int BIG_MAX_Y_SIZE = 24;
+    private final LayoutCache cache;
     private Random random;
 
+    /**
+     * Create a new generator.
+     *
+     * <p>The generated layouts are cached in the {@link PreRunConfiguration#layoutCachePath()}, if
+     * it is set.
+     */
+    public RoomGenerator() {
+        this(
+                PreRunConfiguration.layoutCachePath() == null
+                        ? null
+                        : new LayoutCache(Paths.get(PreRunConfiguration.layoutCachePath())));
+    }
+
+    /**
+     * Create a new generator.
+     *
+     * @param cache Cache for the generated layouts, or null to generate each layout
+     */
+    public RoomGenerator(LayoutCache cache) {
+        this.cache = cache;
+    }
+
     /**
      * Generates a random room layout with the given parameters.
      *
+     * <p>The seed of the room is taken from {@link core.utils.GameRandom#RANDOM}.
+     *
      * @param size Size of the room
      * @param doors Array of DoorDirections to specify where doors should be generated
      * @return The generated room layout
      */
     public LevelElement[][] layout(LevelSize size, LevelNode[] doors) {
-        return generateRoom(size, RANDOM.nextLong(), doors);
+        return layout(size, RANDOM.nextLong(), doors);
+    }
+
+    /**
+     * Generates the room layout for the given seed.
+     *
+     * <p>The same size, seed and door directions always result in the same layout.
+     *
+     * @param size Size of the room
+     * @param seed Seed to initialize the random number generator
+     * @param doors Array of DoorDirections to specify where doors should be generated
+     * @return The generated room layout
+     */
+    public LevelElement[][] layout(LevelSize size, long seed, LevelNode[] doors) {
+        if (cache == null) return generateRoom(size, seed, doors);
+        return cache.layout(size, seed, doorMask(doors), () -> generateRoom(size, seed, doors));
+    }
+
+    private static int doorMask(LevelNode[] doors) {
+        int mask = 0;
+        for (Direction direction : Direction.values())
+            if (doors[direction.value()] != null) mask |= 1 << direction.value();
+        return mask;
     }
 
     /**
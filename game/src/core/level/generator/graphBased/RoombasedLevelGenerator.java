@@ -15,9 +15,15 @@ import core.level.generator.graphBased.levelGraph.Direction;
 import core.level.generator.graphBased.levelGraph.LevelGraph;
 import core.level.generator.graphBased.levelGraph.LevelNode;
 import core.level.utils.*;
+import core.utils.GameRandom;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
@@ -30,10 +36,45 @@ public class RoombasedLevelGenerator {
 
     private static final Logger LOGGER = Logger.getLogger(RoombasedLevelGenerator.class.getName());
 
+    /**
+     * Number of threads that generate the rooms of a level.
+     *
+     * <p>Half of the processors, so a level that is generated in the background leaves the other
+     * half to the game loop and the {@link core.game.SystemScheduler}.
+     */
+    private static final int ROOM_THREADS =
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // not the common ForkJoinPool, the SystemScheduler executes the systems on that pool
+    private static final ExecutorService ROOM_EXECUTOR =
+            Executors.newFixedThreadPool(
+                    ROOM_THREADS,
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "room-generator");
+                        // do not keep the game alive
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    /**
+     * Get a room-based level for the given seed.
+     *
+     * <p>The level graph, the layouts and designs of the rooms and the entities in the rooms are
+     * all generated with the numbers of the given seed (see {@link GameRandom#withSeed}), so the
+     * same seed always results in the same level, even if the level is generated on another thread
+     * while the game is running.
+     *
+     * @param seed Seed of the level.
+     * @return The generated level.
+     */
+    public static ILevel level(long seed) {
+        return GameRandom.withSeed(seed, RoombasedLevelGenerator::level);
+    }
+
     public static ILevel level() {
-        Set<Set<Entity>> entities = new HashSet<>();
+        Set<Set<Entity>> entities = new LinkedHashSet<>();
         for (int i = 0; i < 10; i++) {
-            Set<Entity> set = new HashSet<>();
+            Set<Entity> set = new LinkedHashSet<>();
             entities.add(set);
             if (i == 10 / 2) {
                 try {
@@ -87,20 +128,11 @@ public class RoombasedLevelGenerator {
      * @return The generated level.
      */
     public static ILevel level(final LevelGraph graph, DesignLabel designLabel) {
-        RoomGenerator roomG = new RoomGenerator();
         LOGGER.info(graph.toDot());
-        // generate TileLevel for each Node
-        graph.nodes()
-                .forEach(
-                        node ->
-                                node.level(
-                                        new TileLevel(
-                                                roomG.layout(sizeFor(node), node.neighbours()),
-                                                designLabel)));
+        generateRooms(new ArrayList<>(graph.nodes()), designLabel);
 
         List<LevelNode> removeExitFrom = new ArrayList<>(graph.nodes());
-        Random random = new Random();
-        int randomIndex = random.nextInt(removeExitFrom.size());
+        int randomIndex = GameRandom.RANDOM.nextInt(removeExitFrom.size());
         removeExitFrom.remove(randomIndex);
         for (LevelNode node : removeExitFrom) {
             ILevel level = node.level();
@@ -118,6 +150,53 @@ public class RoombasedLevelGenerator {
         return graph.root().level();
     }
 
+    /**
+     * Generate the TileLevel for each given node.
+     *
+     * <p>The rooms are independent of each other until their doors are connected, so they are
+     * generated in parallel on at most {@link #ROOM_THREADS} threads of their own. Each room gets
+     * its own {@link RoomGenerator} and its own seed. The seeds are drawn in the order of the
+     * nodes, so the rooms do not depend on the order in which the threads generate them.
+     *
+     * @param nodes Nodes to generate the rooms for.
+     * @param designLabel Design of the rooms.
+     */
+    private static void generateRooms(List<LevelNode> nodes, DesignLabel designLabel) {
+        long[] seeds = new long[nodes.size()];
+        for (int i = 0; i < seeds.length; i++) seeds[i] = GameRandom.RANDOM.nextLong();
+        List<Callable<Void>> rooms = new ArrayList<>(nodes.size());
+        for (int i = 0; i < seeds.length; i++) {
+            LevelNode node = nodes.get(i);
+            long seed = seeds[i];
+            rooms.add(
+                    () -> {
+                        generateRoom(node, seed, designLabel);
+                        return null;
+                    });
+        }
+        try {
+            for (Future<Void> room : ROOM_EXECUTOR.invokeAll(rooms)) room.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the rooms.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException("Could not generate the rooms.", e.getCause());
+        }
+    }
+
+    private static void generateRoom(LevelNode node, long seed, DesignLabel designLabel) {
+        RoomGenerator roomG = new RoomGenerator();
+        node.level(
+                GameRandom.withSeed(
+                        seed,
+                        () ->
+                                new TileLevel(
+                                        roomG.layout(sizeFor(node), node.neighbours()),
+                                        designLabel)));
+    }
+
     private static LevelSize sizeFor(LevelNode node) {
         AtomicInteger count = new AtomicInteger();
         node.entities()
@@ -1,5 +1,7 @@
 package core.level.generator.graphBased.levelGraph;
 
+import core.utils.GameRandom;
+
 import java.util.Random;
 
 /** The different directions in which nodes can be connected to each other. */
@@ -9,7 +11,7 @@ public enum Direction {
     SOUTH(2),
     WEST(3);
 
-    private static final Random RANDOM = new Random();
+    private static final Random RANDOM = GameRandom.RANDOM;
     private final int value;
 
     Direction(int value) {
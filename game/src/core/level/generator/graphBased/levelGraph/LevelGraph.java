@@ -1,6 +1,7 @@
 package core.level.generator.graphBased.levelGraph;
 
 import core.Entity;
+import core.utils.GameRandom;
 import core.utils.Tuple;
 
 import java.util.*;
@@ -28,8 +29,8 @@ import java.util.*;
  * <p>Use {@link #add(Set)} to add a new entity collection and thus a new node to the graph.
  */
 public class LevelGraph {
-    private static final Random RANDOM = new Random();
-    private final Set<LevelNode> nodes = new HashSet<>();
+    private static final Random RANDOM = GameRandom.RANDOM;
+    private final Set<LevelNode> nodes = new LinkedHashSet<>();
     private LevelNode root;
 
     /**
@@ -141,7 +142,7 @@ public class LevelGraph {
             origin.add(adapter);
         } else {
             // connect the adapter
-            Collections.shuffle(nodes);
+            Collections.shuffle(nodes, RANDOM);
             LevelNode on = nodes.get(0);
             Optional<LevelNode> old = on.forceNeighbor(adapter, direction);
             adapter.forceNeighbor(on, Direction.opposite(direction));
@@ -193,8 +194,8 @@ public class LevelGraph {
             List<LevelNode> listA = new ArrayList<>(nodes().stream().toList());
             listA.removeIf(n -> n.neighboursCount() == LevelNode.MAX_NEIGHBOURS);
             List<LevelNode> listB = new ArrayList<>(listA);
-            Collections.shuffle(listA);
-            Collections.shuffle(listB);
+            Collections.shuffle(listA, RANDOM);
+            Collections.shuffle(listB, RANDOM);
 
             int connected = 0;
             for (LevelNode a : listA)
@@ -235,14 +236,14 @@ public class LevelGraph {
      * @return copy of the set with all nodes in this graph.
      */
     public Set<LevelNode> nodes() {
-        return new HashSet<>(nodes);
+        return new LinkedHashSet<>(nodes);
     }
 
     private boolean add(final LevelNode node) {
         if (node.neighboursCount() == LevelNode.MAX_NEIGHBOURS) return false;
         List<LevelNode> shuffledNodes = new ArrayList<>(nodes().stream().toList());
         shuffledNodes.remove(node);
-        Collections.shuffle(shuffledNodes);
+        Collections.shuffle(shuffledNodes, RANDOM);
         for (LevelNode n : shuffledNodes) {
             if (n.connect(node)) return true;
         }
@@ -260,7 +261,7 @@ public class LevelGraph {
         this.nodes.addAll(nodes);
         alreadyVisited.add(this);
         // collect each other node
-        Set<LevelGraph> otherGraphs = new HashSet<>();
+        Set<LevelGraph> otherGraphs = new LinkedHashSet<>();
         for (LevelNode n : nodes) otherGraphs.add(n.originGraph());
         for (LevelGraph og : otherGraphs)
             if (!alreadyVisited.contains(og)) og.addNodesToNodeList(nodes, alreadyVisited);
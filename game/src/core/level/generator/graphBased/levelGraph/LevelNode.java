@@ -2,6 +2,7 @@ package core.level.generator.graphBased.levelGraph;
 
 import core.Entity;
 import core.level.elements.ILevel;
+import core.utils.GameRandom;
 
 import java.util.*;
 
@@ -50,7 +51,7 @@ public class LevelNode {
      *     to differentiate nodes in connected graphs.
      */
     public LevelNode(final LevelGraph originGraph) {
-        this(new HashSet<>(), originGraph);
+        this(new LinkedHashSet<>(), originGraph);
     }
 
     /**
@@ -72,7 +73,7 @@ public class LevelNode {
     public boolean connect(final LevelNode other) {
         List<Direction> freeDirections = possibleConnectDirections(other);
         if (freeDirections.size() != 0) {
-            Collections.shuffle(freeDirections);
+            Collections.shuffle(freeDirections, GameRandom.RANDOM);
             if (other.connect(this, Direction.opposite(freeDirections.get(0))))
                 return connect(other, freeDirections.get(0));
         }
@@ -107,7 +108,7 @@ public class LevelNode {
      * @return The entity collection of this node.
      */
     public Set<Entity> entities() {
-        return new HashSet<>(entities);
+        return new LinkedHashSet<>(entities);
     }
 
     /**
@@ -252,7 +253,7 @@ public class LevelNode {
      * @return A {@code Set} of directions indicating neighboring nodes from other graphs.
      */
     public Set<Direction> whereNeighboursFromOtherGraphs() {
-        Set<Direction> dirs = new HashSet<>();
+        Set<Direction> dirs = EnumSet.noneOf(Direction.class);
         for (Direction direction : Direction.values()) {
             int directionValue = direction.value();
             if (neighbours[directionValue] != null
@@ -1,5 +1,7 @@
 package core.level.utils;
 
+import core.utils.GameRandom;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -15,7 +17,7 @@ public enum DesignLabel {
     RAINBOW(1); // 1% chance
 
     private final int chance;
-    private static final Random RANDOM = new Random();
+    private static final Random RANDOM = GameRandom.RANDOM;
     private static final List<DesignLabel> VALUES = new ArrayList<>();
 
     static {
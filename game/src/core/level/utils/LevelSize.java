@@ -1,5 +1,7 @@
 package core.level.utils;
 
+import core.utils.GameRandom;
+
 import java.util.List;
 import java.util.Random;
 
@@ -11,7 +13,7 @@ public enum LevelSize {
 
     private static final List<LevelSize> VALUES = List.of(values());
     private static final int SIZE = VALUES.size();
-    private static final Random RANDOM = new Random();
+    private static final Random RANDOM = GameRandom.RANDOM;
 
     /**
      * @return A random enum-value
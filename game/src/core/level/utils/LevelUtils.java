@@ -7,6 +7,7 @@ import core.Game;
 import core.components.PositionComponent;
 import core.level.Tile;
 import core.level.elements.tile.DoorTile;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 
@@ -14,7 +15,7 @@ import java.util.*;
 
 public class LevelUtils {
 
-    private static final Random random = new Random();
+    private static final Random random = GameRandom.RANDOM;
 
     /**
      * Finds the path from the given point to another given point.
@@ -2,7 +2,106 @@ package core.level.utils;
 
 import core.level.Tile;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Selects the texture of a tile based on its type and the types of its 8 neighbours.
+ *
+ * <p>The texture only depends on the type of the tile and on a few properties of its neighbours:
+ * for the neighbours above, below, left and right it matters if they are a wall, a door, a hole or
+ * accessible; for the diagonal neighbours only if they are a hole or accessible. These properties
+ * are encoded into a single number, the neighbourhood of the tile (see {@link
+ * #neighbourhood(LevelElement[][], int, int)}).
+ *
+ * <p>The rules below are evaluated only once for each type and neighbourhood, and the result is
+ * stored in a table. Every other tile with the same type and neighbourhood reads its texture from
+ * the table. The texture paths are created once for each {@link DesignLabel}, so all tiles with
+ * the same texture share the same string.
+ */
 public class TileTextureFactory {
+    // classes of the neighbours above, right, below and left
+    private static final int OTHER = 0;
+    private static final int WALL = 1;
+    private static final int DOOR = 2;
+    private static final int HOLE = 3;
+    private static final int ACCESSIBLE = 4;
+    private static final int STRAIGHT_CLASSES = 5;
+    // classes of the diagonal neighbours
+    private static final int DIAGONAL_HOLE = 1;
+    private static final int DIAGONAL_ACCESSIBLE = 2;
+    private static final int DIAGONAL_CLASSES = 3;
+    private static final int NEIGHBOURHOODS =
+            STRAIGHT_CLASSES
+                    * STRAIGHT_CLASSES
+                    * STRAIGHT_CLASSES
+                    * STRAIGHT_CLASSES
+                    * DIAGONAL_CLASSES
+                    * DIAGONAL_CLASSES
+                    * DIAGONAL_CLASSES
+                    * DIAGONAL_CLASSES;
+    // offsets of the neighbours, the first four are the straight ones
+    private static final int[] DX = {0, 1, 0, -1, 1, 1, -1, -1};
+    private static final int[] DY = {1, 0, -1, 0, 1, -1, -1, 1};
+    // an element of each class, used to rebuild a neighbourhood
+    private static final LevelElement[] STRAIGHT_ELEMENTS = {
+        LevelElement.SKIP,
+        LevelElement.WALL,
+        LevelElement.DOOR,
+        LevelElement.HOLE,
+        LevelElement.FLOOR
+    };
+    private static final LevelElement[] DIAGONAL_ELEMENTS = {
+        LevelElement.SKIP, LevelElement.HOLE, LevelElement.FLOOR
+    };
+    private static final Coordinate CENTER = new Coordinate(1, 1);
+
+    private static final String[] TEXTURES = {
+        "floor/empty",
+        "floor/floor_1",
+        "floor/floor_ladder",
+        "floor/floor_hole",
+        "floor/floor_hole1",
+        "door/top",
+        "door/right",
+        "door/left",
+        "door/bottom",
+        "wall/wall_cross_upper_left_bottom_right",
+        "wall/wall_cross_upper_right_bottom_left",
+        "wall/wall_inner_corner_bottom_left",
+        "wall/wall_inner_corner_bottom_right",
+        "wall/wall_inner_corner_upper_right",
+        "wall/wall_inner_corner_upper_left",
+        "wall/wall_outer_corner_bottom_left",
+        "wall/wall_outer_corner_bottom_right",
+        "wall/wall_outer_corner_upper_right",
+        "wall/wall_outer_corner_upper_left",
+        "wall/wall_right",
+        "wall/wall_left",
+        "wall/wall_top",
+        "wall/wall_bottom"
+    };
+    private static final Map<String, Integer> TEXTURE_IDS = new HashMap<>();
+    // [design][texture id] -> full texture path
+    private static final String[][] PATHS =
+            new String[DesignLabel.values().length][TEXTURES.length];
+    /*
+     * [element][neighbourhood] -> texture id + 1, 0 if not resolved yet.
+     *
+     * The rooms of a level are generated in parallel. Threads that resolve the same entry at the
+     * same time write the same value, so the table needs no lock.
+     */
+    private static final byte[][] TABLE = new byte[LevelElement.values().length][NEIGHBOURHOODS];
+
+    static {
+        for (int id = 0; id < TEXTURES.length; id++) TEXTURE_IDS.put(TEXTURES[id], id);
+        for (DesignLabel design : DesignLabel.values()) {
+            String prefixPath = "dungeon/" + design.name().toLowerCase() + "/";
+            for (int id = 0; id < TEXTURES.length; id++)
+                PATHS[design.ordinal()][id] = (prefixPath + TEXTURES[id] + ".png").intern();
+        }
+    }
+
     /**
      * Helper record class for {@link TileTextureFactory}.
      *
@@ -24,35 +123,10 @@ public class TileTextureFactory {
      * @return Path to texture
      */
     public static String findTexturePath(LevelPart levelPart) {
-        String prefixPath = "dungeon/" + levelPart.design().name().toLowerCase() + "/";
-
-        String path = findTexturePathFloor(levelPart);
-        if (path != null) {
-            return prefixPath + path + ".png";
-        }
-
-        path = findTexturePathDoor(levelPart);
-        if (path != null) {
-            return prefixPath + path + ".png";
-        }
-
-        path = findTexturePathInnerCorner(levelPart);
-        if (path != null) {
-            return prefixPath + path + ".png";
-        }
-
-        path = findTexturePathOuterCorner(levelPart);
-        if (path != null) {
-            return prefixPath + path + ".png";
-        }
-
-        path = findTexturePathWall(levelPart);
-        if (path != null) {
-            return prefixPath + path + ".png";
-        }
-
-        // Error state
-        return prefixPath + "floor/empty.png";
+        return texturePath(
+                levelPart.design(),
+                levelPart.element(),
+                neighbourhood(levelPart.layout(), levelPart.position().x, levelPart.position().y));
     }
 
     /**
@@ -75,16 +149,180 @@ public class TileTextureFactory {
      * @return Path to texture
      */
     public static String findTexturePath(Tile element, Tile[][] layout, LevelElement elementType) {
-        LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
-        for (int x = 0; x < layout[0].length; x++) {
-            for (int y = 0; y < layout.length; y++) {
-                elementLayout[y][x] = layout[y][x].levelElement();
+        return texturePath(
+                element.designLabel(),
+                elementType,
+                neighbourhood(layout, element.coordinate().x, element.coordinate().y));
+    }
+
+    /**
+     * Checks which texture must be used for the passed field, without the design.
+     *
+     * <p>Levels that store many tiles can store this id instead of the path, and get the path with
+     * {@link #texturePath(DesignLabel, int)}.
+     *
+     * @param levelPart a part of a level, the design is ignored
+     * @return id of the texture
+     */
+    public static int findTextureId(LevelPart levelPart) {
+        return textureId(
+                levelPart.element(),
+                neighbourhood(levelPart.layout(), levelPart.position().x, levelPart.position().y));
+    }
+
+    /**
+     * Get the path of a texture.
+     *
+     * @param design Design of the texture
+     * @param textureId id of the texture, see {@link #findTextureId(LevelPart)}
+     * @return Path to texture
+     */
+    public static String texturePath(DesignLabel design, int textureId) {
+        return PATHS[design.ordinal()][textureId];
+    }
+
+    /**
+     * Encode the neighbours of the given cell into a single number.
+     *
+     * <p>Each neighbour is a digit of the number: the straight neighbours have one of {@value
+     * #STRAIGHT_CLASSES} classes (other, wall, door, hole or accessible), the diagonal neighbours
+     * one of {@value #DIAGONAL_CLASSES} (other, hole or accessible). Neighbours outside the layout
+     * are of the class "other".
+     *
+     * @param layout The level
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return the neighbourhood of the cell
+     */
+    private static int neighbourhood(LevelElement[][] layout, int x, int y) {
+        int neighbourhood = 0;
+        for (int d = 0; d < DX.length; d++) {
+            int nx = x + DX[d];
+            int ny = y + DY[d];
+            LevelElement neighbour = null;
+            if (ny >= 0 && ny < layout.length && nx >= 0 && nx < layout[ny].length)
+                neighbour = layout[ny][nx];
+            neighbourhood = encode(neighbourhood, d, neighbour);
+        }
+        return neighbourhood;
+    }
+
+    /**
+     * Encode the neighbours of the given cell into a single number.
+     *
+     * <p>Reads the types of the tiles directly, so the layout does not have to be converted.
+     *
+     * @param layout The level
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return the neighbourhood of the cell
+     * @see #neighbourhood(LevelElement[][], int, int)
+     */
+    private static int neighbourhood(Tile[][] layout, int x, int y) {
+        int neighbourhood = 0;
+        for (int d = 0; d < DX.length; d++) {
+            int nx = x + DX[d];
+            int ny = y + DY[d];
+            LevelElement neighbour = null;
+            if (ny >= 0 && ny < layout.length && nx >= 0 && nx < layout[ny].length) {
+                Tile tile = layout[ny][nx];
+                if (tile != null) neighbour = tile.levelElement();
+            }
+            neighbourhood = encode(neighbourhood, d, neighbour);
+        }
+        return neighbourhood;
+    }
+
+    private static int encode(int neighbourhood, int direction, LevelElement neighbour) {
+        if (direction < 4) return neighbourhood * STRAIGHT_CLASSES + straightClass(neighbour);
+        return neighbourhood * DIAGONAL_CLASSES + diagonalClass(neighbour);
+    }
+
+    private static int straightClass(LevelElement element) {
+        if (element == null) return OTHER;
+        if (element == LevelElement.WALL) return WALL;
+        if (element == LevelElement.DOOR) return DOOR;
+        if (element == LevelElement.HOLE) return HOLE;
+        if (element.value()) return ACCESSIBLE;
+        return OTHER;
+    }
+
+    private static int diagonalClass(LevelElement element) {
+        if (element == null) return OTHER;
+        if (element == LevelElement.HOLE) return DIAGONAL_HOLE;
+        if (element.value()) return DIAGONAL_ACCESSIBLE;
+        return OTHER;
+    }
+
+    private static String texturePath(DesignLabel design, LevelElement element, int neighbourhood) {
+        return texturePath(design, textureId(element, neighbourhood));
+    }
+
+    private static int textureId(LevelElement element, int neighbourhood) {
+        byte[] table = TABLE[element.ordinal()];
+        int id = table[neighbourhood] - 1;
+        if (id < 0) {
+            id = resolve(element, neighbourhood);
+            table[neighbourhood] = (byte) (id + 1);
+        }
+        return id;
+    }
+
+    /**
+     * Evaluate the rules for the given type and neighbourhood.
+     *
+     * <p>Rebuilds the neighbourhood as a 3x3 layout, with one element of each class.
+     *
+     * @param element type of the tile
+     * @param neighbourhood the neighbourhood of the tile
+     * @return id of the texture
+     */
+    private static int resolve(LevelElement element, int neighbourhood) {
+        LevelElement[][] layout = new LevelElement[3][3];
+        layout[CENTER.y][CENTER.x] = element;
+        for (int d = DX.length - 1; d >= 0; d--) {
+            LevelElement neighbour;
+            if (d < 4) {
+                neighbour = STRAIGHT_ELEMENTS[neighbourhood % STRAIGHT_CLASSES];
+                neighbourhood /= STRAIGHT_CLASSES;
+            } else {
+                neighbour = DIAGONAL_ELEMENTS[neighbourhood % DIAGONAL_CLASSES];
+                neighbourhood /= DIAGONAL_CLASSES;
             }
+            layout[CENTER.y + DY[d]][CENTER.x + DX[d]] = neighbour;
+        }
+        String path = findRelativeTexturePath(new LevelPart(element, null, layout, CENTER));
+        return TEXTURE_IDS.get(path);
+    }
+
+    private static String findRelativeTexturePath(LevelPart levelPart) {
+        String path = findTexturePathFloor(levelPart);
+        if (path != null) {
+            return path;
+        }
+
+        path = findTexturePathDoor(levelPart);
+        if (path != null) {
+            return path;
+        }
+
+        path = findTexturePathInnerCorner(levelPart);
+        if (path != null) {
+            return path;
+        }
+
+        path = findTexturePathOuterCorner(levelPart);
+        if (path != null) {
+            return path;
         }
-        elementLayout[element.coordinate().y][element.coordinate().x] = elementType;
-        return findTexturePath(
-                new LevelPart(
-                        elementType, element.designLabel(), elementLayout, element.coordinate()));
+
+        path = findTexturePathWall(levelPart);
+        if (path != null) {
+            return path;
+        }
+
+        // Error state
+        return "floor/empty";
     }
 
     private static String findTexturePathFloor(LevelPart levelPart) {
@@ -21,6 +21,8 @@ public final class AISystem extends System {
 
     public AISystem() {
         super(AIComponent.class);
+        // no access is declared: the AIs use skills, which create entities and add components, so
+        // this system is always executed alone
     }
 
     @Override
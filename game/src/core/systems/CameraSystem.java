@@ -2,8 +2,6 @@ package core.systems;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.math.collision.BoundingBox;
 
 import core.Entity;
 import core.Game;
@@ -11,6 +9,7 @@ import core.System;
 import core.components.CameraComponent;
 import core.components.PositionComponent;
 import core.utils.Constants;
+import core.utils.IRenderable;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 
@@ -24,13 +23,29 @@ import core.utils.components.MissingComponentException;
  * <p>In {@link #isPointInFrustum(float, float)} also checks if points are visible on screen and
  * should be rendered.
  *
+ * <p>Each time the camera is updated, the visible part of the level is stored as a rectangle of
+ * tile indices (see {@link #firstVisibleColumn()} and the related methods). Visibility checks only
+ * compare against this rectangle and do not allocate any objects.
+ *
  * @see CameraComponent
  */
-public final class CameraSystem extends System {
+public final class CameraSystem extends System implements IRenderable {
 
     private static final OrthographicCamera CAMERA =
             new OrthographicCamera(Constants.viewportWidth(), Constants.viewportHeight());
 
+    /** Margin around the viewport, so partly visible sprites are still drawn. */
+    private static final float FRUSTUM_OFFSET = 1f;
+
+    private static float visibleLeft;
+    private static float visibleBottom;
+    private static float visibleRight;
+    private static float visibleTop;
+
+    static {
+        updateVisibleArea();
+    }
+
     public CameraSystem() {
         super(CameraComponent.class, PositionComponent.class);
     }
@@ -46,7 +61,40 @@ public final class CameraSystem extends System {
             CAMERA.viewportWidth = Constants.viewportWidth();
             CAMERA.viewportHeight = Constants.viewportWidth() / aspectRatio;
         }
+        updateCamera();
+    }
+
+    /**
+     * Update the matrices of the camera and the visible area.
+     *
+     * <p>Call this instead of {@link OrthographicCamera#update()}, otherwise {@link
+     * #isPointInFrustum(float, float)} will use the visible area of the last update.
+     */
+    public static void updateCamera() {
         CAMERA.update();
+        updateVisibleArea();
+    }
+
+    private static void updateVisibleArea() {
+        float halfWidth = CAMERA.viewportWidth * CAMERA.zoom / 2f;
+        float halfHeight = CAMERA.viewportHeight * CAMERA.zoom / 2f;
+        visibleLeft = CAMERA.position.x - halfWidth - FRUSTUM_OFFSET;
+        visibleRight = CAMERA.position.x + halfWidth + FRUSTUM_OFFSET;
+        visibleBottom = CAMERA.position.y - halfHeight - FRUSTUM_OFFSET;
+        visibleTop = CAMERA.position.y + halfHeight + FRUSTUM_OFFSET;
+    }
+
+    /**
+     * Focus the camera on the interpolated position of the followed entity.
+     *
+     * <p>Without this, the camera would jump from tick to tick while the entities are drawn
+     * smoothly in between.
+     *
+     * @param alpha progress between the previous (0) and the current (1) logic tick
+     */
+    @Override
+    public void render(float alpha) {
+        entityStream().forEach(entity -> focus(entity, alpha));
     }
 
     private void focus() {
@@ -66,6 +114,16 @@ public final class CameraSystem extends System {
         focus(pc.position());
     }
 
+    private void focus(Entity entity, float alpha) {
+        PositionComponent pc =
+                entity.fetch(PositionComponent.class)
+                        .orElseThrow(
+                                () ->
+                                        MissingComponentException.build(
+                                                entity, PositionComponent.class));
+        CAMERA.position.set(pc.interpolatedX(alpha), pc.interpolatedY(alpha), 0);
+    }
+
     private void focus(Point point) {
         CAMERA.position.set(point.x, point.y, 0);
     }
@@ -73,14 +131,56 @@ public final class CameraSystem extends System {
     /**
      * Checks if point (x,y) is probably visible on screen. Points that are not visible should not
      * be rendered.
+     *
+     * <p>The point is compared against the visible area of the last {@link #updateCamera()}, with
+     * a margin of one tile.
      */
     public static boolean isPointInFrustum(float x, float y) {
-        final float OFFSET = 1f;
-        BoundingBox bounds =
-                new BoundingBox(
-                        new Vector3(x - OFFSET, y - OFFSET, 0),
-                        new Vector3(x + OFFSET, y + OFFSET, 0));
-        return CAMERA.frustum.boundsInFrustum(bounds);
+        return x >= visibleLeft && x <= visibleRight && y >= visibleBottom && y <= visibleTop;
+    }
+
+    /**
+     * Get the index of the first tile column that is (probably) visible on screen.
+     *
+     * <p>The value is not clamped to the size of the level and may be negative.
+     *
+     * @return the lowest visible x-index
+     */
+    public static int firstVisibleColumn() {
+        return (int) Math.floor(visibleLeft);
+    }
+
+    /**
+     * Get the index of the last tile column that is (probably) visible on screen.
+     *
+     * <p>The value is not clamped to the size of the level.
+     *
+     * @return the highest visible x-index
+     */
+    public static int lastVisibleColumn() {
+        return (int) Math.floor(visibleRight);
+    }
+
+    /**
+     * Get the index of the first tile row that is (probably) visible on screen.
+     *
+     * <p>The value is not clamped to the size of the level and may be negative.
+     *
+     * @return the lowest visible y-index
+     */
+    public static int firstVisibleRow() {
+        return (int) Math.floor(visibleBottom);
+    }
+
+    /**
+     * Get the index of the last tile row that is (probably) visible on screen.
+     *
+     * <p>The value is not clamped to the size of the level.
+     *
+     * @return the highest visible y-index
+     */
+    public static int lastVisibleRow() {
+        return (int) Math.floor(visibleTop);
     }
 
     /**
@@ -3,12 +3,19 @@ package core.systems;
 import core.Entity;
 import core.System;
 import core.components.CollideComponent;
+import core.components.PositionComponent;
 import core.level.Tile;
 import core.utils.components.MissingComponentException;
+import core.utils.components.collision.BroadPhase;
+import core.utils.components.collision.HitboxBuffer;
+import core.utils.components.collision.UniformGridBroadPhase;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Set;
 
 /**
  * System to check for collisions between two entities.
@@ -21,105 +28,141 @@ import java.util.stream.Stream;
  * <p>Each CollideComponent should only be informed when a collision begins or ends. For this a map
  * with all currently active collisions is stored and allows informing the entities when a collision
  * ended.
+ *
+ * <p>To avoid testing every entity against every other entity, the hitboxes are collected in a
+ * {@link HitboxBuffer} and a {@link BroadPhase} only reports the pairs that overlap. The broad
+ * phase can be selected at construction. By default, the {@link UniformGridBroadPhase} is used. For
+ * levels with very uneven entity density, the {@link
+ * core.utils.components.collision.SweepAndPruneBroadPhase} may be the better choice.
  */
 public final class CollisionSystem extends System {
 
     private final Map<CollisionKey, CollisionData> collisions = new HashMap<>();
+    private final Set<CollisionKey> currentCollisions = new HashSet<>();
+    private final HitboxBuffer hitboxes = new HitboxBuffer();
+    private final BroadPhase broadPhase;
+    private final BroadPhase.PairConsumer onPair = this::onCollision;
+    private int[] entityIds = new int[64];
 
-    public CollisionSystem() {
+    /**
+     * Create a new CollisionSystem with the given broad phase.
+     *
+     * @param broadPhase the strategy used to find the overlapping hitboxes
+     */
+    public CollisionSystem(final BroadPhase broadPhase) {
         super(CollideComponent.class);
+        this.broadPhase = broadPhase;
+    }
+
+    /** Create a new CollisionSystem that uses a {@link UniformGridBroadPhase}. */
+    public CollisionSystem() {
+        this(new UniformGridBroadPhase());
     }
 
     /**
-     * Test every CollideEntity with every other CollideEntity for collision.
+     * Check every CollideEntity for collisions with the other CollideEntities.
      *
      * <p>The collision check will be performed only once for a given tuple of entities, i.e. when
      * entity A does collide with entity B it also means B collides with A.
      */
     @Override
     public void execute() {
-        entityStream().flatMap(this::createDataPairs).forEach(this::onEnterLeaveCheck);
+        hitboxes.clear();
+        entityStream().forEach(this::collectHitbox);
+        currentCollisions.clear();
+        broadPhase.findPairs(hitboxes, onPair);
+        onLeaveCheck();
     }
 
     /**
-     * Create a stream of pairs of entities.
-     *
-     * <p>Pair a given entity with every other entity with a higher id.
+     * Put the hitbox of the given entity in the {@link #hitboxes} buffer.
      *
-     * @param a Entity which is the lower id partner
-     * @return the stream which contains every valid pair of Entities
+     * @param entity the entity with a {@link CollideComponent}
      */
-    private Stream<CollisionData> createDataPairs(Entity a) {
-        return entityStream().filter(b -> isSmallerThen(a, b)).map(b -> newDataPair(a, b));
+    private void collectHitbox(Entity entity) {
+        CollideComponent cc =
+                entity.fetch(CollideComponent.class)
+                        .orElseThrow(
+                                () ->
+                                        MissingComponentException.build(
+                                                entity, CollideComponent.class));
+        PositionComponent pc = position(entity);
+        float minX = pc.x() + cc.offsetX();
+        float minY = pc.y() + cc.offsetY();
+        hitboxes.add(entity, cc, minX, minY, minX + cc.sizeX(), minY + cc.sizeY());
     }
 
     /**
-     * Compare the entities.
+     * Called by the {@link #broadPhase} for each overlapping pair of hitboxes.
      *
-     * <p>This comparison is applied in the {@link #createDataPairs(Entity a) createDataPairs}
-     * method to create only tuples with entities with higher ID. This avoids performing a collision
-     * check twice for a pair of entities, first for (a,b) and second for (b,a).
-     *
-     * @param a first Entity
-     * @param b second Entity
-     * @return true when the comparison between a and b is less than zero, otherwise false
-     */
-    private boolean isSmallerThen(Entity a, Entity b) {
-        return a.compareTo(b) < 0;
-    }
-
-    /**
-     * Create a pair of CollideComponents which is the used to check whether a collision is
-     * happening and to store in the internal map. Which allows informing the CollideComponents
-     * about an ended Collision
+     * <p>Only allows a new collision to call the onEnter of the hitboxes. An ongoing collision is
+     * not calling the onEnter of the hitboxes.
      *
-     * @param a The first Entity
-     * @param b the second Entity
-     * @return the pair of CollideComponents
+     * @param indexA index of the first hitbox in the {@link #hitboxes} buffer
+     * @param indexB index of the second hitbox in the {@link #hitboxes} buffer
      */
-    private CollisionData newDataPair(Entity a, Entity b) {
-        CollideComponent cca =
-                a.fetch(CollideComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(a, CollideComponent.class));
-        CollideComponent ccb =
-                b.fetch(CollideComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(b, CollideComponent.class));
-
-        return new CollisionData(a, cca, b, ccb);
+    private void onCollision(int indexA, int indexB) {
+        // the entity with the lower id is always the first partner
+        if (hitboxes.entity(indexA).compareTo(hitboxes.entity(indexB)) > 0) {
+            int tmp = indexA;
+            indexA = indexB;
+            indexB = tmp;
+        }
+        Entity ea = hitboxes.entity(indexA);
+        Entity eb = hitboxes.entity(indexB);
+        CollisionKey key = new CollisionKey(ea.id(), eb.id());
+        currentCollisions.add(key);
+        if (!collisions.containsKey(key)) {
+            // a new collision should call the onEnter on both entities
+            CollisionData cdata =
+                    new CollisionData(
+                            ea, hitboxes.component(indexA), eb, hitboxes.component(indexB));
+            collisions.put(key, cdata);
+            Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
+            cdata.a.onEnter(cdata.ea, cdata.eb, d);
+            cdata.b.onEnter(cdata.eb, cdata.ea, inverse(d));
+        }
     }
 
     /**
-     * Check whether a new collision is happening or whether a collision has ended.
+     * Check whether a collision has ended.
      *
-     * <p>Only allows a new collision to call the onEnter of the hitboxes. An ongoing collision is
-     * not calling the onEnter of the hitboxes. When a previous collision existed and no longer is
-     * an active collision the onLeave is called. The onLeave is only called once.
+     * <p>When a previous collision existed and no longer is an active collision the onLeave is
+     * called. The onLeave is only called once.
      *
-     * @param cdata the CollisionData where a collision change may happen
+     * <p>Like before, only pairs of entities that are both still processed by this system are
+     * checked.
      */
-    private void onEnterLeaveCheck(CollisionData cdata) {
-        CollisionKey key = new CollisionKey(cdata.ea.id(), cdata.eb.id());
-
-        if (checkForCollision(cdata.ea, cdata.a, cdata.eb, cdata.b)) {
-            // a collision is currently happening
-            if (!collisions.containsKey(key)) {
-                // a new collision should call the onEnter on both entities
-                collisions.put(key, cdata);
-                Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
-                cdata.a.onEnter(cdata.ea, cdata.eb, d);
-                cdata.b.onEnter(cdata.eb, cdata.ea, inverse(d));
-            }
-        } else if (collisions.remove(key) != null) {
+    private void onLeaveCheck() {
+        if (collisions.size() == currentCollisions.size()) return;
+        int count = hitboxes.size();
+        if (entityIds.length < count) entityIds = new int[Math.max(count, entityIds.length * 2)];
+        for (int i = 0; i < count; i++) entityIds[i] = hitboxes.entity(i).id();
+        Arrays.sort(entityIds, 0, count);
+
+        Iterator<Map.Entry<CollisionKey, CollisionData>> it = collisions.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<CollisionKey, CollisionData> entry = it.next();
+            CollisionKey key = entry.getKey();
+            if (currentCollisions.contains(key)
+                    || Arrays.binarySearch(entityIds, 0, count, key.a) < 0
+                    || Arrays.binarySearch(entityIds, 0, count, key.b) < 0) continue;
             // a collision was happening and the two entities are no longer colliding on Leave
             // called once
+            it.remove();
+            CollisionData cdata = entry.getValue();
             Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
             cdata.a.onLeave(cdata.ea, cdata.eb, d);
             cdata.b.onLeave(cdata.eb, cdata.ea, inverse(d));
         }
     }
 
+    private PositionComponent position(Entity entity) {
+        return entity.fetch(PositionComponent.class)
+                .orElseThrow(
+                        () -> MissingComponentException.build(entity, PositionComponent.class));
+    }
+
     /**
      * Simple Direction inversion
      *
@@ -144,10 +187,16 @@ public final class CollisionSystem extends System {
      */
     protected boolean checkForCollision(
             Entity h1, CollideComponent hitbox1, Entity h2, CollideComponent hitbox2) {
-        return hitbox1.bottomLeft(h1).x < hitbox2.topRight(h2).x
-                && hitbox1.topRight(h1).x > hitbox2.bottomLeft(h2).x
-                && hitbox1.bottomLeft(h1).y < hitbox2.topRight(h2).y
-                && hitbox1.topRight(h1).y > hitbox2.bottomLeft(h2).y;
+        PositionComponent pc1 = position(h1);
+        PositionComponent pc2 = position(h2);
+        float minX1 = pc1.x() + hitbox1.offsetX();
+        float minY1 = pc1.y() + hitbox1.offsetY();
+        float minX2 = pc2.x() + hitbox2.offsetX();
+        float minY2 = pc2.y() + hitbox2.offsetY();
+        return minX1 < minX2 + hitbox2.sizeX()
+                && minX1 + hitbox1.sizeX() > minX2
+                && minY1 < minY2 + hitbox2.sizeY()
+                && minY1 + hitbox1.sizeY() > minY2;
     }
 
     /**
@@ -159,8 +208,15 @@ public final class CollisionSystem extends System {
      */
     protected Tile.Direction checkDirectionOfCollision(
             Entity h1, CollideComponent hitbox1, Entity h2, CollideComponent hitbox2) {
-        float y = hitbox2.center(h2).y - hitbox1.center(h1).y;
-        float x = hitbox2.center(h2).x - hitbox1.center(h1).x;
+        PositionComponent pc1 = position(h1);
+        PositionComponent pc2 = position(h2);
+        // the centers are compared directly, so no Point is created for each collision
+        float y =
+                pc2.y() + hitbox2.offsetY() + hitbox2.sizeY() / 2
+                        - (pc1.y() + hitbox1.offsetY() + hitbox1.sizeY() / 2);
+        float x =
+                pc2.x() + hitbox2.offsetX() + hitbox2.sizeX() / 2
+                        - (pc1.x() + hitbox1.offsetX() + hitbox1.sizeX() / 2);
         float rads = (float) Math.atan2(y, x);
         double piQuarter = Math.PI / 4;
         if (rads < 3 * -piQuarter) {
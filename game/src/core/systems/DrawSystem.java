@@ -8,14 +8,16 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
+import core.utils.IRenderable;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Animation;
+import core.utils.components.draw.DepthLayer;
+import core.utils.components.draw.DrawOrder;
 import core.utils.components.draw.IPath;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * This system draws the entities on the screen.
@@ -23,9 +25,13 @@ import java.util.stream.Collectors;
  * <p>Each entity with a {@link DrawComponent} and a {@link PositionComponent} will be drawn on the
  * screen.
  *
- * <p>The system will get the current animation from the {@link DrawComponent} and will get the next
- * animation frame from the {@link Animation}, and then draw it on the current position stored in
- * the {@link PositionComponent}.
+ * <p>Each logic tick, the system will get the current animation from the {@link DrawComponent} and
+ * advance it to the next animation frame. Each rendered frame, the current frame of the {@link
+ * Animation} is drawn on the position stored in the {@link PositionComponent}.
+ *
+ * <p>The entities are kept in a {@link DrawOrder}, which is updated when entities are added or
+ * removed and repaired before each frame is drawn. Replaced components are picked up by {@link
+ * DrawOrder#refresh()}.
  *
  * <p>This system will not set the current animation. This must be done by other systems.
  *
@@ -34,7 +40,7 @@ import java.util.stream.Collectors;
  * @see DrawComponent
  * @see Animation
  */
-public final class DrawSystem extends System {
+public final class DrawSystem extends System implements IRenderable {
 
     private static final int BLINK_CYCLUS_PER_SECOND = 8;
 
@@ -48,6 +54,7 @@ public final class DrawSystem extends System {
     private static final Painter painter = new Painter(batch);
 
     private final Map<String, PainterConfig> configs;
+    private final DrawOrder drawOrder = new DrawOrder();
 
     /**
      * Create a new DrawSystem to draw entities.
@@ -57,65 +64,88 @@ public final class DrawSystem extends System {
     public DrawSystem() {
         super(DrawComponent.class, PositionComponent.class);
         configs = new HashMap<>();
+        onEntityAdd = this::addToDrawOrder;
+        onEntityRemove = drawOrder::remove;
     }
 
     /**
-     * Will draw entities at their position with their current animation.
+     * Will advance the animations of the entities by one logic tick.
+     *
+     * <p>Updates the animation queue, selects the current animation, moves it to the next frame
+     * and updates the blink state. The entities are drawn in {@link #render(float)}.
      *
      * @see DrawComponent
      * @see Animation
      */
     @Override
     public void execute() {
-        Map<Boolean, List<Entity>> partitionedEntities =
-                entityStream()
-                        .collect(
-                                Collectors.partitioningBy(
-                                        entity -> entity.isPresent(PlayerComponent.class)));
+        drawOrder.refresh();
+        for (int i = 0; i < drawOrder.size(); i++) update(drawOrder.drawComponent(i));
+    }
 
-        List<Entity> players = partitionedEntities.get(true);
-        List<Entity> npcs = partitionedEntities.get(false);
+    /**
+     * Will draw entities at their position with their current animation.
+     *
+     * <p>The entities are drawn layer by layer (see {@link DepthLayer}). Within a layer, entities
+     * further down on the screen are drawn on top. The position is interpolated between the
+     * previous and the current logic tick.
+     *
+     * @param alpha progress between the previous (0) and the current (1) logic tick
+     */
+    @Override
+    public void render(float alpha) {
+        drawOrder.sort();
+        for (int i = 0; i < drawOrder.size(); i++)
+            draw(drawOrder.drawComponent(i), drawOrder.positionComponent(i), alpha);
+    }
 
-        npcs.forEach(entity -> draw(buildDataObject(entity)));
-        players.forEach(entity -> draw(buildDataObject(entity)));
+    private void addToDrawOrder(Entity entity) {
+        DSData dsd = buildDataObject(entity);
+        // players are drawn on top of the other entities, even if no layer was set
+        if (dsd.dc.depthLayer() == DepthLayer.DEFAULT && entity.isPresent(PlayerComponent.class))
+            dsd.dc.depthLayer(DepthLayer.PLAYER);
+        drawOrder.add(entity, dsd.dc, dsd.pc);
     }
 
-    private void draw(DSData dsd) {
-        reduceFrameTimer(dsd.dc);
-        setNextAnimation(dsd.dc);
-        final Animation animation = dsd.dc.currentAnimation();
-        String currentAnimationTexture = animation.nextAnimationTexturePath();
-        if (!configs.containsKey(currentAnimationTexture)) {
-            configs.put(currentAnimationTexture, new PainterConfig(currentAnimationTexture));
-        }
-        boolean blink = false;
-        int blinkFor = dsd.dc.blinkForFrames();
+    private void update(DrawComponent dc) {
+        // reduce the remaining frames of the queued animations
+        dc.queuedAnimations().update();
+        setNextAnimation(dc);
+        dc.currentAnimation().update();
+        int blinkFor = dc.blinkForFrames();
         if (blinkFor > 0) {
-            if (dsd.dc.isBlinkingSince() >= 0)
-                if (dsd.dc.isBlinkingSince() < Game.frameRate() / BLINK_CYCLUS_PER_SECOND) {
-                    dsd.dc.isBlinkingSince(dsd.dc.isBlinkingSince() + 1);
-                    blink = true;
-                } else dsd.dc.isBlinkingSince(-Game.frameRate() / BLINK_CYCLUS_PER_SECOND);
-            else dsd.dc.isBlinkingSince(dsd.dc.isBlinkingSince() + 1);
-            dsd.dc.blinkForFrames(blinkFor - 1);
+            if (dc.isBlinkingSince() >= 0)
+                if (dc.isBlinkingSince() < blinkCycle())
+                    dc.isBlinkingSince(dc.isBlinkingSince() + 1);
+                else dc.isBlinkingSince(-blinkCycle());
+            else dc.isBlinkingSince(dc.isBlinkingSince() + 1);
+            dc.blinkForFrames(blinkFor - 1);
         }
-
-        painter.draw(
-                dsd.pc.position(),
-                currentAnimationTexture,
-                configs.get(currentAnimationTexture),
-                blink);
     }
 
-    private void reduceFrameTimer(DrawComponent dc) {
-
-        // iterate through animationQueue
-        for (Map.Entry<IPath, Integer> entry : dc.animationQueue().entrySet()) {
-            // reduce remaining frame time of animation by 1
-            entry.setValue(entry.getValue() - 1);
+    private void draw(DrawComponent dc, PositionComponent pc, float alpha) {
+        float x = pc.interpolatedX(alpha);
+        float y = pc.interpolatedY(alpha);
+        // skip entities outside the visible area before looking up the texture
+        if (!CameraSystem.isPointInFrustum(x, y)) return;
+        Animation animation = dc.currentAnimation();
+        String texturePath = animation.currentAnimationTexturePath();
+        PainterConfig config = configs.get(texturePath);
+        if (config == null) {
+            config = new PainterConfig(texturePath);
+            configs.put(texturePath, config);
         }
-        // remove animations when there is no remaining frame time
-        dc.animationQueue().entrySet().removeIf(x -> x.getValue() < 0);
+        // the last update was in the visible part of the blink cycle
+        boolean blink =
+                dc.blinkForFrames() > 0
+                        && dc.isBlinkingSince() > 0
+                        && dc.isBlinkingSince() <= blinkCycle();
+
+        painter.drawRegion(x, y, animation.currentRegion(), config, blink);
+    }
+
+    private static int blinkCycle() {
+        return Game.frameRate() / BLINK_CYCLUS_PER_SECOND;
     }
 
     private DSData buildDataObject(Entity e) {
@@ -139,19 +169,9 @@ public final class DrawSystem extends System {
     // checks the status of animations in the animationQueue and selects the next animation by
     // priority
     private void setNextAnimation(DrawComponent dc) {
-
-        Optional<Map.Entry<IPath, Integer>> highestfind =
-                dc.animationQueue().entrySet().stream()
-                        .max(Comparator.comparingInt(x -> x.getKey().priority()));
-
+        IPath highestPrio = dc.queuedAnimations().top();
         // when there is an animation load it
-        if (highestfind.isPresent()) {
-            IPath highestPrio = highestfind.get().getKey();
-            // making sure the animation exists
-            dc.animationMap().get(highestPrio.pathString());
-            // changing the Animation
-            dc.currentAnimation(highestPrio);
-        }
+        if (highestPrio != null) dc.currentAnimation(highestPrio);
     }
 
     private record DSData(Entity e, DrawComponent dc, PositionComponent pc) {}
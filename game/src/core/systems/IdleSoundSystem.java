@@ -5,9 +5,11 @@ import com.badlogic.gdx.audio.Sound;
 
 import core.System;
 import core.components.IdleSoundComponent;
+import core.utils.GameRandom;
 import core.utils.components.MissingComponentException;
 
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Works on Entities that contain the {@link IdleSoundComponent} and plays the stored sound effect
@@ -20,11 +22,14 @@ import java.util.Random;
 public final class IdleSoundSystem extends System {
 
     private final float CHANCE_TO_PLAY_SOUND = 0.001f;
-    private final Random RANDOM = new Random();
+    private final Random RANDOM = GameRandom.RANDOM;
 
     /** Create a new {@link IdleSoundSystem} */
     public IdleSoundSystem() {
         super(IdleSoundComponent.class);
+        declareAccess(Set.of(), Set.of());
+        // plays sounds with the LibGDX audio
+        renderThread(true);
     }
 
     @Override
@@ -11,16 +11,16 @@ import core.components.PositionComponent;
 import core.level.Tile;
 import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
+import core.level.generator.BackgroundLevelGenerator;
 import core.level.generator.graphBased.RoombasedLevelGenerator;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
+import core.utils.IRenderable;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Painter;
-import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.TileLayerCache;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,9 +28,9 @@ import java.util.Optional;
  *
  * <p>The system will store the currently active level.
  *
- * <p>Each frame, this system will draw the level on the screen. The system will also check if one
- * of the entities managed by this system is positioned on the end tile of the level. If so, the
- * next level will be loaded.
+ * <p>Each rendered frame, this system will draw the level on the screen. Each logic tick, the
+ * system will also check if one of the entities managed by this system is positioned on the end
+ * tile of the level. If so, the next level will be loaded.
  *
  * <p>If a new level is loaded, the system will trigger the onLevelLoad callback given in the
  * constructor of this system.
@@ -38,7 +38,7 @@ import java.util.Optional;
  * <p>An entity needs a {@link PositionComponent} and a {@link PlayerComponent} to be managed by
  * this system.
  */
-public final class LevelSystem extends System {
+public final class LevelSystem extends System implements IRenderable {
     /** offset the coordinate by half a tile, it makes every Entity not walk on the sidewalls */
     private static final float X_OFFSET = 0.5f;
     /**
@@ -60,6 +60,8 @@ public final class LevelSystem extends System {
 
     private final IVoidFunction onLevelLoad;
     private final Painter painter;
+    private final TileLayerCache levelCache = new TileLayerCache(X_OFFSET, Y_OFFSET);
+    private final BackgroundLevelGenerator levelGenerator;
 
     /**
      * Create a new {@link LevelSize} and register it at the game.
@@ -67,13 +69,30 @@ public final class LevelSystem extends System {
      * <p>The system will not load a new level at generation. The first level will be loaded if this
      * system {@link #execute()} is executed.
      *
-     * @param painter The {@link Painter} to use to draw the level.
+     * @param painter The {@link Painter} to use to draw the level, or null if the level should not
+     *     be drawn (e.g. in the {@link core.game.HeadlessRunner}).
      * @param onLevelLoad Callback-function that is called if a new level was loaded.
      */
     public LevelSystem(Painter painter, IVoidFunction onLevelLoad) {
+        this(painter, onLevelLoad, new BackgroundLevelGenerator(RoombasedLevelGenerator::level));
+    }
+
+    /**
+     * Create a new LevelSystem that takes the levels from the given generator.
+     *
+     * <p>The generator is shut down when the system is removed from the game.
+     *
+     * @param painter The {@link Painter} to use to draw the level, or null if the level should not
+     *     be drawn.
+     * @param onLevelLoad Callback-function that is called if a new level was loaded.
+     * @param levelGenerator Generates the levels to load.
+     */
+    public LevelSystem(
+            Painter painter, IVoidFunction onLevelLoad, BackgroundLevelGenerator levelGenerator) {
         super(PlayerComponent.class, PositionComponent.class);
         this.onLevelLoad = onLevelLoad;
         this.painter = painter;
+        this.levelGenerator = levelGenerator;
     }
 
     /**
@@ -88,10 +107,26 @@ public final class LevelSystem extends System {
     /**
      * Load a new level with the configured size and random design. *
      *
+     * <p>The level is generated in the background while the previous level is played, see {@link
+     * BackgroundLevelGenerator}. The first level is generated on the calling thread, because there
+     * is no previous level. Afterward, the generation of the following level is started.
+     *
      * <p>Will trigger the onLevelLoad callback.
      */
     public void loadLevel() {
-        loadLevel(RoombasedLevelGenerator.level());
+        loadLevel(levelGenerator.next());
+        levelGenerator.prefetch();
+    }
+
+    /**
+     * Stop generating levels in the background.
+     *
+     * <p>Only called if the system is removed or replaced, not if the systems are added again on a
+     * level switch.
+     */
+    @Override
+    public void onRemove() {
+        levelGenerator.shutdown();
     }
 
     public void loadLevel(ILevel level) {
@@ -99,25 +134,6 @@ public final class LevelSystem extends System {
         onLevelLoad.execute();
     }
 
-    private void drawLevel() {
-        Map<String, PainterConfig> mapping = new HashMap<>();
-
-        Tile[][] layout = currentLevel.layout();
-        for (Tile[] tiles : layout) {
-            for (int x = 0; x < layout[0].length; x++) {
-                Tile t = tiles[x];
-                if (t.levelElement() != LevelElement.SKIP) {
-                    String texturePath = t.texturePath();
-                    if (!mapping.containsKey(texturePath)) {
-                        mapping.put(
-                                texturePath, new PainterConfig(texturePath, X_OFFSET, Y_OFFSET));
-                    }
-                    painter.draw(t.position(), texturePath, mapping.get(texturePath));
-                }
-            }
-        }
-    }
-
     /**
      * Check if the given entity is on the end tile.
      *
@@ -154,7 +170,12 @@ public final class LevelSystem extends System {
         return Optional.ofNullable(nextLevel);
     }
 
+    private void focusLevel(Entity entity) {
+        if (currentLevel != null) currentLevel.focus(currentLevel.positionOf(entity));
+    }
+
     private void playSound() {
+        if (Gdx.audio == null) return;
         Sound doorSound = Gdx.audio.newSound(Gdx.files.internal(SOUND_EFFECT));
         long soundId = doorSound.play();
         doorSound.setLooping(soundId, false);
@@ -165,12 +186,14 @@ public final class LevelSystem extends System {
      * Execute the system logic.
      *
      * <p>Will load a new level if no level exists or one of the managed entities are on the end
-     * tile.
+     * tile. Before that, the level is notified of the position of the first managed entity, see
+     * {@link ILevel#focus(core.utils.Point)}.
      *
-     * <p>Will draw the level.
+     * <p>The level is drawn in {@link #render(float)}.
      */
     @Override
     public void execute() {
+        entityStream().findFirst().ifPresent(this::focusLevel);
         if (currentLevel == null) loadLevel();
         else if (entityStream().anyMatch(this::isOnEndTile)) loadLevel();
         else
@@ -183,7 +206,17 @@ public final class LevelSystem extends System {
                                                         loadLevel(iLevel);
                                                         playSound();
                                                     }));
-        drawLevel();
+    }
+
+    /**
+     * Will draw the level, if a {@link Painter} is set.
+     *
+     * @param alpha unused, the level does not move between logic ticks
+     */
+    @Override
+    public void render(float alpha) {
+        if (painter == null || currentLevel == null) return;
+        painter.drawUnbatched(() -> levelCache.draw(currentLevel, painter.projectionMatrix()));
     }
 
     /** LevelSystem can't be paused. If it is paused, the level will not be shown anymore. */
@@ -9,6 +9,8 @@ import core.level.utils.LevelElement;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 
+import java.util.Set;
+
 /**
  * The {@link PositionSystem} checks if an entity has an illegal position and then changes the
  * position to a random position in the currently active level.
@@ -27,16 +29,23 @@ public class PositionSystem extends System {
     /** Create a new VelocitySystem */
     public PositionSystem() {
         super(PositionComponent.class);
+        declareAccess(Set.of(), Set.of(PositionComponent.class));
     }
 
     @Override
     public void execute() {
         entityStream()
                 .map(this::buildDataObject)
-                .filter(data -> data.pc.position().equals(PositionComponent.ILLEGAL_POSITION))
+                .filter(this::hasIllegalPosition)
                 .forEach(this::randomPosition);
     }
 
+    private boolean hasIllegalPosition(PSData data) {
+        // compared without a Point, so no Point is created for each entity and tick
+        return data.pc.x() == PositionComponent.ILLEGAL_POSITION.x
+                && data.pc.y() == PositionComponent.ILLEGAL_POSITION.y;
+    }
+
     private void randomPosition(PSData data) {
         if (Game.currentLevel() != null) {
             Coordinate c = Game.randomTile(LevelElement.FLOOR).coordinate();
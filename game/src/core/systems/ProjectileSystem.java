@@ -9,6 +9,8 @@ import core.components.VelocityComponent;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 
+import java.util.Set;
+
 /**
  * The ProjectileSystem class represents a system responsible for managing {@link
  * ProjectileComponent}s in the game. It checks if projectiles have reached their endpoints and
@@ -24,6 +26,7 @@ public class ProjectileSystem extends System {
 
     public ProjectileSystem() {
         super(ProjectileComponent.class, PositionComponent.class, VelocityComponent.class);
+        declareAccess(Set.of(), Set.of(VelocityComponent.class));
     }
 
     /** Sets the velocity and removes entities that have reached their endpoints. */
@@ -3,6 +3,8 @@ package core.systems;
 import core.System;
 import core.components.SpikyComponent;
 
+import java.util.Set;
+
 /**
  * Reduces the current cool down for each {@link SpikyComponent} once per frame.
  *
@@ -13,6 +15,7 @@ public class SpikeSystem extends System {
     /** Create new SpikeSystem. */
     public SpikeSystem() {
         super(SpikyComponent.class);
+        declareAccess(Set.of(), Set.of(SpikyComponent.class));
     }
 
     @Override
@@ -1,18 +1,17 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.Vector2;
-
 import core.Entity;
 import core.Game;
 import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
-import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.CoreAnimationPriorities;
 import core.utils.components.draw.CoreAnimations;
+import core.utils.components.draw.IPath;
+
+import java.util.Set;
 
 /**
  * The VelocitySystem controls the movement of the entities in the game.
@@ -44,9 +43,46 @@ public final class VelocitySystem extends System {
     // default time an Animation should be enqueued
     private static final int FOR_FRAMES = 1;
 
+    // the animations to queue, stored once so no array is created for each entity and tick
+    private static final IPath[] RUN_RIGHT = {CoreAnimations.RUN_RIGHT, CoreAnimations.RUN};
+    private static final IPath[] RUN_LEFT = {CoreAnimations.RUN_LEFT, CoreAnimations.RUN};
+    private static final IPath[] RUN_UP = {CoreAnimations.RUN_UP, CoreAnimations.RUN};
+    private static final IPath[] RUN_DOWN = {CoreAnimations.RUN_DOWN, CoreAnimations.RUN};
+    private static final IPath[] IDLE_LEFT = {
+        CoreAnimations.IDLE_LEFT,
+        CoreAnimations.IDLE,
+        CoreAnimations.IDLE_RIGHT,
+        CoreAnimations.IDLE_DOWN,
+        CoreAnimations.IDLE_UP
+    };
+    private static final IPath[] IDLE_RIGHT = {
+        CoreAnimations.IDLE_RIGHT,
+        CoreAnimations.IDLE,
+        CoreAnimations.IDLE_LEFT,
+        CoreAnimations.IDLE_DOWN,
+        CoreAnimations.IDLE_UP
+    };
+    private static final IPath[] IDLE_UP = {
+        CoreAnimations.IDLE_UP,
+        CoreAnimations.IDLE,
+        CoreAnimations.IDLE_DOWN,
+        CoreAnimations.IDLE_LEFT,
+        CoreAnimations.IDLE_RIGHT
+    };
+    private static final IPath[] IDLE_DOWN = {
+        CoreAnimations.IDLE_DOWN,
+        CoreAnimations.IDLE,
+        CoreAnimations.IDLE_UP,
+        CoreAnimations.IDLE_LEFT,
+        CoreAnimations.IDLE_RIGHT
+    };
+
     /** Create a new VelocitySystem */
     public VelocitySystem() {
         super(VelocityComponent.class, PositionComponent.class, DrawComponent.class);
+        declareAccess(
+                Set.of(),
+                Set.of(VelocityComponent.class, PositionComponent.class, DrawComponent.class));
     }
 
     /** Updates the position of all entities based on their velocity */
@@ -56,35 +92,39 @@ public final class VelocitySystem extends System {
     }
 
     private void updatePosition(VSData vsd) {
-        Vector2 velocity = new Vector2(vsd.vc.currentXVelocity(), vsd.vc.currentYVelocity());
+        float velocityX = vsd.vc.currentXVelocity();
+        float velocityY = vsd.vc.currentYVelocity();
         float maxSpeed = Math.max(Math.abs(vsd.vc.xVelocity()), Math.abs(vsd.vc.yVelocity()));
         // Limit velocity to maxSpeed (primarily for diagonal movement)
-        if (velocity.len() > maxSpeed) {
-            velocity.nor();
-            velocity.scl(maxSpeed);
+        float length = (float) Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        if (length > maxSpeed) {
+            velocityX = velocityX / length * maxSpeed;
+            velocityY = velocityY / length * maxSpeed;
         }
-        if (Gdx.graphics != null) {
-            velocity.scl(Gdx.graphics.getDeltaTime());
-        }
-
-        float newX = vsd.pc.position().x + velocity.x;
-        float newY = vsd.pc.position().y + velocity.y;
+        float delta = Game.deltaTime();
+        velocityX *= delta;
+        velocityY *= delta;
+
+        float oldX = vsd.pc.x();
+        float oldY = vsd.pc.y();
+        float newX = oldX + velocityX;
+        float newY = oldY + velocityY;
         boolean hitwall = false;
         try {
-            if (Game.tileAT(new Point(newX, newY)).isAccessible()) {
+            if (Game.tileAT(newX, newY).isAccessible()) {
                 // no change in direction
-                vsd.pc.position(new Point(newX, newY));
+                vsd.pc.position(newX, newY);
                 this.movementAnimation(vsd);
-            } else if (Game.tileAT(new Point(newX, vsd.pc.position().y)).isAccessible()) {
+            } else if (Game.tileAT(newX, oldY).isAccessible()) {
                 // redirect not moving along y
                 hitwall = true;
-                vsd.pc.position(new Point(newX, vsd.pc.position().y));
+                vsd.pc.position(newX, oldY);
                 this.movementAnimation(vsd);
                 vsd.vc.currentYVelocity(0.0f);
-            } else if (Game.tileAT(new Point(vsd.pc.position().x, newY)).isAccessible()) {
+            } else if (Game.tileAT(oldX, newY).isAccessible()) {
                 // redirect not moving along x
                 hitwall = true;
-                vsd.pc.position(new Point(vsd.pc.position().x, newY));
+                vsd.pc.position(oldX, newY);
                 this.movementAnimation(vsd);
                 vsd.vc.currentXVelocity(0.0f);
             } else {
@@ -95,7 +135,7 @@ public final class VelocitySystem extends System {
             // tiles
             if (hitwall) vsd.vc.onWallHit().accept(vsd.e);
 
-            float friction = Game.tileAT(vsd.pc.position()).friction();
+            float friction = Game.tileAT(vsd.pc.x(), vsd.pc.y()).friction();
             float newVX = vsd.vc.currentXVelocity() * (Math.min(1.0f, 1.0f - friction));
             if (Math.abs(newVX) < 0.01f) newVX = 0.0f;
             float newVY = vsd.vc.currentYVelocity() * (Math.min(1.0f, 1.0f - friction));
@@ -134,10 +174,10 @@ public final class VelocitySystem extends System {
         float y = vsd.vc.currentYVelocity();
         if (x != 0 || y != 0) {
             vsd.dc.deQueueByPriority(CoreAnimationPriorities.RUN.priority());
-            if (x > 0) vsd.dc.queueAnimation(CoreAnimations.RUN_RIGHT, CoreAnimations.RUN);
-            else if (x < 0) vsd.dc.queueAnimation(CoreAnimations.RUN_LEFT, CoreAnimations.RUN);
-            else if (y > 0) vsd.dc.queueAnimation(CoreAnimations.RUN_UP, CoreAnimations.RUN);
-            else if (y < 0) vsd.dc.queueAnimation(CoreAnimations.RUN_DOWN, CoreAnimations.RUN);
+            if (x > 0) vsd.dc.queueAnimation(FOR_FRAMES, RUN_RIGHT);
+            else if (x < 0) vsd.dc.queueAnimation(FOR_FRAMES, RUN_LEFT);
+            else if (y > 0) vsd.dc.queueAnimation(FOR_FRAMES, RUN_UP);
+            else if (y < 0) vsd.dc.queueAnimation(FOR_FRAMES, RUN_DOWN);
             vsd.vc.previousXVelocity(x);
             vsd.vc.previousYVelocity(y);
 
@@ -147,38 +187,10 @@ public final class VelocitySystem extends System {
         // idle
         else {
             // each drawComponent has an idle animation, so no check is needed
-            if (vsd.vc.previousXVelocity() < 0)
-                vsd.dc.queueAnimation(
-                        FOR_FRAMES,
-                        CoreAnimations.IDLE_LEFT,
-                        CoreAnimations.IDLE,
-                        CoreAnimations.IDLE_RIGHT,
-                        CoreAnimations.IDLE_DOWN,
-                        CoreAnimations.IDLE_UP);
-            else if (vsd.vc.previousXVelocity() > 0)
-                vsd.dc.queueAnimation(
-                        FOR_FRAMES,
-                        CoreAnimations.IDLE_RIGHT,
-                        CoreAnimations.IDLE,
-                        CoreAnimations.IDLE_LEFT,
-                        CoreAnimations.IDLE_DOWN,
-                        CoreAnimations.IDLE_UP);
-            else if (vsd.vc.previousYVelocity() > 0)
-                vsd.dc.queueAnimation(
-                        FOR_FRAMES,
-                        CoreAnimations.IDLE_UP,
-                        CoreAnimations.IDLE,
-                        CoreAnimations.IDLE_DOWN,
-                        CoreAnimations.IDLE_LEFT,
-                        CoreAnimations.IDLE_RIGHT);
-            else
-                vsd.dc.queueAnimation(
-                        FOR_FRAMES,
-                        CoreAnimations.IDLE_DOWN,
-                        CoreAnimations.IDLE,
-                        CoreAnimations.IDLE_UP,
-                        CoreAnimations.IDLE_LEFT,
-                        CoreAnimations.IDLE_RIGHT);
+            if (vsd.vc.previousXVelocity() < 0) vsd.dc.queueAnimation(FOR_FRAMES, IDLE_LEFT);
+            else if (vsd.vc.previousXVelocity() > 0) vsd.dc.queueAnimation(FOR_FRAMES, IDLE_RIGHT);
+            else if (vsd.vc.previousYVelocity() > 0) vsd.dc.queueAnimation(FOR_FRAMES, IDLE_UP);
+            else vsd.dc.queueAnimation(FOR_FRAMES, IDLE_DOWN);
         }
     }
 
@@ -9,6 +9,8 @@ public final class XPSystem extends System {
 
     public XPSystem() {
         super(XPComponent.class);
+        // no access is declared: the level up callbacks can touch any component and create
+        // entities, so this system is always executed alone
     }
 
     @Override
@@ -0,0 +1,125 @@
+package core.utils;
+
+import core.Component;
+import core.Entity;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable bitmask over {@link Component} classes.
+ *
+ * <p>Each component class gets a unique bit index the first time it is seen. An {@link Entity}
+ * stores the mask of its current components, and each {@link EntitySystemMapper} stores the mask of
+ * its filter rules. Checking if an entity fulfills the filter rules is a simple {@link
+ * #containsAll(ComponentMask)} check instead of one map lookup per filter class.
+ *
+ * <p>Because masks are immutable and implement {@link #equals(Object)} and {@link #hashCode()},
+ * they can be used as keys to look up the matching {@link EntitySystemMapper}.
+ */
+public final class ComponentMask {
+
+    /** Mask without any component. */
+    public static final ComponentMask EMPTY = new ComponentMask(new BitSet());
+
+    private static final Map<Class<? extends Component>, Integer> INDICES = new HashMap<>();
+
+    private final BitSet bits;
+
+    private ComponentMask(final BitSet bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Create a mask that contains all the given component classes.
+     *
+     * @param klasses the component classes to put in the mask
+     * @return the mask containing the given classes
+     */
+    public static ComponentMask of(final Collection<Class<? extends Component>> klasses) {
+        if (klasses.isEmpty()) return EMPTY;
+        BitSet bits = new BitSet();
+        for (Class<? extends Component> klass : klasses) bits.set(indexOf(klass));
+        return new ComponentMask(bits);
+    }
+
+    /**
+     * Get the bit index of the given component class.
+     *
+     * <p>If the class was never seen before, a new index will be assigned.
+     *
+     * @param klass the component class
+     * @return the bit index of the class
+     */
+    public static synchronized int indexOf(final Class<? extends Component> klass) {
+        return INDICES.computeIfAbsent(klass, k -> INDICES.size());
+    }
+
+    /**
+     * Create a new mask with the given component class added.
+     *
+     * @param klass the component class to add
+     * @return this mask, if the class is already present, otherwise a new mask
+     */
+    public ComponentMask with(final Class<? extends Component> klass) {
+        int index = indexOf(klass);
+        if (bits.get(index)) return this;
+        BitSet copy = (BitSet) bits.clone();
+        copy.set(index);
+        return new ComponentMask(copy);
+    }
+
+    /**
+     * Create a new mask with the given component class removed.
+     *
+     * @param klass the component class to remove
+     * @return this mask, if the class is not present, otherwise a new mask
+     */
+    public ComponentMask without(final Class<? extends Component> klass) {
+        int index = indexOf(klass);
+        if (!bits.get(index)) return this;
+        BitSet copy = (BitSet) bits.clone();
+        copy.clear(index);
+        return new ComponentMask(copy);
+    }
+
+    /**
+     * Check if this mask contains every component class of the given mask.
+     *
+     * @param other the mask to check
+     * @return true if every bit of the other mask is set in this mask, false if not
+     */
+    public boolean containsAll(final ComponentMask other) {
+        for (int i = other.bits.nextSetBit(0); i >= 0; i = other.bits.nextSetBit(i + 1))
+            if (!bits.get(i)) return false;
+        return true;
+    }
+
+    /**
+     * Check if the given component class is part of this mask.
+     *
+     * @param klass the component class to check
+     * @return true if the class is part of this mask, false if not
+     */
+    public boolean contains(final Class<? extends Component> klass) {
+        return bits.get(indexOf(klass));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) return true;
+        return o instanceof ComponentMask && bits.equals(((ComponentMask) o).bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return bits.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return bits.toString();
+    }
+}
@@ -4,7 +4,9 @@ import core.Component;
 import core.Entity;
 import core.System;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -31,16 +33,36 @@ import java.util.stream.Stream;
  * <p>Systems can be added using {@link #add(System)} or removed using {@link #remove(System)}. When
  * a system is added, {@link System#triggerOnAdd(Entity)} is called for each stored entity.
  *
- * <p>You can query the stored entities as a stream using {@link #stream()}.
+ * <p>You can query the stored entities as a stream using {@link #stream()}. The stream iterates
+ * over an array snapshot of the entities. The snapshot is only rebuilt on the first {@link
+ * #stream()} call after an entity was added or removed, so the stream is safe against changes
+ * during the iteration without copying the entities each frame. Changes made during an iteration
+ * will be visible in the next call of {@link #stream()}. This replaces a buffer of deferred
+ * additions and removals: the stored entities are always up to date, only the array that is
+ * iterated lags behind.
+ *
+ * <p>The systems of a stage of the {@link core.game.SystemScheduler} run on several threads, and
+ * they may stream the same mapper or add and remove entities while doing so. The stored entities
+ * are therefore guarded by a lock, and the snapshot is published through a volatile field, so a
+ * thread never sees a partly built snapshot. The callbacks of the systems are called outside the
+ * lock, on the thread that adds or removes the entity.
+ *
+ * <p>The filter rules are also stored as {@link ComponentMask}, so checking an entity against the
+ * filter rules is a single mask comparison.
  *
  * <p>The {@link #equals(Object)} and {@link #equals(Set)} methods return true if the filter rules
  * are identical.
  */
 public final class EntitySystemMapper {
 
+    private static final Entity[] NO_ENTITIES = new Entity[0];
+
     private final Set<Class<? extends Component>> filterRules;
+    private final ComponentMask filterMask;
     private final Set<Entity> entities;
     private final Set<System> systems;
+    // null if entities were added or removed since the last snapshot, guarded by entities
+    private volatile Entity[] snapshot = NO_ENTITIES;
 
     /**
      * Creates a new EntitySystemMapper with the given filter rules.
@@ -50,15 +72,14 @@ public final class EntitySystemMapper {
      */
     public EntitySystemMapper(final Set<Class<? extends Component>> filterRules) {
         this.filterRules = filterRules;
-        entities = new HashSet<>();
+        filterMask = ComponentMask.of(filterRules);
+        entities = new LinkedHashSet<>();
         systems = new HashSet<>();
     }
 
     /** Creates a new EntitySystemMapper with no filter rules. */
     public EntitySystemMapper() {
-        filterRules = new HashSet<>();
-        entities = new HashSet<>();
-        systems = new HashSet<>();
+        this(new HashSet<>());
     }
 
     /**
@@ -75,7 +96,7 @@ public final class EntitySystemMapper {
      */
     public boolean add(final System system) {
         if (systems.add(system)) {
-            entities.forEach(entity -> system.triggerOnAdd(entity));
+            for (Entity entity : snapshot()) system.triggerOnAdd(entity);
             return true;
         }
         return false;
@@ -95,7 +116,7 @@ public final class EntitySystemMapper {
      */
     public boolean remove(final System system) {
         if (systems.remove(system)) {
-            entities.forEach(entity -> system.triggerOnRemove(entity));
+            for (Entity entity : snapshot()) system.triggerOnRemove(entity);
             return true;
         }
         return false;
@@ -114,12 +135,13 @@ public final class EntitySystemMapper {
      *     does not fulfill the filter rules.
      */
     public boolean add(final Entity entity) {
-        if (!entities.contains(entity) && accept(entity)) {
-            entities.add(entity);
-            systems.forEach(system -> system.triggerOnAdd(entity));
-            return true;
+        if (!accept(entity)) return false;
+        synchronized (entities) {
+            if (!entities.add(entity)) return false;
+            snapshot = null;
         }
-        return false;
+        systems.forEach(system -> system.triggerOnAdd(entity));
+        return true;
     }
 
     /**
@@ -134,12 +156,12 @@ public final class EntitySystemMapper {
      *     the EntitySystemMapper and no removal was performed.
      */
     public boolean remove(final Entity entity) {
-        if (entities.contains(entity)) {
-            entities.remove(entity);
-            systems.forEach(system -> system.triggerOnRemove(entity));
-            return true;
+        synchronized (entities) {
+            if (!entities.remove(entity)) return false;
+            snapshot = null;
         }
-        return false;
+        systems.forEach(system -> system.triggerOnRemove(entity));
+        return true;
     }
 
     /**
@@ -160,10 +182,42 @@ public final class EntitySystemMapper {
     /**
      * Returns a Stream of the Entities in the EntitySystemMapper.
      *
+     * <p>The stream iterates over the current snapshot, adding or removing entities while the
+     * stream is processed will not affect the stream.
+     *
      * @return A Stream of Entities currently present in the EntitySystemMapper.
      */
     public Stream<Entity> stream() {
-        return new HashSet<>(entities).stream();
+        return Arrays.stream(snapshot());
+    }
+
+    /**
+     * Get the current snapshot of the stored entities.
+     *
+     * <p>If entities were added or removed since the last call, a new snapshot array will be
+     * created. Otherwise, the previous array is returned without locking. The returned array must
+     * not be modified.
+     *
+     * @return Array of the entities currently present in the EntitySystemMapper.
+     */
+    private Entity[] snapshot() {
+        Entity[] current = snapshot;
+        if (current != null) return current;
+        synchronized (entities) {
+            if (snapshot == null) snapshot = entities.toArray(NO_ENTITIES);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Get the number of entities in the EntitySystemMapper.
+     *
+     * @return the number of stored entities
+     */
+    public int size() {
+        synchronized (entities) {
+            return entities.size();
+        }
     }
 
     /**
@@ -205,11 +259,28 @@ public final class EntitySystemMapper {
      * @return true if the entity is accepted, false if not.
      */
     private boolean accept(final Entity entity) {
-        for (Class<? extends Component> filter : filterRules)
-            if (!entity.isPresent(filter)) {
-                return false;
-            }
-        return true;
+        return entity.componentMask().containsAll(filterMask);
+    }
+
+    /**
+     * Get the filter rules of this EntitySystemMapper as {@link ComponentMask}.
+     *
+     * @return the {@link ComponentMask} of the filter rules
+     */
+    public ComponentMask filterMask() {
+        return filterMask;
+    }
+
+    /**
+     * Checks if the given Entity is present in the EntitySystemMapper.
+     *
+     * @param entity The Entity to check for presence in the EntitySystemMapper.
+     * @return true if the Entity is present in the EntitySystemMapper, false otherwise.
+     */
+    public boolean has(final Entity entity) {
+        synchronized (entities) {
+            return entities.contains(entity);
+        }
     }
 
     /**
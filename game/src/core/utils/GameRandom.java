@@ -0,0 +1,113 @@
+package core.utils;
+
+import java.io.Serial;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Shared source of randomness for the game logic.
+ *
+ * <p>Level generation, entity creation and AI use this instance instead of their own {@link
+ * Random}, so a whole game session can be reproduced by calling {@link #seed(long)} before the game
+ * starts, e.g. in the {@link core.game.HeadlessRunner}.
+ *
+ * <p>Work that runs on another thread, like the generation of the next level, would make the
+ * shared sequence depend on the timing of the threads. Such work is executed with {@link
+ * #withSeed(long, Supplier)}: while it runs, {@link #RANDOM} draws the numbers of the calling
+ * thread from its own generator with the given seed. So the result only depends on the seed, and
+ * the sequence of the other threads is not changed.
+ */
+public final class GameRandom {
+
+    /** The shared random instance. */
+    public static final Random RANDOM = new SeedableRandom();
+
+    private GameRandom() {}
+
+    /**
+     * Reset the shared random instance with the given seed.
+     *
+     * @param seed the new seed
+     */
+    public static void seed(long seed) {
+        sequence(new Random(seed));
+    }
+
+    /**
+     * Replace the generator of the shared random numbers.
+     *
+     * <p>Unlike {@link #seed(long)}, the previous generator is returned, so its sequence can be
+     * continued later by passing it to this method again, e.g. when a {@link
+     * core.game.HeadlessRunner} is closed.
+     *
+     * @param sequence the generator to take the shared numbers from
+     * @return the previous generator
+     */
+    public static Random sequence(final Random sequence) {
+        SeedableRandom random = (SeedableRandom) RANDOM;
+        Random previous = random.shared;
+        random.shared = sequence;
+        return previous;
+    }
+
+    /**
+     * Execute the given work with its own sequence of random numbers.
+     *
+     * <p>While the work is executed, all numbers the calling thread draws from {@link #RANDOM} are
+     * taken from a new generator with the given seed.
+     *
+     * @param seed the seed for the work
+     * @param work the work to execute
+     * @param <T> type of the result
+     * @return the result of the work
+     */
+    public static <T> T withSeed(long seed, final Supplier<T> work) {
+        SeedableRandom random = (SeedableRandom) RANDOM;
+        Random previous = random.bound.get();
+        random.bound.set(new Random(seed));
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) random.bound.remove();
+            else random.bound.set(previous);
+        }
+    }
+
+    /**
+     * Takes the numbers from the generator bound to the current thread, if there is one, and from
+     * the shared generator otherwise.
+     */
+    private static final class SeedableRandom extends Random {
+
+        @Serial private static final long serialVersionUID = 1L;
+
+        // Random is Serializable, but this instance is never serialized
+        private final transient ThreadLocal<Random> bound = new ThreadLocal<>();
+        private transient volatile Random shared = new Random();
+
+        @Override
+        public void setSeed(long seed) {
+            // called by the constructor of Random, before the shared generator exists
+            if (shared != null) shared.setSeed(seed);
+        }
+
+        @Override
+        protected int next(int bits) {
+            return current().nextInt() >>> (32 - bits);
+        }
+
+        /**
+         * Random caches every second gaussian number in the instance, which would mix the
+         * sequences of the threads. So the generator of the current thread computes it.
+         */
+        @Override
+        public double nextGaussian() {
+            return current().nextGaussian();
+        }
+
+        private Random current() {
+            Random random = bound.get();
+            return random != null ? random : shared;
+        }
+    }
+}
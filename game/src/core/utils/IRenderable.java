@@ -0,0 +1,24 @@
+package core.utils;
+
+/**
+ * A {@link core.System} that draws something on the screen.
+ *
+ * <p>The {@link core.game.GameLoop} separates the game logic from the rendering. {@link
+ * core.System#execute()} advances the game by one logic tick, which may happen zero or more times
+ * per rendered frame. {@link #render(float)} is called exactly once per rendered frame, after all
+ * logic ticks of the frame are done.
+ *
+ * <p>Rendering should not change the game state. Use the given alpha to interpolate between the
+ * state of the previous and the current logic tick, e.g. with {@link
+ * core.components.PositionComponent#interpolatedX(float)}.
+ */
+@FunctionalInterface
+public interface IRenderable {
+
+    /**
+     * Draw the current state on the screen.
+     *
+     * @param alpha progress between the previous (0) and the current (1) logic tick
+     */
+    void render(float alpha);
+}
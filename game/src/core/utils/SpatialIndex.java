@@ -0,0 +1,257 @@
+package core.utils;
+
+import core.Entity;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.utils.Coordinate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Tile-bucketed index over the positions of the entities in the current level.
+ *
+ * <p>Each entity with a {@link PositionComponent} is stored in the bucket of the tile its position
+ * is located in (using the same conversion as {@link Point#toCoordinate()}). The index registers
+ * itself via {@link PositionComponent#addPositionListener} and moves an entity to another bucket
+ * as soon as its position leaves the current tile, so the index never has to be rebuilt per frame.
+ *
+ * <p>Proximity queries like {@link #entitiesAt(Tile)}, {@link #entitiesInRadius(Point, float)}
+ * and {@link #nearest(Point, Predicate)} only look at the buckets around the given position
+ * instead of iterating over every entity of the level.
+ *
+ * <p>The positions are set by systems that the {@link core.game.SystemScheduler} may execute on
+ * several threads at once, so the buckets are moved and queried while holding the lock of the
+ * index. A position change that stays on the same tile does not take the lock. The other methods
+ * are called by the game thread.
+ *
+ * <p>The index is maintained by {@link core.game.ECSManagment}, use {@link
+ * core.Game#spatialIndex()} to access the index of the current level.
+ */
+public final class SpatialIndex {
+
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private final Map<Entity, Entry> entries = new HashMap<>();
+
+    /**
+     * Add, move or remove the given entity, depending on its current {@link PositionComponent}.
+     *
+     * <p>Call this if the entity was added to the level or if its components changed.
+     *
+     * @param entity the entity to update
+     */
+    public synchronized void update(final Entity entity) {
+        PositionComponent pc = entity.fetch(PositionComponent.class).orElse(null);
+        Entry entry = entries.get(entity);
+        if (entry != null && entry.pc == pc) return;
+        if (entry != null) untrack(entry);
+        if (pc != null) track(entity, pc);
+    }
+
+    /**
+     * Remove the given entity from the index.
+     *
+     * @param entity the entity to remove
+     */
+    public synchronized void remove(final Entity entity) {
+        Entry entry = entries.get(entity);
+        if (entry != null) untrack(entry);
+    }
+
+    /**
+     * Remove every entity from the index and add the given entities.
+     *
+     * <p>Call this if the active level changed.
+     *
+     * @param entities the entities of the new level
+     */
+    public void rebuild(final Stream<Entity> entities) {
+        clear();
+        entities.forEach(this::update);
+    }
+
+    /** Remove every entity from the index. */
+    public synchronized void clear() {
+        for (Entry entry : entries.values()) entry.pc.removePositionListener(entry.listener);
+        entries.clear();
+        buckets.clear();
+    }
+
+    /**
+     * Get the number of indexed entities.
+     *
+     * @return the number of entities with a {@link PositionComponent} in the index
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get all entities whose position is located on the given tile.
+     *
+     * @param tile the tile to check
+     * @return a stream of all entities on the tile
+     */
+    public synchronized Stream<Entity> entitiesAt(final Tile tile) {
+        Coordinate coordinate = tile.coordinate();
+        List<Entry> bucket = buckets.get(key(coordinate.x, coordinate.y));
+        if (bucket == null) return Stream.empty();
+        Entity[] result = new Entity[bucket.size()];
+        for (int i = 0; i < result.length; i++) result[i] = bucket.get(i).entity;
+        return Stream.of(result);
+    }
+
+    /**
+     * Get all entities within the given radius around a point.
+     *
+     * <p>An entity is in the radius, if {@link Point#inRange(Point, Point, float)} would return
+     * true for its position.
+     *
+     * @param center the center of the circle
+     * @param radius the radius of the circle
+     * @return a stream of all entities in the circle
+     */
+    public synchronized Stream<Entity> entitiesInRadius(final Point center, float radius) {
+        List<Entity> result = new ArrayList<>();
+        int minX = (int) (center.x - radius);
+        int maxX = (int) (center.x + radius);
+        int minY = (int) (center.y - radius);
+        int maxY = (int) (center.y + radius);
+        long cells = ((long) maxX - minX + 1) * ((long) maxY - minY + 1);
+        if (cells > buckets.size()) {
+            // fewer occupied tiles than tiles in the radius, walking all buckets is cheaper
+            for (List<Entry> bucket : buckets.values())
+                collectInRadius(bucket, center, radius, result);
+        } else {
+            for (int x = minX; x <= maxX; x++)
+                for (int y = minY; y <= maxY; y++) {
+                    List<Entry> bucket = buckets.get(key(x, y));
+                    if (bucket != null) collectInRadius(bucket, center, radius, result);
+                }
+        }
+        return result.stream();
+    }
+
+    /**
+     * Find the entity closest to the given point that matches the filter.
+     *
+     * <p>The buckets are searched in rings around the tile of the point, so the search stops as
+     * soon as no unvisited tile can contain a closer entity.
+     *
+     * @param point the point to measure the distance from
+     * @param filter only entities that pass the filter are considered
+     * @return the closest matching entity, or an empty optional if no entity matches
+     */
+    public synchronized Optional<Entity> nearest(
+            final Point point, final Predicate<Entity> filter) {
+        int centerX = (int) point.x;
+        int centerY = (int) point.y;
+        Entry best = null;
+        float bestDistance = Float.MAX_VALUE;
+        for (int ring = 0; ; ring++) {
+            // a tile in this ring is at least (ring - 1) away from the point
+            if (best != null && ring - 1 >= bestDistance) break;
+            // ring tiles exceed the occupied tiles, finish with a linear scan
+            if (8L * ring >= buckets.size()) {
+                for (List<Entry> bucket : buckets.values())
+                    for (Entry entry : bucket) {
+                        float distance = distance(entry, point);
+                        if (distance < bestDistance && filter.test(entry.entity)) {
+                            best = entry;
+                            bestDistance = distance;
+                        }
+                    }
+                break;
+            }
+            for (int x = centerX - ring; x <= centerX + ring; x++)
+                for (int y = centerY - ring; y <= centerY + ring; y++) {
+                    // only visit the border of the ring
+                    if (x != centerX - ring
+                            && x != centerX + ring
+                            && y != centerY - ring
+                            && y != centerY + ring) y = centerY + ring;
+                    List<Entry> bucket = buckets.get(key(x, y));
+                    if (bucket == null) continue;
+                    for (Entry entry : bucket) {
+                        float distance = distance(entry, point);
+                        if (distance < bestDistance && filter.test(entry.entity)) {
+                            best = entry;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+        }
+        return best == null ? Optional.empty() : Optional.of(best.entity);
+    }
+
+    private void track(final Entity entity, final PositionComponent pc) {
+        Entry entry = new Entry(entity, pc, key(pc.x(), pc.y()));
+        entries.put(entity, entry);
+        buckets.computeIfAbsent(entry.cell, k -> new ArrayList<>()).add(entry);
+        pc.addPositionListener(entry.listener);
+    }
+
+    private void untrack(final Entry entry) {
+        entries.remove(entry.entity);
+        removeFromBucket(entry);
+        entry.pc.removePositionListener(entry.listener);
+    }
+
+    private void move(final Entry entry) {
+        long cell = key(entry.pc.x(), entry.pc.y());
+        if (cell == entry.cell) return;
+        synchronized (this) {
+            // the entity may have been removed from the index in the meantime
+            if (entries.get(entry.entity) != entry) return;
+            removeFromBucket(entry);
+            entry.cell = cell;
+            buckets.computeIfAbsent(cell, k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    private void removeFromBucket(final Entry entry) {
+        List<Entry> bucket = buckets.get(entry.cell);
+        if (bucket == null) return;
+        bucket.remove(entry);
+        if (bucket.isEmpty()) buckets.remove(entry.cell);
+    }
+
+    private static void collectInRadius(
+            final List<Entry> bucket, final Point center, float radius, final List<Entity> result) {
+        for (Entry entry : bucket) if (distance(entry, center) <= radius) result.add(entry.entity);
+    }
+
+    private static float distance(final Entry entry, final Point point) {
+        float xDiff = entry.pc.x() - point.x;
+        float yDiff = entry.pc.y() - point.y;
+        return (float) Math.sqrt(xDiff * xDiff + yDiff * yDiff);
+    }
+
+    private static long key(float x, float y) {
+        return key((int) x, (int) y);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private final class Entry {
+        private final Entity entity;
+        private final PositionComponent pc;
+        private final Consumer<PositionComponent> listener = position -> move(this);
+        // read without the lock in move, written with the lock
+        private volatile long cell;
+
+        private Entry(final Entity entity, final PositionComponent pc, long cell) {
+            this.entity = entity;
+            this.pc = pc;
+            this.cell = cell;
+        }
+    }
+}
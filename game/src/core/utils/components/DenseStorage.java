@@ -0,0 +1,146 @@
+package core.utils.components;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+
+/**
+ * Stores the primitive data of many components in dense {@code float} columns.
+ *
+ * <p>Each component that uses this storage gets a compact slot via {@link #allocate(Object)}. The
+ * values of the component are stored at the index of the slot in each column. This way, the data
+ * of all components of one type lies next to each other in memory, and systems that process many
+ * entities walk over primitive arrays instead of following object references and boxed {@link
+ * core.utils.Point}s.
+ *
+ * <p>Each column is split into pages of {@link #PAGE_SIZE} slots. If the storage grows, a new page
+ * is added and the existing pages stay where they are. Slots can be allocated from any thread (for
+ * example while a level is generated in the background), without losing the values other threads
+ * write to their slots at the same time.
+ *
+ * <p>Slots are released automatically once the owning component is garbage collected, and will be
+ * reused for new components.
+ *
+ * <p>The dense storage is opt-in, see {@link
+ * core.game.PreRunConfiguration#denseComponentStorage(boolean)}. Components like {@link
+ * core.components.PositionComponent}, {@link core.components.VelocityComponent} and {@link
+ * core.components.CollideComponent} will use it if it is enabled at their creation.
+ */
+public final class DenseStorage {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int PAGE_SHIFT = 6;
+
+    /** Number of slots in one page of a column. */
+    public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final int columnCount;
+    // [page][column][offset]; a page is never moved once created, only the outer array is replaced
+    private volatile float[][][] pages;
+    private int[] freeSlots = new int[PAGE_SIZE];
+    private int freeCount = 0;
+    private int size = 0;
+
+    /**
+     * Create a new storage.
+     *
+     * @param columnCount number of float values stored for each slot.
+     */
+    public DenseStorage(int columnCount) {
+        this.columnCount = columnCount;
+        pages = new float[][][] {new float[columnCount][PAGE_SIZE]};
+    }
+
+    /**
+     * Allocate a new slot for the given owner.
+     *
+     * <p>All values of the slot are set to 0. The slot will be released once the owner is no longer
+     * reachable.
+     *
+     * <p>This method can be called from any thread. The values of the slot are published together
+     * with the slot, so a thread that got the slot (or the component that owns it) through a
+     * synchronized hand-off sees the zeroed values.
+     *
+     * @param owner the component that owns the slot
+     * @return the index of the allocated slot
+     */
+    public int allocate(final Object owner) {
+        int slot;
+        synchronized (this) {
+            if (freeCount > 0) slot = freeSlots[--freeCount];
+            else {
+                slot = size++;
+                if ((slot >>> PAGE_SHIFT) == pages.length) grow();
+            }
+            float[][] page = pages[slot >>> PAGE_SHIFT];
+            for (float[] column : page) column[slot & PAGE_MASK] = 0f;
+        }
+        CLEANER.register(owner, () -> free(slot));
+        return slot;
+    }
+
+    private synchronized void free(int slot) {
+        if (freeCount == freeSlots.length)
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    // the existing pages are kept, so a concurrent set on them is never lost
+    private void grow() {
+        float[][][] grown = Arrays.copyOf(pages, pages.length + 1);
+        grown[pages.length] = new float[columnCount][PAGE_SIZE];
+        pages = grown;
+    }
+
+    /**
+     * Get a value of the given slot.
+     *
+     * @param column index of the column
+     * @param slot index of the slot
+     * @return the stored value
+     */
+    public float get(int column, int slot) {
+        return pages[slot >>> PAGE_SHIFT][column][slot & PAGE_MASK];
+    }
+
+    /**
+     * Set a value of the given slot.
+     *
+     * @param column index of the column
+     * @param slot index of the slot
+     * @param value the new value
+     */
+    public void set(int column, int slot, float value) {
+        pages[slot >>> PAGE_SHIFT][column][slot & PAGE_MASK] = value;
+    }
+
+    /**
+     * Get direct access to one page of a column for tight loops.
+     *
+     * <p>The page holds the values of the slots from {@code page * PAGE_SIZE} to {@code (page + 1)
+     * * PAGE_SIZE - 1}. Pages never move, so the returned array stays valid if the storage grows.
+     * Only the slots below {@link #size()} are valid, released slots may contain stale values.
+     *
+     * @param column index of the column
+     * @param page index of the page, see {@link #pageCount()}
+     * @return the backing array of the page
+     */
+    public float[] page(int column, int page) {
+        return pages[page][column];
+    }
+
+    /**
+     * @return the number of pages of each column.
+     */
+    public int pageCount() {
+        return pages.length;
+    }
+
+    /**
+     * @return the number of slots that were handed out so far (including released slots).
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
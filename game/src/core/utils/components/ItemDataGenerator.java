@@ -2,13 +2,14 @@ package core.utils.components;
 
 import core.item.Item;
 import core.item.concreteItem.*;
+import core.utils.GameRandom;
 
 import java.util.Random;
 
 /** Generator which creates a random ItemData based on the Templates prepared. */
 public class ItemDataGenerator {
 
-    private final Random rand = new Random();
+    private final Random rand = GameRandom.RANDOM;
 
     /**
      * @return a new randomItemData
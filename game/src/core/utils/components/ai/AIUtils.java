@@ -10,6 +10,8 @@ import core.level.Tile;
 import core.level.utils.LevelUtils;
 import core.utils.components.MissingComponentException;
 
+import java.util.Optional;
+
 public class AIUtils {
 
     /**
@@ -50,19 +52,53 @@ public class AIUtils {
             return;
         }
 
-        switch (currentTile.directionTo(nextTile)[0]) {
-            case N -> vc.currentYVelocity(vc.yVelocity());
-            case S -> vc.currentYVelocity(-vc.yVelocity());
-            case E -> vc.currentXVelocity(vc.xVelocity());
-            case W -> vc.currentXVelocity(-vc.xVelocity());
-        }
-        if (currentTile.directionTo(nextTile).length > 1)
-            switch (currentTile.directionTo(nextTile)[1]) {
+        move(vc, currentTile, nextTile);
+    }
+
+    /**
+     * Sets the velocity of the passed entity so that it takes the next necessary step to get to the
+     * hero.
+     *
+     * <p>The step is read from the {@link core.level.elements.astar.FlowField} of the level, so all
+     * entities that chase the hero share one calculation. Does nothing if there is no hero or the
+     * entity can not reach the hero.
+     *
+     * @param entity Entity moving to the hero.
+     */
+    public static void moveToHero(final Entity entity) {
+        Optional<Entity> hero = Game.hero();
+        if (hero.isEmpty()) return;
+        PositionComponent pc =
+                entity.fetch(PositionComponent.class)
+                        .orElseThrow(
+                                () ->
+                                        MissingComponentException.build(
+                                                entity, PositionComponent.class));
+        VelocityComponent vc =
+                entity.fetch(VelocityComponent.class)
+                        .orElseThrow(
+                                () ->
+                                        MissingComponentException.build(
+                                                entity, VelocityComponent.class));
+        Tile currentTile = Game.tileAT(pc.position());
+        Tile heroTile = Game.tileAtEntity(hero.get());
+        if (currentTile == null || heroTile == null) return;
+        Tile nextTile = Game.currentLevel().flowField().next(currentTile, heroTile);
+        if (nextTile == null) return;
+        move(vc, currentTile, nextTile);
+    }
+
+    private static void move(
+            final VelocityComponent vc, final Tile currentTile, final Tile nextTile) {
+        Tile.Direction[] directions = currentTile.directionTo(nextTile);
+        for (Tile.Direction direction : directions) {
+            switch (direction) {
                 case N -> vc.currentYVelocity(vc.yVelocity());
                 case S -> vc.currentYVelocity(-vc.yVelocity());
                 case E -> vc.currentXVelocity(vc.xVelocity());
                 case W -> vc.currentXVelocity(-vc.xVelocity());
             }
+        }
     }
 
     /**
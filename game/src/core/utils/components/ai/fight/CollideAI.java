@@ -30,8 +30,7 @@ public class CollideAI implements Consumer<Entity> {
     public void accept(final Entity entity) {
         if (LevelUtils.playerInRange(entity, rushRange)) {
             // the faster pathing once a certain range is reached
-            path = LevelUtils.calculatePathToHero(entity);
-            AIUtils.move(entity, path);
+            AIUtils.moveToHero(entity);
             timeSinceLastUpdate = delay;
         } else {
             // check if new pathing update
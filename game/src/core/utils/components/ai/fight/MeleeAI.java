@@ -1,10 +1,6 @@
 package core.utils.components.ai.fight;
 
-import com.badlogic.gdx.ai.pfa.GraphPath;
-
 import core.Entity;
-import core.Game;
-import core.level.Tile;
 import core.level.utils.LevelUtils;
 import core.utils.components.ai.AIUtils;
 import core.utils.components.skill.Skill;
@@ -13,10 +9,7 @@ import java.util.function.Consumer;
 
 public class MeleeAI implements Consumer<Entity> {
     private final float attackRange;
-    private final int delay = Game.frameRate();
-    private int timeSinceLastUpdate = 0;
     private final Skill fightSkill;
-    private GraphPath<Tile> path;
 
     /**
      * Attacks the player if he is within the given range. Otherwise, it will move towards the
@@ -35,12 +28,7 @@ public class MeleeAI implements Consumer<Entity> {
         if (LevelUtils.playerInRange(entity, attackRange)) {
             fightSkill.execute(entity);
         } else {
-            if (path == null || timeSinceLastUpdate >= delay) {
-                path = LevelUtils.calculatePathToHero(entity);
-                timeSinceLastUpdate = -1;
-            }
-            timeSinceLastUpdate++;
-            AIUtils.move(entity, path);
+            AIUtils.moveToHero(entity);
         }
     }
 }
@@ -70,8 +70,7 @@ public final class RangeAI implements Consumer<Entity> {
                 skill.execute(entity);
             }
         } else {
-            path = LevelUtils.calculatePathToHero(entity);
-            AIUtils.move(entity, path);
+            AIUtils.moveToHero(entity);
         }
     }
 }
@@ -7,6 +7,7 @@ import core.Game;
 import core.components.PositionComponent;
 import core.level.Tile;
 import core.level.utils.LevelUtils;
+import core.utils.GameRandom;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import core.utils.components.ai.AIUtils;
@@ -18,7 +19,7 @@ import java.util.function.Consumer;
 
 public class PatrolWalk implements Consumer<Entity> {
 
-    private static final Random random = new Random();
+    private static final Random random = GameRandom.RANDOM;
 
     public enum MODE {
         /** Walks to a random checkpoint. */
@@ -133,8 +134,7 @@ public class PatrolWalk implements Consumer<Entity> {
 
         switch (mode) {
             case RANDOM -> {
-                Random rnd = new Random();
-                currentCheckpoint = rnd.nextInt(checkpoints.size());
+                currentCheckpoint = random.nextInt(checkpoints.size());
                 currentPath =
                         LevelUtils.calculatePath(
                                 position.position(),
@@ -0,0 +1,18 @@
+package core.utils.components.collision;
+
+/**
+ * {@link BroadPhase} that tests each hitbox against every other hitbox.
+ *
+ * <p>This needs O(n^2) overlap tests and is only useful for very few hitboxes, or as reference for
+ * tests and benchmarks of the other broad phases.
+ */
+public final class AllPairsBroadPhase implements BroadPhase {
+
+    @Override
+    public void findPairs(final HitboxBuffer hitboxes, final PairConsumer consumer) {
+        int count = hitboxes.size();
+        for (int a = 0; a < count; a++)
+            for (int b = a + 1; b < count; b++)
+                if (hitboxes.overlaps(a, b)) consumer.accept(a, b);
+    }
+}
@@ -0,0 +1,26 @@
+package core.utils.components.collision;
+
+/**
+ * Strategy to find the overlapping hitboxes in a {@link HitboxBuffer}.
+ *
+ * <p>A broad phase avoids testing each hitbox against every other hitbox. It reports each
+ * overlapping pair exactly once to the given {@link PairConsumer}. Pairs that only touch each other
+ * are not reported, see {@link HitboxBuffer#overlaps(int, int)}.
+ */
+public interface BroadPhase {
+
+    /**
+     * Find all overlapping pairs of hitboxes.
+     *
+     * @param hitboxes the hitboxes to check
+     * @param consumer will be called once for each overlapping pair with the indices of both
+     *     hitboxes
+     */
+    void findPairs(HitboxBuffer hitboxes, PairConsumer consumer);
+
+    /** Consumer for a pair of hitbox indices. */
+    @FunctionalInterface
+    interface PairConsumer {
+        void accept(int a, int b);
+    }
+}
@@ -0,0 +1,142 @@
+package core.utils.components.collision;
+
+import core.Entity;
+import core.components.CollideComponent;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer for the axis aligned hitboxes of one collision check.
+ *
+ * <p>The {@link core.systems.CollisionSystem} fills the buffer each frame with the current hitbox
+ * of each entity. The bounds are stored in primitive arrays, so a {@link BroadPhase} can work on
+ * them without creating {@link core.utils.Point}s. The arrays only grow, so after the first frames
+ * no further allocation is needed.
+ *
+ * <p>Each hitbox is identified by its index in the buffer.
+ */
+public final class HitboxBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private CollideComponent[] components = new CollideComponent[INITIAL_CAPACITY];
+    private float[] minX = new float[INITIAL_CAPACITY];
+    private float[] minY = new float[INITIAL_CAPACITY];
+    private float[] maxX = new float[INITIAL_CAPACITY];
+    private float[] maxY = new float[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /** Remove all hitboxes from the buffer. */
+    public void clear() {
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(components, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Add a hitbox to the buffer.
+     *
+     * @param entity the entity of the hitbox
+     * @param component the collide component of the entity
+     * @param minX left border of the hitbox
+     * @param minY bottom border of the hitbox
+     * @param maxX right border of the hitbox
+     * @param maxY top border of the hitbox
+     * @return the index of the hitbox in the buffer
+     */
+    public int add(
+            final Entity entity,
+            final CollideComponent component,
+            float minX,
+            float minY,
+            float maxX,
+            float maxY) {
+        if (size == entities.length) grow();
+        entities[size] = entity;
+        components[size] = component;
+        this.minX[size] = minX;
+        this.minY[size] = minY;
+        this.maxX[size] = maxX;
+        this.maxY[size] = maxY;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        components = Arrays.copyOf(components, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+    }
+
+    /**
+     * Check if the two hitboxes overlap.
+     *
+     * <p>Hitboxes that only touch each other do not overlap.
+     *
+     * @param a index of the first hitbox
+     * @param b index of the second hitbox
+     * @return true if the hitboxes overlap, false if not
+     */
+    public boolean overlaps(int a, int b) {
+        return minX[a] < maxX[b] && maxX[a] > minX[b] && minY[a] < maxY[b] && maxY[a] > minY[b];
+    }
+
+    /**
+     * @return the number of hitboxes in the buffer
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index index of the hitbox
+     * @return the entity of the hitbox
+     */
+    public Entity entity(int index) {
+        return entities[index];
+    }
+
+    /**
+     * @param index index of the hitbox
+     * @return the collide component of the hitbox
+     */
+    public CollideComponent component(int index) {
+        return components[index];
+    }
+
+    /**
+     * @param index index of the hitbox
+     * @return the left border of the hitbox
+     */
+    public float minX(int index) {
+        return minX[index];
+    }
+
+    /**
+     * @param index index of the hitbox
+     * @return the bottom border of the hitbox
+     */
+    public float minY(int index) {
+        return minY[index];
+    }
+
+    /**
+     * @param index index of the hitbox
+     * @return the right border of the hitbox
+     */
+    public float maxX(int index) {
+        return maxX[index];
+    }
+
+    /**
+     * @param index index of the hitbox
+     * @return the top border of the hitbox
+     */
+    public float maxY(int index) {
+        return maxY[index];
+    }
+}
@@ -0,0 +1,93 @@
+package core.utils.components.collision;
+
+import core.Entity;
+
+import java.util.Arrays;
+
+/**
+ * {@link BroadPhase} that sorts the hitboxes along the x-axis and sweeps over them.
+ *
+ * <p>The hitboxes are kept in a list sorted by their left border. Sweeping over the list, a hitbox
+ * only needs to be tested against the following hitboxes until one starts right of its right
+ * border. Unlike the {@link UniformGridBroadPhase}, the cost does not depend on the size of the
+ * level or the density of single areas, which makes it a good fit for levels with very uneven
+ * entity density.
+ *
+ * <p>The sorted list is kept between the calls. Because entities only move a little bit each
+ * frame, the list is nearly sorted and an insertion sort brings it back in order in nearly linear
+ * time. The list is only rebuilt from scratch if the hitboxes in the {@link HitboxBuffer} are no
+ * longer the same entities in the same order as in the previous call, for example if an entity was
+ * added or removed.
+ */
+public final class SweepAndPruneBroadPhase implements BroadPhase {
+
+    private int[] order = new int[64];
+    private Entity[] entities = new Entity[64];
+    private long[] sortKeys = new long[64];
+    private int size = 0;
+
+    @Override
+    public void findPairs(final HitboxBuffer hitboxes, final PairConsumer consumer) {
+        if (isSameAsLastCall(hitboxes)) insertionSort(hitboxes);
+        else rebuild(hitboxes);
+
+        for (int i = 0; i < size; i++) {
+            int a = order[i];
+            float maxX = hitboxes.maxX(a);
+            for (int j = i + 1; j < size; j++) {
+                int b = order[j];
+                if (hitboxes.minX(b) >= maxX) break;
+                if (hitboxes.overlaps(a, b)) consumer.accept(a, b);
+            }
+        }
+    }
+
+    /**
+     * Check if the given buffer contains the same entities in the same order as the buffer of the
+     * last call, so the stored order can be reused.
+     */
+    private boolean isSameAsLastCall(final HitboxBuffer hitboxes) {
+        if (hitboxes.size() != size) return false;
+        for (int i = 0; i < size; i++) if (hitboxes.entity(i) != entities[i]) return false;
+        return true;
+    }
+
+    /** Restore the order after the hitboxes moved, cheap if the order is nearly sorted. */
+    private void insertionSort(final HitboxBuffer hitboxes) {
+        for (int i = 1; i < size; i++) {
+            int index = order[i];
+            float minX = hitboxes.minX(index);
+            int j = i - 1;
+            while (j >= 0 && hitboxes.minX(order[j]) > minX) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    /** Sort the hitboxes from scratch and remember the entities of the buffer. */
+    private void rebuild(final HitboxBuffer hitboxes) {
+        size = hitboxes.size();
+        if (order.length < size) {
+            int capacity = Math.max(size, order.length * 2);
+            order = new int[capacity];
+            entities = new Entity[capacity];
+            sortKeys = new long[capacity];
+        }
+        Arrays.fill(entities, size, entities.length, null);
+        // sort the indices by the left border, packed in one long to avoid boxing
+        for (int i = 0; i < size; i++) {
+            entities[i] = hitboxes.entity(i);
+            sortKeys[i] = ((long) sortableBits(hitboxes.minX(i)) << 32) | i;
+        }
+        Arrays.sort(sortKeys, 0, size);
+        for (int i = 0; i < size; i++) order[i] = (int) sortKeys[i];
+    }
+
+    /** Convert a float in an int with the same order, so it can be used as sort key. */
+    private static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+    }
+}
@@ -0,0 +1,84 @@
+package core.utils.components.collision;
+
+import java.util.Arrays;
+
+/**
+ * {@link BroadPhase} based on a uniform grid with the size of one tile.
+ *
+ * <p>Each hitbox is inserted in every grid cell it covers. The cells use the same coordinates as
+ * the tiles of the level (see {@link core.utils.Point#toCoordinate()}). Only hitboxes that share a
+ * cell will be tested for an overlap.
+ *
+ * <p>The grid is stored as a sorted array of {@code long} entries, each containing the packed cell
+ * coordinate and the index of the hitbox. Sorting groups the entries of one cell together, so no
+ * map or list per cell is needed. The entry array is reused between the calls.
+ *
+ * <p>If two hitboxes share more than one cell, the pair is only tested in the cell that contains
+ * the bottom left corner of their intersection, so each pair is reported exactly once.
+ */
+public final class UniformGridBroadPhase implements BroadPhase {
+
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    private long[] entries = new long[256];
+
+    @Override
+    public void findPairs(final HitboxBuffer hitboxes, final PairConsumer consumer) {
+        int count = fillEntries(hitboxes);
+        Arrays.sort(entries, 0, count);
+
+        int runStart = 0;
+        while (runStart < count) {
+            int key = key(entries[runStart]);
+            int runEnd = runStart + 1;
+            while (runEnd < count && key(entries[runEnd]) == key) runEnd++;
+            for (int i = runStart; i < runEnd; i++) {
+                int a = index(entries[i]);
+                for (int j = i + 1; j < runEnd; j++) {
+                    int b = index(entries[j]);
+                    if (isFirstSharedCell(hitboxes, a, b, key) && hitboxes.overlaps(a, b))
+                        consumer.accept(a, b);
+                }
+            }
+            runStart = runEnd;
+        }
+    }
+
+    private int fillEntries(final HitboxBuffer hitboxes) {
+        int count = 0;
+        for (int i = 0; i < hitboxes.size(); i++) {
+            int minCellX = cell(hitboxes.minX(i));
+            int maxCellX = cell(hitboxes.maxX(i));
+            int minCellY = cell(hitboxes.minY(i));
+            int maxCellY = cell(hitboxes.maxY(i));
+            for (int x = minCellX; x <= maxCellX; x++)
+                for (int y = minCellY; y <= maxCellY; y++) {
+                    if (count == entries.length) entries = Arrays.copyOf(entries, count * 2);
+                    entries[count++] = ((long) pack(x, y) << 32) | i;
+                }
+        }
+        return count;
+    }
+
+    private boolean isFirstSharedCell(final HitboxBuffer hitboxes, int a, int b, int key) {
+        int x = cell(Math.max(hitboxes.minX(a), hitboxes.minX(b)));
+        int y = cell(Math.max(hitboxes.minY(a), hitboxes.minY(b)));
+        return pack(x, y) == key;
+    }
+
+    private static int cell(float value) {
+        return (int) value;
+    }
+
+    private static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    private static int key(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    private static int index(long entry) {
+        return (int) (entry & INDEX_MASK);
+    }
+}
@@ -1,5 +1,7 @@
 package core.utils.components.draw;
 
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
 import java.io.File;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -21,6 +23,11 @@ import java.util.stream.Collectors;
  * time between two frames. Use {@link #setLoop} to define if the Animation stops at the last frame
  * or should loop (starts from the beginning, this is the default setting).
  *
+ * <p>The frames and the configuration are stored in a shared, immutable {@link AnimationClip}. An
+ * Animation only stores the current frame of one entity, so it is cheap to create one for each
+ * entity. Changing the configuration switches this Animation to another clip and does not affect
+ * other entities.
+ *
  * @see core.components.DrawComponent
  * @see IPath
  */
@@ -31,14 +38,8 @@ public final class Animation {
     private static final boolean DEFAULT_IS_LOOP = true;
     private static final int DEFAULT_PRIO = 200;
 
-    /** The set of textures that build the animation. */
-    private final List<String> animationFrames;
-
-    /** The count of textures for the animation. */
-    private final int frames;
-
-    /** Number of frames between switching to the next animation? */
-    private int timeBetweenFrames;
+    /** The shared definition of the animation. */
+    private AnimationClip clip;
 
     /** Index of the NEXT texture that will be returned. */
     private int currentFrameIndex = 0;
@@ -46,10 +47,6 @@ public final class Animation {
     /** How many frames since the last texture switching? */
     private int frameTimeCounter = 0;
 
-    private boolean looping;
-
-    private int priority;
-
     /**
      * Creates an animation.
      *
@@ -61,11 +58,16 @@ public final class Animation {
     public Animation(Collection<String> animationFrames, int frameTime, boolean looping, int prio) {
         assert (animationFrames != null && !animationFrames.isEmpty());
         assert (frameTime > 0);
-        this.animationFrames = new ArrayList<>(animationFrames);
-        frames = animationFrames.size();
-        this.timeBetweenFrames = frameTime;
-        this.looping = looping;
-        this.priority = prio;
+        clip = AnimationClip.of(animationFrames, frameTime, looping, prio);
+    }
+
+    /**
+     * Creates a new playback of the given clip, starting at the first frame.
+     *
+     * @param clip the definition of the animation
+     */
+    public Animation(AnimationClip clip) {
+        this.clip = clip;
     }
 
     /**
@@ -178,38 +180,75 @@ public final class Animation {
      * @return The texture of the next animation step (draw this).
      */
     public String nextAnimationTexturePath() {
-        if (isFinished()) {
-            return animationFrames.get(currentFrameIndex);
-        }
-        String stringToReturn = animationFrames.get(currentFrameIndex);
-        frameTimeCounter = (frameTimeCounter + 1) % timeBetweenFrames;
+        String stringToReturn = currentAnimationTexturePath();
+        update();
+        return stringToReturn;
+    }
+
+    /**
+     * Get the texture of the current animation step without advancing the animation.
+     *
+     * @return The texture of the current animation step (draw this).
+     */
+    public String currentAnimationTexturePath() {
+        return clip.frames().get(currentFrameIndex);
+    }
+
+    /**
+     * Get the region of the current animation step in the texture atlas.
+     *
+     * <p>Must be called on the render thread.
+     *
+     * @return The region of the current animation step (draw this).
+     */
+    public TextureRegion currentRegion() {
+        return clip.region(currentFrameIndex);
+    }
+
+    /**
+     * Advance the animation by one frame.
+     *
+     * <p>Switches to the next texture every {@code timeBetweenFrames} calls. Does nothing if the
+     * animation is finished.
+     */
+    public void update() {
+        if (isFinished()) return;
+        frameTimeCounter = (frameTimeCounter + 1) % clip.frameTime();
         if (frameTimeCounter == 0) {
-            currentFrameIndex = (currentFrameIndex + 1) % frames;
+            currentFrameIndex = (currentFrameIndex + 1) % clip.frameCount();
         }
-        return stringToReturn;
     }
 
     /**
      * @return true when last frame and is not looping, otherwise false
      */
     public boolean isFinished() {
-        return !looping && currentFrameIndex == frames - 1;
+        return !clip.isLooping() && currentFrameIndex == clip.frameCount() - 1;
     }
 
     /**
      * @return true when looping, otherwise false
      */
     public boolean isLooping() {
-        return looping;
+        return clip.isLooping();
     }
 
     /**
      * Get the List of animation frames.
      *
-     * @return List containing the paths of the single frames of the animation.
+     * @return unmodifiable List containing the paths of the single frames of the animation.
      */
     public List<String> getAnimationFrames() {
-        return animationFrames;
+        return clip.frames();
+    }
+
+    /**
+     * Get the shared definition of this animation.
+     *
+     * @return the clip that is played by this animation
+     */
+    public AnimationClip clip() {
+        return clip;
     }
 
     /**
@@ -218,7 +257,7 @@ public final class Animation {
      * @param timeBetweenFrames Time before switching to the next animation frame.
      */
     public void setTimeBetweenFrames(int timeBetweenFrames) {
-        this.timeBetweenFrames = timeBetweenFrames;
+        clip = clip.withFrameTime(timeBetweenFrames);
     }
 
     /**
@@ -232,7 +271,7 @@ public final class Animation {
      * @param loop true if you want to loop, false if not
      */
     public void setLoop(boolean loop) {
-        this.looping = loop;
+        clip = clip.withLoop(loop);
     }
 
     /**
@@ -241,13 +280,13 @@ public final class Animation {
      * @return the priority of the animation
      */
     public int priority() {
-        return priority;
+        return clip.priority();
     }
 
     /**
      * @return the amount of frames it would take to finish one loop of the Animation
      */
     public int duration() {
-        return timeBetweenFrames * animationFrames.size();
+        return clip.duration();
     }
 }
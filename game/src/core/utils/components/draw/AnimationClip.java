@@ -0,0 +1,188 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The immutable definition of an {@link Animation}: the frames, the time between two frames, if
+ * the animation loops and its priority.
+ *
+ * <p>Clips are interned, so all clips with the same definition are the same instance. An {@link
+ * Animation} only stores the playback state for one entity and refers to its clip, so entities of
+ * the same type share their clips.
+ *
+ * <p>The frames are resolved to {@link TextureRegion}s of the {@link TextureMap} on the first draw
+ * and cached in the clip, see {@link #region(int)}.
+ *
+ * @see Animation
+ * @see AnimationManifest
+ */
+public final class AnimationClip {
+
+    private static final Map<AnimationClip, AnimationClip> INTERNED = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, AnimationClip>> DIRECTORIES =
+            new ConcurrentHashMap<>();
+
+    private final List<String> frames;
+    private final int frameTime;
+    private final boolean looping;
+    private final int priority;
+    private final int hash;
+    /** Lazily resolved regions of the frames, only accessed from the render thread. */
+    private TextureRegion[] regions;
+
+    private AnimationClip(List<String> frames, int frameTime, boolean looping, int priority) {
+        this.frames = frames;
+        this.frameTime = frameTime;
+        this.looping = looping;
+        this.priority = priority;
+        hash = Objects.hash(frames, frameTime, looping, priority);
+    }
+
+    /**
+     * Get the clip with the given definition.
+     *
+     * @param frames The list of textures that builds the animation. Must be in order.
+     * @param frameTime How many frames to wait, before switching to the next texture?
+     * @param looping should the Animation continue to repeat ?
+     * @param priority priority for playing this animation
+     * @return the interned clip
+     */
+    public static AnimationClip of(
+            final Collection<String> frames, int frameTime, boolean looping, int priority) {
+        AnimationClip clip = new AnimationClip(List.copyOf(frames), frameTime, looping, priority);
+        AnimationClip interned = INTERNED.putIfAbsent(clip, clip);
+        return interned == null ? clip : interned;
+    }
+
+    /**
+     * Get the clips of the animations in the given asset directory.
+     *
+     * <p>The clips are created with the default configuration of {@link
+     * Animation#Animation(Collection)} and cached per directory.
+     *
+     * @param path Path (as a string) to the directory in the assets folder where the subdirectories
+     *     containing the animation files are stored. Example: "character/knight".
+     * @return unmodifiable map of the name of each subdirectory (e.g. "idle_left") to its clip
+     * @throws IOException if the given path does not exist
+     * @see AnimationManifest#animations(String)
+     */
+    public static Map<String, AnimationClip> directory(final String path) throws IOException {
+        Map<String, AnimationClip> clips = DIRECTORIES.get(path);
+        if (clips != null) return clips;
+        Map<String, AnimationClip> created = new HashMap<>();
+        AnimationManifest.instance()
+                .animations(path)
+                .forEach((name, frames) -> created.put(name, new Animation(frames).clip()));
+        clips = Map.copyOf(created);
+        DIRECTORIES.putIfAbsent(path, clips);
+        return clips;
+    }
+
+    /**
+     * Get the List of animation frames.
+     *
+     * @return unmodifiable List containing the paths of the single frames of the animation.
+     */
+    public List<String> frames() {
+        return frames;
+    }
+
+    /**
+     * @return the number of frames
+     */
+    public int frameCount() {
+        return frames.size();
+    }
+
+    /**
+     * @return the time (in frames) between two animation frames
+     */
+    public int frameTime() {
+        return frameTime;
+    }
+
+    /**
+     * @return true when looping, otherwise false
+     */
+    public boolean isLooping() {
+        return looping;
+    }
+
+    /**
+     * Higher Priority means the Animation is more likely to be used.
+     *
+     * @return the priority of the animation
+     */
+    public int priority() {
+        return priority;
+    }
+
+    /**
+     * @return the amount of frames it would take to finish one loop of the Animation
+     */
+    public int duration() {
+        return frameTime * frames.size();
+    }
+
+    /**
+     * Get the region of the given frame in the texture atlas.
+     *
+     * <p>Must be called on the render thread.
+     *
+     * @param frame index of the frame
+     * @return the region of the frame
+     */
+    public TextureRegion region(int frame) {
+        if (regions == null) regions = new TextureRegion[frames.size()];
+        TextureRegion region = regions[frame];
+        if (region == null) {
+            region = TextureMap.instance().regionAt(frames.get(frame));
+            regions[frame] = region;
+        }
+        return region;
+    }
+
+    /**
+     * Get the clip with the same frames, but another time between two frames.
+     *
+     * @param frameTime How many frames to wait, before switching to the next texture?
+     * @return the interned clip
+     */
+    public AnimationClip withFrameTime(int frameTime) {
+        return of(frames, frameTime, looping, priority);
+    }
+
+    /**
+     * Get the clip with the same frames, but another loop setting.
+     *
+     * @param looping should the Animation continue to repeat ?
+     * @return the interned clip
+     */
+    public AnimationClip withLoop(boolean looping) {
+        return of(frames, frameTime, looping, priority);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnimationClip other = (AnimationClip) o;
+        return frameTime == other.frameTime
+                && looping == other.looping
+                && priority == other.priority
+                && frames.equals(other.frames);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,207 @@
+package core.utils.components.draw;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Index of the animation directories in the assets.
+ *
+ * <p>An animation is a directory that contains the frames of the animation (e.g.
+ * "character/knight/idle_left"). The manifest maps each directory that contains animations (e.g.
+ * "character/knight") to its animations and their frames. The frames are sorted in lexicographic
+ * order, this is the order in which they will be played.
+ *
+ * <p>The assets are scanned only once, on the first call of {@link #scan()} or {@link
+ * #animations(String)}. If the game runs from a JAR file, all entries of the JAR file are indexed.
+ * Otherwise, the asset directory is found by the empty ".resource_root" file in it and indexed
+ * completely. Directories in other resource roots (e.g. the test resources) are indexed on their
+ * first request.
+ *
+ * <p>The frame lists are immutable, so all {@link Animation}s created from the same directory share
+ * the same list.
+ *
+ * @see core.components.DrawComponent
+ */
+public final class AnimationManifest {
+
+    /** Empty file in the root of the asset directory, used to find the directory. */
+    private static final String RESOURCE_ROOT = ".resource_root";
+
+    private static final AnimationManifest INSTANCE = new AnimationManifest();
+
+    /** Maps the parent directory to the name of each animation and its frames. */
+    private final Map<String, Map<String, List<String>>> animations = new HashMap<>();
+
+    private boolean scanned = false;
+
+    private AnimationManifest() {}
+
+    public static AnimationManifest instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Index all animations of the assets.
+     *
+     * <p>Does nothing if the assets were already scanned.
+     *
+     * @throws IOException if the JAR file can not be read
+     */
+    public synchronized void scan() throws IOException {
+        if (scanned) return;
+        scanned = true;
+        File jarFile =
+                new File(
+                        AnimationManifest.class
+                                .getProtectionDomain()
+                                .getCodeSource()
+                                .getLocation()
+                                .getPath());
+        if (jarFile.isFile()) scanJar(jarFile);
+        else {
+            URL root = AnimationManifest.class.getResource("/" + RESOURCE_ROOT);
+            if (root != null) scanDirectory(toPath(root).getParent(), "");
+        }
+    }
+
+    /**
+     * Get the animations in the given directory.
+     *
+     * @param path Path (as a string) to the directory in the assets folder where the subdirectories
+     *     containing the animation files are stored. Example: "character/knight".
+     * @return unmodifiable map of the name of each subdirectory (e.g. "idle_left") to the sorted
+     *     paths of its files
+     * @throws IOException if the given path does not exist
+     */
+    public synchronized Map<String, List<String>> animations(final String path)
+            throws IOException {
+        scan();
+        Map<String, List<String>> result = animations.get(path);
+        if (result != null) return result;
+        // may be in another resource root
+        URL url = AnimationManifest.class.getResource("/" + path);
+        if (url == null || !"file".equals(url.getProtocol()))
+            throw new FileNotFoundException("Path " + path + " not found.");
+        scanDirectory(toPath(url), path + "/");
+        result = animations.get(path);
+        if (result == null) {
+            // directory without animations, do not scan it again
+            result = Map.of();
+            animations.put(path, result);
+        }
+        return result;
+    }
+
+    /**
+     * Get the paths of all images in the given directory and its subdirectories.
+     *
+     * <p>Only the already indexed directories are searched, call {@link #scan()} first.
+     *
+     * @param directory path to the directory, e.g. "character"
+     * @return the paths of all PNG files in the directory
+     */
+    public synchronized List<String> textures(final String directory) {
+        String prefix = directory + "/";
+        return animations.entrySet().stream()
+                .filter(
+                        entry ->
+                                entry.getKey().equals(directory)
+                                        || entry.getKey().startsWith(prefix))
+                .flatMap(entry -> entry.getValue().values().stream())
+                .flatMap(Collection::stream)
+                .filter(file -> file.endsWith(".png"))
+                .collect(Collectors.toList());
+    }
+
+    private void scanJar(final File jarFile) throws IOException {
+        List<String> files = new ArrayList<>();
+        try (JarFile jar = new JarFile(jarFile)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory()
+                        || name.endsWith(".class")
+                        || name.startsWith("META-INF/")) continue;
+                files.add(name);
+            }
+        }
+        index(files);
+    }
+
+    private void scanDirectory(final Path directory, final String prefix) throws IOException {
+        List<String> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files =
+                    paths.filter(Files::isRegularFile)
+                            .map(file -> prefix + toName(directory.relativize(file)))
+                            .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        index(files);
+    }
+
+    /**
+     * Add the given files to the index.
+     *
+     * <p>A file "a/b/c/frame.png" will be the frame of the animation "c" in the directory "a/b".
+     */
+    private void index(final List<String> files) {
+        Map<String, Map<String, List<String>>> found = new HashMap<>();
+        for (String file : files) {
+            int lastSlashIndex = file.lastIndexOf('/');
+            if (lastSlashIndex < 0) continue;
+            String directory = file.substring(0, lastSlashIndex);
+            int secondLastSlashIndex = directory.lastIndexOf('/');
+            String parent =
+                    secondLastSlashIndex < 0 ? "" : directory.substring(0, secondLastSlashIndex);
+            String name = directory.substring(secondLastSlashIndex + 1);
+            found.computeIfAbsent(parent, key -> new HashMap<>())
+                    .computeIfAbsent(name, key -> new ArrayList<>())
+                    .add(file);
+        }
+        found.forEach(
+                (parent, animationsOfParent) -> {
+                    Map<String, List<String>> merged =
+                            new HashMap<>(animations.getOrDefault(parent, Map.of()));
+                    animationsOfParent.forEach(
+                            (name, frames) -> {
+                                // sort the files in lexicographic order (like the most os)
+                                Collections.sort(frames);
+                                merged.putIfAbsent(name, List.copyOf(frames));
+                            });
+                    animations.put(parent, Map.copyOf(merged));
+                });
+    }
+
+    private static String toName(final Path relativePath) {
+        return relativePath.toString().replace(File.separatorChar, '/');
+    }
+
+    private static Path toPath(final URL url) throws IOException {
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package core.utils.components.draw;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The queue of the animations that an entity wants to play, see {@link
+ * core.components.DrawComponent#queueAnimation(int, IPath...)}.
+ *
+ * <p>The queue holds at most one animation per priority. Each queued animation is played for a
+ * number of logic ticks, the animation with the highest priority is played first.
+ *
+ * <p>The entries are stored in primitive arrays, sorted by priority, so the animation with the
+ * highest priority is found in constant time. Queueing, removing and updating the entries does not
+ * allocate any objects, as long as the number of priorities in the queue does not exceed the
+ * capacity of the arrays.
+ *
+ * <p>{@link #asMap()} offers the queue as the map of the animations to their remaining frames,
+ * which was the type of the queue before.
+ */
+public final class AnimationQueue {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private IPath[] paths = new IPath[INITIAL_CAPACITY];
+    private int[] priorities = new int[INITIAL_CAPACITY];
+    private int[] remainingFrames = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private Map<IPath, Integer> map;
+
+    /**
+     * Queue the given animation for the given number of logic ticks.
+     *
+     * <p>If the animation is already queued, nothing changes. If another animation with the same
+     * priority is queued, the queued animation is kept, but its remaining frames are set to the
+     * given number.
+     *
+     * @param path the animation to queue
+     * @param forFrames number of logic ticks to play the animation for
+     */
+    public void queue(final IPath path, int forFrames) {
+        int priority = path.priority();
+        int index = 0;
+        while (index < size && priorities[index] < priority) index++;
+        if (index < size && priorities[index] == priority) {
+            if (!paths[index].equals(path)) remainingFrames[index] = forFrames;
+            return;
+        }
+        if (size == paths.length) grow();
+        System.arraycopy(paths, index, paths, index + 1, size - index);
+        System.arraycopy(priorities, index, priorities, index + 1, size - index);
+        System.arraycopy(remainingFrames, index, remainingFrames, index + 1, size - index);
+        paths[index] = path;
+        priorities[index] = priority;
+        remainingFrames[index] = forFrames;
+        size++;
+    }
+
+    /**
+     * Remove the animation with the given priority.
+     *
+     * @param priority priority to remove
+     */
+    public void removePriority(int priority) {
+        int index = indexOf(priority);
+        if (index >= 0) remove(index);
+    }
+
+    /**
+     * Check if an animation with the same path as the given animation is queued.
+     *
+     * @param path the animation to look for
+     * @return true if the animation is queued
+     */
+    public boolean contains(final IPath path) {
+        String pathString = path.pathString();
+        for (int i = 0; i < size; i++) if (paths[i].pathString().equals(pathString)) return true;
+        return false;
+    }
+
+    /**
+     * Reduce the remaining frames of each queued animation by one.
+     *
+     * <p>Animations without remaining frames are removed.
+     */
+    public void update() {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int remaining = remainingFrames[i] - 1;
+            if (remaining < 0) continue;
+            paths[kept] = paths[i];
+            priorities[kept] = priorities[i];
+            remainingFrames[kept] = remaining;
+            kept++;
+        }
+        Arrays.fill(paths, kept, size, null);
+        size = kept;
+    }
+
+    /**
+     * Get the queued animation with the highest priority.
+     *
+     * @return the animation to play, or null if the queue is empty
+     */
+    public IPath top() {
+        return size == 0 ? null : paths[size - 1];
+    }
+
+    /**
+     * @return the number of queued animations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the queued animation at the given index.
+     *
+     * @param index index in the queue, the animations are sorted by ascending priority
+     * @return the animation at the given index
+     */
+    public IPath path(int index) {
+        return paths[index];
+    }
+
+    /**
+     * Get the remaining logic ticks of the queued animation at the given index.
+     *
+     * @param index index in the queue, the animations are sorted by ascending priority
+     * @return the remaining frames of the animation at the given index
+     */
+    public int remainingFrames(int index) {
+        return remainingFrames[index];
+    }
+
+    /** Remove all queued animations. */
+    public void clear() {
+        Arrays.fill(paths, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Get a view of the queue as a map of the queued animations to their remaining frames.
+     *
+     * <p>The map behaves like a {@code TreeMap} ordered by {@link IPath#priority()}: it is sorted
+     * by ascending priority, and the keys are compared by their priority only. So {@link
+     * Map#put(Object, Object)} with the priority of a queued animation keeps that animation, but
+     * replaces its remaining frames. Changes of the map are written to the queue, and the other
+     * way around.
+     *
+     * <p>Reading the map creates an entry object for each animation, use the methods of the queue
+     * where that matters.
+     *
+     * @return the queue as a map
+     */
+    public Map<IPath, Integer> asMap() {
+        if (map == null) map = new MapView();
+        return map;
+    }
+
+    private int indexOf(int priority) {
+        for (int i = 0; i < size; i++) if (priorities[i] == priority) return i;
+        return -1;
+    }
+
+    private void remove(int index) {
+        System.arraycopy(paths, index + 1, paths, index, size - index - 1);
+        System.arraycopy(priorities, index + 1, priorities, index, size - index - 1);
+        System.arraycopy(remainingFrames, index + 1, remainingFrames, index, size - index - 1);
+        size--;
+        paths[size] = null;
+    }
+
+    private void grow() {
+        int capacity = paths.length * 2;
+        paths = Arrays.copyOf(paths, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        remainingFrames = Arrays.copyOf(remainingFrames, capacity);
+    }
+
+    /** The queue as a map, see {@link #asMap()}. */
+    private final class MapView extends AbstractMap<IPath, Integer> {
+
+        private final Set<Entry<IPath, Integer>> entries =
+                new AbstractSet<>() {
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+
+                    @Override
+                    public Iterator<Entry<IPath, Integer>> iterator() {
+                        return new EntryIterator();
+                    }
+                };
+
+        @Override
+        public Set<Entry<IPath, Integer>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof IPath path && indexOf(path.priority()) >= 0;
+        }
+
+        @Override
+        public Integer get(final Object key) {
+            if (!(key instanceof IPath path)) return null;
+            int index = indexOf(path.priority());
+            return index >= 0 ? remainingFrames[index] : null;
+        }
+
+        @Override
+        public Integer put(final IPath path, final Integer frames) {
+            int index = indexOf(path.priority());
+            if (index < 0) {
+                queue(path, frames);
+                return null;
+            }
+            int previous = remainingFrames[index];
+            remainingFrames[index] = frames;
+            return previous;
+        }
+
+        @Override
+        public Integer remove(final Object key) {
+            if (!(key instanceof IPath path)) return null;
+            int index = indexOf(path.priority());
+            if (index < 0) return null;
+            int previous = remainingFrames[index];
+            AnimationQueue.this.remove(index);
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            AnimationQueue.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<IPath, Integer>> {
+
+        private int next = 0;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<IPath, Integer> next() {
+            if (next >= size) throw new NoSuchElementException();
+            last = next++;
+            return new QueueEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) throw new IllegalStateException();
+            AnimationQueue.this.remove(last);
+            next = last;
+            last = -1;
+        }
+    }
+
+    private final class QueueEntry implements Map.Entry<IPath, Integer> {
+
+        private final int index;
+        private final IPath path;
+        private Integer frames;
+
+        private QueueEntry(int index) {
+            this.index = index;
+            path = paths[index];
+            frames = remainingFrames[index];
+        }
+
+        @Override
+        public IPath getKey() {
+            return path;
+        }
+
+        @Override
+        public Integer getValue() {
+            return frames;
+        }
+
+        @Override
+        public Integer setValue(final Integer frames) {
+            remainingFrames[index] = frames;
+            Integer previous = this.frames;
+            this.frames = frames;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Map.Entry<?, ?> entry
+                    && Objects.equals(path, entry.getKey())
+                    && Objects.equals(frames, entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(path) ^ Objects.hashCode(frames);
+        }
+
+        @Override
+        public String toString() {
+            return path + "=" + frames;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package core.utils.components.draw;
+
+/**
+ * The layers in which the entities are drawn.
+ *
+ * <p>Entities in a higher layer are drawn on top of the entities in a lower layer. Within a layer,
+ * entities further down on the screen are drawn on top of entities further up, so entities that
+ * stand in front of others also cover them.
+ *
+ * @see core.components.DrawComponent#depthLayer()
+ * @see core.systems.DrawSystem
+ */
+public enum DepthLayer {
+    /** Things lying on the floor, e.g. dropped items. */
+    GROUND,
+    /** Monsters and other objects, this is the default. */
+    DEFAULT,
+    /** The playable characters. */
+    PLAYER,
+    /** Projectiles, which fly above the other entities. */
+    PROJECTILE
+}
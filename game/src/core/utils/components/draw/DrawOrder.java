@@ -0,0 +1,161 @@
+package core.utils.components.draw;
+
+import core.Entity;
+import core.components.DrawComponent;
+import core.components.PositionComponent;
+
+import java.util.Arrays;
+
+/**
+ * The entities of the {@link core.systems.DrawSystem} in the order they are drawn.
+ *
+ * <p>Entities are sorted by their {@link DepthLayer}. Within a layer, entities further up on the
+ * screen (with a higher y-position) are drawn first, so entities further down are drawn on top of
+ * them. Entities at the same position are ordered by their id, so the order is stable.
+ *
+ * <p>Entities are inserted at their place when they are added. Because entities move only a bit
+ * each tick, the order is only slightly off when it is drawn the next time. {@link #sort()} uses an
+ * insertion sort, which repairs such an order in about one pass over the entities and does not
+ * allocate any objects.
+ *
+ * <p>The components of the entities are kept next to them, so the order can be sorted and drawn
+ * without looking them up for each comparison. The systems only report added and removed
+ * entities, not replaced components, so {@link #refresh()} fetches them again once per pass.
+ */
+public final class DrawOrder {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private DrawComponent[] drawComponents = new DrawComponent[INITIAL_CAPACITY];
+    private PositionComponent[] positionComponents = new PositionComponent[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Add the given entity at its place in the order.
+     *
+     * @param entity the entity to add
+     * @param dc the {@link DrawComponent} of the entity
+     * @param pc the {@link PositionComponent} of the entity
+     */
+    public void add(final Entity entity, final DrawComponent dc, final PositionComponent pc) {
+        if (size == entities.length) grow();
+        int index = size;
+        while (index > 0 && compare(index - 1, dc, pc, entity) > 0) {
+            move(index - 1, index);
+            index--;
+        }
+        entities[index] = entity;
+        drawComponents[index] = dc;
+        positionComponents[index] = pc;
+        size++;
+    }
+
+    /**
+     * Remove the given entity from the order.
+     *
+     * @param entity the entity to remove
+     */
+    public void remove(final Entity entity) {
+        for (int i = 0; i < size; i++)
+            if (entities[i] == entity) {
+                for (int j = i + 1; j < size; j++) move(j, j - 1);
+                size--;
+                entities[size] = null;
+                drawComponents[size] = null;
+                positionComponents[size] = null;
+                return;
+            }
+    }
+
+    /**
+     * Fetch the components of all entities again, in case an entity got a new {@link
+     * DrawComponent} or {@link PositionComponent}.
+     *
+     * <p>This runs each tick and each frame, so the components are read with {@link
+     * Entity#fetchOrNull} instead of creating two {@link java.util.Optional}s per entity.
+     */
+    public void refresh() {
+        for (int i = 0; i < size; i++) {
+            Entity entity = entities[i];
+            DrawComponent dc = entity.fetchOrNull(DrawComponent.class);
+            if (dc != null) drawComponents[i] = dc;
+            PositionComponent pc = entity.fetchOrNull(PositionComponent.class);
+            if (pc != null) positionComponents[i] = pc;
+        }
+    }
+
+    /** Restore the order after the entities moved, changed their layer or their components. */
+    public void sort() {
+        refresh();
+        for (int i = 1; i < size; i++) {
+            Entity entity = entities[i];
+            DrawComponent dc = drawComponents[i];
+            PositionComponent pc = positionComponents[i];
+            int index = i;
+            while (index > 0 && compare(index - 1, dc, pc, entity) > 0) {
+                move(index - 1, index);
+                index--;
+            }
+            if (index == i) continue;
+            entities[index] = entity;
+            drawComponents[index] = dc;
+            positionComponents[index] = pc;
+        }
+    }
+
+    /**
+     * @return the number of entities in the order
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index position in the order
+     * @return the entity at the given position
+     */
+    public Entity entity(int index) {
+        return entities[index];
+    }
+
+    /**
+     * @param index position in the order
+     * @return the {@link DrawComponent} of the entity at the given position
+     */
+    public DrawComponent drawComponent(int index) {
+        return drawComponents[index];
+    }
+
+    /**
+     * @param index position in the order
+     * @return the {@link PositionComponent} of the entity at the given position
+     */
+    public PositionComponent positionComponent(int index) {
+        return positionComponents[index];
+    }
+
+    /** Compare the entry at the given index with the given entity. */
+    private int compare(
+            int index, final DrawComponent dc, final PositionComponent pc, final Entity entity) {
+        int layer = drawComponents[index].depthLayer().compareTo(dc.depthLayer());
+        if (layer != 0) return layer;
+        // higher y first, so entities further down cover the entities behind them
+        int y = Float.compare(pc.y(), positionComponents[index].y());
+        if (y != 0) return y;
+        return Integer.compare(entities[index].id(), entity.id());
+    }
+
+    private void move(int from, int to) {
+        entities[to] = entities[from];
+        drawComponents[to] = drawComponents[from];
+        positionComponents[to] = positionComponents[from];
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        drawComponents = Arrays.copyOf(drawComponents, capacity);
+        positionComponents = Arrays.copyOf(positionComponents, capacity);
+    }
+}
@@ -1,40 +1,142 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
 
 import core.systems.CameraSystem;
+import core.utils.IVoidFunction;
 import core.utils.Point;
 
-/** Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es. */
+/**
+ * Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es.
+ *
+ * <p>The textures are taken from the texture atlas of the {@link TextureMap}, so consecutive
+ * sprites usually share the same texture and are sent to the GPU together.
+ *
+ * <p>Call {@link #begin()} once before drawing a frame and {@link #end()} afterward, so the whole
+ * frame is drawn with a single batch. The {@link core.game.GameLoop} does this around the {@link
+ * core.utils.IRenderable} systems. If a sprite is drawn outside of {@link #begin()} and {@link
+ * #end()}, the batch is started and flushed just for this sprite.
+ */
 public class Painter {
     private final SpriteBatch batch;
+    private int renderCalls = 0;
+    private int frameRenderCalls = 0;
 
     /** Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es. */
     public Painter(SpriteBatch batch) {
         this.batch = batch;
     }
 
-    public void draw(Point position, String texturePath, PainterConfig config, boolean blink) {
-        float realX = position.x + config.xOffset; // including the drawOffset
-        float realY = position.y + config.yOffset; // including the drawOffset
-        if (CameraSystem.isPointInFrustum(realX, realY)) {
-            Sprite sprite = new Sprite(TextureMap.instance().textureAt(texturePath));
-            // set up scaling of textures
-            sprite.setSize(config.xScaling, config.yScaling);
-            // where to draw the sprite
-            sprite.setPosition(realX, realY);
-
-            if (blink) sprite.setColor(1, 0, 0, 1); // Red color
-            // need to be called before drawing
+    /** Start drawing a frame. Does nothing if the batch is already drawing. */
+    public void begin() {
+        if (batch.isDrawing()) return;
+        frameRenderCalls = 0;
+        batch.begin();
+    }
+
+    /** Flush all sprites of the frame to the GPU. Does nothing if the batch is not drawing. */
+    public void end() {
+        if (!batch.isDrawing()) return;
+        batch.end();
+        renderCalls = frameRenderCalls + batch.renderCalls;
+    }
+
+    /**
+     * Execute drawing code that does not use the batch of this painter, e.g. a {@link
+     * TileLayerCache}.
+     *
+     * <p>If the batch is drawing, the sprites drawn so far are flushed and the batch is started
+     * again afterward, so the order of the sprites is kept.
+     *
+     * @param drawing the drawing code
+     */
+    public void drawUnbatched(final IVoidFunction drawing) {
+        if (!batch.isDrawing()) {
+            drawing.execute();
+            return;
+        }
+        batch.end();
+        frameRenderCalls += batch.renderCalls;
+        try {
+            drawing.execute();
+        } finally {
             batch.begin();
-            // draw sprite
-            sprite.draw(batch);
-            // need to be called after drawing
-            batch.end();
         }
     }
 
+    /**
+     * Get the projection matrix the sprites are drawn with.
+     *
+     * @return the projection matrix of the batch
+     */
+    public Matrix4 projectionMatrix() {
+        return batch.getProjectionMatrix();
+    }
+
+    /**
+     * Get the number of draw calls the batch needed for the last frame.
+     *
+     * @return the number of draw calls between the last {@link #begin()} and {@link #end()}
+     */
+    public int renderCalls() {
+        return renderCalls;
+    }
+
+    public void draw(Point position, String texturePath, PainterConfig config, boolean blink) {
+        draw(position.x, position.y, texturePath, config, blink);
+    }
+
+    /**
+     * Draw the given texture at the given position without creating a {@link Point}.
+     *
+     * @param x x-position to draw at
+     * @param y y-position to draw at
+     * @param texturePath path to the texture
+     * @param config offset and scaling of the texture
+     * @param blink true to tint the texture red
+     */
+    public void draw(float x, float y, String texturePath, PainterConfig config, boolean blink) {
+        float realX = x + config.xOffset; // including the drawOffset
+        float realY = y + config.yOffset; // including the drawOffset
+        if (CameraSystem.isPointInFrustum(realX, realY))
+            drawAt(realX, realY, TextureMap.instance().regionAt(texturePath), config, blink);
+    }
+
+    /**
+     * Draw the given region of the texture atlas at the given position.
+     *
+     * <p>Use this for regions that are already resolved, e.g. by {@link
+     * AnimationClip#region(int)}.
+     *
+     * @param x x-position to draw at
+     * @param y y-position to draw at
+     * @param region the region to draw
+     * @param config offset and scaling of the texture
+     * @param blink true to tint the texture red
+     */
+    public void drawRegion(
+            float x, float y, TextureRegion region, PainterConfig config, boolean blink) {
+        float realX = x + config.xOffset; // including the drawOffset
+        float realY = y + config.yOffset; // including the drawOffset
+        if (CameraSystem.isPointInFrustum(realX, realY))
+            drawAt(realX, realY, region, config, blink);
+    }
+
+    private void drawAt(
+            float realX, float realY, TextureRegion region, PainterConfig config, boolean blink) {
+        boolean ownBatch = !batch.isDrawing();
+        if (ownBatch) batch.begin();
+        if (blink) {
+            float color = batch.getPackedColor();
+            batch.setColor(1, 0, 0, 1); // Red color
+            batch.draw(region, realX, realY, config.xScaling, config.yScaling);
+            batch.setPackedColor(color);
+        } else batch.draw(region, realX, realY, config.xScaling, config.yScaling);
+        if (ownBatch) batch.end();
+    }
+
     public void draw(Point position, String texturePath, PainterConfig config) {
         draw(position, texturePath, config, false);
     }
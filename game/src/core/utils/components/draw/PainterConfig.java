@@ -1,6 +1,6 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /** This class serves as a configuration class for the {@link Painter} class. */
 public class PainterConfig {
@@ -16,15 +16,15 @@ public class PainterConfig {
         this.yScaling = yScaling;
     }
 
-    private PainterConfig(float xOffset, float yOffset, float xScaling, Texture texture) {
+    private PainterConfig(float xOffset, float yOffset, float xScaling, TextureRegion texture) {
         this(
                 xOffset,
                 yOffset,
                 xScaling,
-                ((float) texture.getHeight() / (float) texture.getWidth()));
+                ((float) texture.getRegionHeight() / (float) texture.getRegionWidth()));
     }
 
-    private PainterConfig(Texture texture) {
+    private PainterConfig(TextureRegion texture) {
         this(0f, 0f, 1, texture);
     }
 
@@ -35,7 +35,7 @@ public class PainterConfig {
      * @param texturePath path to the texture
      */
     public PainterConfig(String texturePath) {
-        this(TextureMap.instance().textureAt(texturePath));
+        this(TextureMap.instance().regionAt(texturePath));
     }
 
     /**
@@ -46,7 +46,7 @@ public class PainterConfig {
      */
     public PainterConfig(String texturePath, float xOffset, float yOffset) {
         // half the texture xOffset, yOffset is a quarter texture down
-        this(xOffset, yOffset, 1, TextureMap.instance().textureAt(texturePath));
+        this(xOffset, yOffset, 1, TextureMap.instance().regionAt(texturePath));
     }
 
     /**
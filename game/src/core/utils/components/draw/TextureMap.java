@@ -1,13 +1,53 @@
 package core.utils.components.draw;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
 
+/**
+ * Loads and caches the textures of the game.
+ *
+ * <p>{@link #textureAt(String)} loads each texture as its own {@link Texture}, this is used by the
+ * HUD.
+ *
+ * <p>{@link #regionAt(String)} packs the image into a shared texture atlas at runtime instead. All
+ * regions of one atlas page share the same {@link Texture}, so the {@link Painter} can draw the
+ * level and the entities without switching textures, which would force the {@link
+ * com.badlogic.gdx.graphics.g2d.SpriteBatch} to flush. Images that do not fit on a page get their
+ * own texture.
+ *
+ * <p>Images can be preloaded with {@link #preload(Iterable)}. They are decoded on a background
+ * thread by an {@link AssetManager}, and each call of {@link #update(int)} packs the decoded images
+ * into the atlas and uploads the atlas once. This way, the first time an entity is drawn does not
+ * stall the frame.
+ */
 public class TextureMap {
+    /** Width and height of one atlas page in pixels. */
+    public static final int ATLAS_PAGE_SIZE = 2048;
+
+    private static final int ATLAS_PADDING = 2;
+    private static final Logger LOGGER = Logger.getLogger(TextureMap.class.getName());
     private static final TextureMap INSTANCE = new TextureMap();
     private final Map<String, Texture> textureMap = new HashMap<>();
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+    private final List<String> pendingPaths = new ArrayList<>();
+    private final Set<String> preloading = new LinkedHashSet<>();
+    private PixmapPacker packer;
+    private AssetManager assetManager;
 
     private TextureMap() {}
 
@@ -29,4 +69,167 @@ public class TextureMap {
 
         return textureMap.get(path);
     }
+
+    /**
+     * Get the region of the given image in the texture atlas.
+     *
+     * <p>If the image is not in the atlas yet, it is packed and the atlas page is uploaded again.
+     * Use {@link #pack(Iterable)} to add many images with a single upload.
+     *
+     * @param path to texture
+     * @return the region of the image
+     */
+    public TextureRegion regionAt(String path) {
+        TextureRegion region = regions.get(path);
+        if (region != null) return region;
+        packImage(path);
+        updatePages();
+        return regions.get(path);
+    }
+
+    /**
+     * Pack the given images into the texture atlas.
+     *
+     * <p>Images that are already packed are skipped. The changed atlas pages are uploaded once at
+     * the end.
+     *
+     * @param paths to the textures
+     */
+    public void pack(Iterable<String> paths) {
+        for (String path : paths) if (!regions.containsKey(path)) packImage(path);
+        updatePages();
+    }
+
+    /**
+     * Decode the given images in the background, so they can be packed into the texture atlas
+     * without loading them on the render thread.
+     *
+     * <p>Images that are already packed or preloading are skipped. The decoded images are packed by
+     * {@link #update(int)}. If an image is needed earlier, {@link #regionAt(String)} loads it
+     * directly.
+     *
+     * @param paths to the textures
+     */
+    public void preload(Iterable<String> paths) {
+        for (String path : paths) {
+            if (regions.containsKey(path) || !preloading.add(path)) continue;
+            assetManager().load(path, Pixmap.class);
+        }
+    }
+
+    /**
+     * Pack the preloaded images that have been decoded into the texture atlas.
+     *
+     * <p>Must be called on the render thread, usually once per frame. The changed atlas pages are
+     * uploaded once at the end.
+     *
+     * @param millis how long the asset manager may block the render thread
+     * @return true if all preloaded images are packed
+     */
+    public boolean update(int millis) {
+        if (preloading.isEmpty()) return true;
+        boolean finished = assetManager.update(millis);
+        Iterator<String> paths = preloading.iterator();
+        while (paths.hasNext()) {
+            String path = paths.next();
+            if (!assetManager.isLoaded(path)) continue;
+            paths.remove();
+            packPreloaded(path);
+        }
+        updatePages();
+        return finished && preloading.isEmpty();
+    }
+
+    private void packImage(String path) {
+        if (preloading.remove(path)) {
+            if (assetManager.isLoaded(path)) {
+                packPreloaded(path);
+                return;
+            }
+            // needed before the preloading finished, load it directly instead
+            assetManager.unload(path);
+        }
+        packPixmap(path);
+    }
+
+    private void packPreloaded(String path) {
+        Pixmap pixmap = assetManager.get(path, Pixmap.class);
+        try {
+            packPixmap(path, pixmap);
+        } finally {
+            // disposes the pixmap, the atlas page keeps a copy
+            assetManager.unload(path);
+        }
+    }
+
+    private void packPixmap(String path) {
+        if (pendingPaths.contains(path)) return;
+        Pixmap pixmap = new Pixmap(Gdx.files.internal(path));
+        try {
+            packPixmap(path, pixmap);
+        } finally {
+            pixmap.dispose();
+        }
+    }
+
+    private void packPixmap(String path, Pixmap pixmap) {
+        if (pendingPaths.contains(path)) return;
+        int padding = 2 * ATLAS_PADDING;
+        if (pixmap.getWidth() + padding > ATLAS_PAGE_SIZE
+                || pixmap.getHeight() + padding > ATLAS_PAGE_SIZE) {
+            // too large for the atlas, use a texture of its own
+            regions.put(path, new TextureRegion(textureAt(path)));
+            return;
+        }
+        packer().pack(path, pixmap);
+        pendingPaths.add(path);
+    }
+
+    private void updatePages() {
+        if (pendingPaths.isEmpty()) return;
+        packer.updatePageTextures(
+                Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        for (String path : pendingPaths) {
+            Rectangle rect = packer.getRect(path);
+            Texture page = packer.getPage(path).getTexture();
+            regions.put(
+                    path,
+                    new TextureRegion(
+                            page, (int) rect.x, (int) rect.y, (int) rect.width, (int) rect.height));
+        }
+        pendingPaths.clear();
+    }
+
+    private PixmapPacker packer() {
+        if (packer == null)
+            packer =
+                    new PixmapPacker(
+                            ATLAS_PAGE_SIZE,
+                            ATLAS_PAGE_SIZE,
+                            Pixmap.Format.RGBA8888,
+                            ATLAS_PADDING,
+                            true);
+        return packer;
+    }
+
+    private AssetManager assetManager() {
+        if (assetManager == null) {
+            assetManager = new AssetManager(new InternalFileHandleResolver());
+            assetManager.setErrorListener(
+                    (asset, throwable) -> {
+                        LOGGER.warning("Could not preload " + asset.fileName + ": " + throwable);
+                        preloading.remove(asset.fileName);
+                    });
+        }
+        return assetManager;
+    }
+
+    /**
+     * Get the number of atlas pages.
+     *
+     * @return the number of textures the packed images are spread over
+     */
+    public int atlasPages() {
+        return packer == null ? 0 : packer.getPages().size;
+    }
 }
@@ -0,0 +1,296 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+
+import core.level.ChunkedLevel;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+import core.level.utils.LevelElement;
+import core.systems.CameraSystem;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bakes the tiles of a level into cached vertex buffers, so the level does not have to be sent to
+ * the GPU each frame.
+ *
+ * <p>The level is split into chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} tiles. Each chunk
+ * is stored as one cache of a LibGDX {@link SpriteCache}. Drawing the level only draws the cached
+ * chunks that overlap the visible tiles of the {@link CameraSystem}, so the cost per frame depends
+ * neither on the number of tiles nor on the size of the level.
+ *
+ * <p>The cache registers itself at the level via {@link ILevel#onTileChanged}. If a tile changes
+ * its texture or type, only the chunk of that tile is baked again before the next frame. Each chunk
+ * reserves one sprite per tile (tiles that are not drawn get an empty sprite), so a chunk can
+ * always be redefined in place.
+ *
+ * <p>A {@link ChunkedLevel} only keeps the tiles of the loaded chunks. For such a level, the cache
+ * only reserves {@link ChunkedLevel#MAX_LOADED_CHUNKS} chunks and reads the tiles with {@link
+ * ChunkedLevel#loadedTile}, not with the layout of the whole map. The level reports the tiles of a
+ * chunk as changed when it loads them, then the chunk is baked into a free cache. The cache of a
+ * chunk is freed once the chunk is unloaded and the cache is needed for another chunk. So the size
+ * of the cache does not depend on the size of the map.
+ *
+ * <p>The cache is built lazily in {@link #draw(ILevel, Matrix4)}, which must be called
+ * on the render thread.
+ */
+public final class TileLayerCache {
+
+    /** Width and height of a chunk in tiles. */
+    public static final int CHUNK_SIZE = 16;
+
+    private final float xOffset;
+    private final float yOffset;
+    private final Map<String, PainterConfig> configs = new HashMap<>();
+    private SpriteCache cache;
+    private int capacity = 0;
+    private ILevel level;
+    // null if the level has a layout
+    private ChunkedLevel chunkedLevel;
+    private Tile[][] layout;
+    private int width;
+    private int height;
+    private int chunksX;
+    private int chunksY;
+    // the id of the cache of each chunk, -1 if the chunk has no cache
+    private int[] cacheIds = new int[0];
+    // the caches of a chunked level that are not used by a chunk
+    private final ArrayDeque<Integer> freeCaches = new ArrayDeque<>();
+    private boolean[] dirty = new boolean[0];
+    private boolean anyDirty = false;
+    private TextureRegion placeholder;
+
+    /**
+     * Create a new cache.
+     *
+     * @param xOffset offset of each tile texture on the x-axis
+     * @param yOffset offset of each tile texture on the y-axis
+     */
+    public TileLayerCache(float xOffset, float yOffset) {
+        this.xOffset = xOffset;
+        this.yOffset = yOffset;
+    }
+
+    /**
+     * Mark the chunk of the given tile as changed.
+     *
+     * <p>The chunk will be baked again before it is drawn the next time.
+     *
+     * @param tile the changed tile
+     */
+    public void invalidate(final Tile tile) {
+        Coordinate coordinate = tile.coordinate();
+        int chunkX = coordinate.x / CHUNK_SIZE;
+        int chunkY = coordinate.y / CHUNK_SIZE;
+        if (coordinate.x < 0 || coordinate.y < 0 || chunkX >= chunksX || chunkY >= chunksY)
+            return;
+        dirty[chunkY * chunksX + chunkX] = true;
+        anyDirty = true;
+    }
+
+    /** Bake the whole level again before it is drawn the next time. */
+    public void invalidate() {
+        if (level != null) level.onTileChanged(tile -> {});
+        level = null;
+    }
+
+    /**
+     * Draw the visible chunks of the given level.
+     *
+     * <p>If the level differs from the last drawn level, the whole level is baked first.
+     *
+     * @param level the level to draw
+     * @param projection the projection matrix to draw with
+     * @see CameraSystem#firstVisibleColumn()
+     */
+    public void draw(final ILevel level, final Matrix4 projection) {
+        if (level != this.level) build(level);
+        else if (anyDirty && placeholder != null) rebuildDirtyChunks();
+        if (placeholder == null) return;
+        // the visible tiles include a margin for the offsets and higher textures
+        int fromX = Math.max(0, chunk(CameraSystem.firstVisibleColumn()));
+        int toX = Math.min(chunksX - 1, chunk(CameraSystem.lastVisibleColumn()));
+        int fromY = Math.max(0, chunk(CameraSystem.firstVisibleRow()));
+        int toY = Math.min(chunksY - 1, chunk(CameraSystem.lastVisibleRow()));
+        if (fromX > toX || fromY > toY) return;
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        for (int chunkY = fromY; chunkY <= toY; chunkY++) {
+            for (int chunkX = fromX; chunkX <= toX; chunkX++) {
+                int cacheId = cacheIds[chunkY * chunksX + chunkX];
+                if (cacheId >= 0) cache.draw(cacheId);
+            }
+        }
+        cache.end();
+    }
+
+    private static int chunk(int tileIndex) {
+        return Math.floorDiv(tileIndex, CHUNK_SIZE);
+    }
+
+    private void build(final ILevel level) {
+        invalidate();
+        chunkedLevel = level instanceof ChunkedLevel chunked ? chunked : null;
+        layout = chunkedLevel == null ? level.layout() : null;
+        if (chunkedLevel != null) {
+            width = chunkedLevel.width();
+            height = chunkedLevel.height();
+        } else {
+            height = layout.length;
+            width = height == 0 ? 0 : layout[0].length;
+        }
+        chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        cacheIds = new int[chunksX * chunksY];
+        dirty = new boolean[chunksX * chunksY];
+        anyDirty = false;
+        freeCaches.clear();
+        this.level = level;
+        level.onTileChanged(this::invalidate);
+
+        placeholder = packTextures();
+        if (placeholder == null) return;
+        int sprites =
+                chunkedLevel == null
+                        ? width * height
+                        : ChunkedLevel.MAX_LOADED_CHUNKS * CHUNK_SIZE * CHUNK_SIZE;
+        if (cache == null || capacity < sprites) {
+            if (cache != null) cache.dispose();
+            capacity = sprites;
+            cache = new SpriteCache(capacity, false);
+        } else cache.clear();
+        if (chunkedLevel == null) {
+            for (int i = 0; i < cacheIds.length; i++) {
+                cache.beginCache();
+                addChunk(i);
+                cacheIds[i] = cache.endCache();
+            }
+            return;
+        }
+        // reserve the caches once, with one sprite per cell of a chunk
+        Arrays.fill(cacheIds, -1);
+        for (int i = 0; i < ChunkedLevel.MAX_LOADED_CHUNKS; i++) {
+            cache.beginCache();
+            for (int cell = 0; cell < CHUNK_SIZE * CHUNK_SIZE; cell++)
+                cache.add(placeholder, 0, 0, 0, 0);
+            freeCaches.add(cache.endCache());
+        }
+        for (int i = 0; i < dirty.length; i++) dirty[i] = isLoaded(i);
+        rebuildDirtyChunks();
+    }
+
+    private void rebuildDirtyChunks() {
+        if (chunkedLevel == null) layout = level.layout();
+        for (int i = 0; i < dirty.length; i++) {
+            if (!dirty[i]) continue;
+            dirty[i] = false;
+            if (cacheIds[i] < 0) {
+                if (!isLoaded(i)) continue;
+                cacheIds[i] = takeFreeCache();
+            }
+            cache.beginCache(cacheIds[i]);
+            addChunk(i);
+            cache.endCache();
+        }
+        anyDirty = false;
+    }
+
+    /** Take a free cache, and free the caches of the unloaded chunks if there is none. */
+    private int takeFreeCache() {
+        if (freeCaches.isEmpty()) {
+            for (int i = 0; i < cacheIds.length; i++) {
+                if (cacheIds[i] < 0 || isLoaded(i)) continue;
+                freeCaches.add(cacheIds[i]);
+                cacheIds[i] = -1;
+            }
+        }
+        return freeCaches.poll();
+    }
+
+    private boolean isLoaded(int chunk) {
+        int startX = (chunk % chunksX) * CHUNK_SIZE;
+        int startY = (chunk / chunksX) * CHUNK_SIZE;
+        return chunkedLevel.loadedTile(startX, startY) != null;
+    }
+
+    private Tile tile(int x, int y) {
+        return chunkedLevel != null ? chunkedLevel.loadedTile(x, y) : layout[y][x];
+    }
+
+    /**
+     * Pack the textures of all tiles into the texture atlas with a single upload.
+     *
+     * <p>For a {@link ChunkedLevel}, only the textures of the loaded tiles are packed.
+     *
+     * @return the region of any drawn tile, or null if the level has no tile to draw
+     */
+    private TextureRegion packTextures() {
+        Set<String> paths = new HashSet<>();
+        for (int chunk = 0; chunk < cacheIds.length; chunk++) {
+            if (chunkedLevel != null && !isLoaded(chunk)) continue;
+            int startX = (chunk % chunksX) * CHUNK_SIZE;
+            int startY = (chunk / chunksX) * CHUNK_SIZE;
+            int endY = Math.min(startY + CHUNK_SIZE, height);
+            for (int y = startY; y < endY; y++) {
+                int endX = Math.min(startX + CHUNK_SIZE, rowLength(y));
+                for (int x = startX; x < endX; x++) {
+                    Tile tile = tile(x, y);
+                    if (tile != null && tile.levelElement() != LevelElement.SKIP)
+                        paths.add(tile.texturePath());
+                }
+            }
+        }
+        if (paths.isEmpty()) return null;
+        TextureMap.instance().pack(paths);
+        return TextureMap.instance().regionAt(paths.iterator().next());
+    }
+
+    private int rowLength(int y) {
+        return chunkedLevel != null ? width : layout[y].length;
+    }
+
+    private void addChunk(int chunk) {
+        int startX = (chunk % chunksX) * CHUNK_SIZE;
+        int startY = (chunk / chunksX) * CHUNK_SIZE;
+        if (chunkedLevel != null) {
+            // always add one sprite per cell, so the cache can be reused for any chunk
+            for (int y = startY; y < startY + CHUNK_SIZE; y++)
+                for (int x = startX; x < startX + CHUNK_SIZE; x++)
+                    addTile(chunkedLevel.loadedTile(x, y), x, y);
+            return;
+        }
+        int endY = Math.min(startY + CHUNK_SIZE, height);
+        for (int y = startY; y < endY; y++) {
+            int endX = Math.min(startX + CHUNK_SIZE, layout[y].length);
+            for (int x = startX; x < endX; x++) addTile(layout[y][x], x, y);
+        }
+    }
+
+    private void addTile(final Tile tile, int x, int y) {
+        // a ChunkedLevel has no tiles for the cells of unloaded chunks
+        if (tile == null || tile.levelElement() == LevelElement.SKIP) {
+            // keep the number of sprites per chunk constant
+            cache.add(placeholder, x, y, 0, 0);
+            return;
+        }
+        Coordinate coordinate = tile.coordinate();
+        String texturePath = tile.texturePath();
+        PainterConfig config =
+                configs.computeIfAbsent(
+                        texturePath, path -> new PainterConfig(path, xOffset, yOffset));
+        cache.add(
+                TextureMap.instance().regionAt(texturePath),
+                coordinate.x + config.xOffset,
+                coordinate.y + config.yOffset,
+                config.xScaling,
+                config.yScaling);
+    }
+}
@@ -25,6 +25,9 @@ public class InteractionTool {
     /**
      * Interacts with the closest interactable entity.
      *
+     * <p>The entities are searched with the {@link Game#spatialIndex()}, starting at the position
+     * of the interacting entity.
+     *
      * @param who The entity that is interacting
      * @param iReachable The function that determines if the entity is reachable
      */
@@ -37,11 +40,14 @@ public class InteractionTool {
                                         MissingComponentException.build(
                                                 who, PositionComponent.class));
         Optional<InteractionData> data =
-                Game.entityStream()
-                        .filter(x -> x.isPresent(InteractionComponent.class))
-                        .map(x -> convertToData(x, heroPosition))
-                        .filter(iReachable::apply)
-                        .min((x, y) -> Float.compare(x.dist(), y.dist()));
+                Game.spatialIndex()
+                        .nearest(
+                                heroPosition.position(),
+                                x ->
+                                        x.isPresent(InteractionComponent.class)
+                                                && iReachable.apply(
+                                                        convertToData(x, heroPosition)))
+                        .map(x -> convertToData(x, heroPosition));
         data.ifPresent(x -> x.ic().triggerInteraction(x.e(), who));
     }
 
@@ -12,6 +12,7 @@ import core.level.Tile;
 import core.utils.Point;
 import core.utils.TriConsumer;
 import core.utils.components.MissingComponentException;
+import core.utils.components.draw.DepthLayer;
 import core.utils.components.health.Damage;
 import core.utils.components.health.DamageType;
 
@@ -134,7 +135,9 @@ public abstract class DamageProjectile implements Consumer<Entity> {
         projectile.addComponent(new PositionComponent(epc.position()));
 
         try {
-            projectile.addComponent(new DrawComponent(pathToTexturesOfProjectile));
+            DrawComponent dc = new DrawComponent(pathToTexturesOfProjectile);
+            dc.depthLayer(DepthLayer.PROJECTILE);
+            projectile.addComponent(dc);
         } catch (IOException e) {
             LOGGER.warning(
                     "The DrawComponent for the projectile "
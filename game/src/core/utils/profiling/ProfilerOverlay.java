@@ -0,0 +1,53 @@
+package core.utils.profiling;
+
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Align;
+
+import core.systems.DrawSystem;
+
+/**
+ * On-screen overlay that shows the {@link SystemProfiler#summary()} and the number of draw calls
+ * of the last frame.
+ *
+ * <p>The overlay is a scene2d {@link Label} and must be added to the {@link
+ * com.badlogic.gdx.scenes.scene2d.Stage}. It is placed in the top left corner of the stage.
+ *
+ * <p>To keep the overhead low, the text is only updated every {@link #UPDATE_INTERVAL} frames.
+ */
+public final class ProfilerOverlay extends Label {
+
+    /** Number of frames between two updates of the text. */
+    public static final int UPDATE_INTERVAL = 30;
+
+    private final SystemProfiler profiler;
+    private int frames = 0;
+
+    /**
+     * Create a new overlay.
+     *
+     * @param profiler the profiler to show
+     * @param skin the skin for the label
+     */
+    public ProfilerOverlay(final SystemProfiler profiler, final Skin skin) {
+        super("", skin);
+        this.profiler = profiler;
+        setAlignment(Align.topLeft);
+        setTouchable(Touchable.disabled);
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        if (frames++ % UPDATE_INTERVAL == 0) {
+            setText(
+                    profiler.summary()
+                            + "Draw calls: "
+                            + DrawSystem.painter().renderCalls());
+            pack();
+        }
+        if (getStage() != null) setPosition(0, getStage().getHeight() - getHeight());
+        toFront();
+    }
+}
@@ -0,0 +1,155 @@
+package core.utils.profiling;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-size ring buffer for profiling samples.
+ *
+ * <p>Each sample stores the measured time in nanoseconds, the number of processed entities and the
+ * estimated number of allocated bytes. Once the buffer is full, the oldest sample is overwritten.
+ *
+ * <p>The buffer is lock-free for a single writer: {@link #record(long, int, long)} only writes the
+ * primitive arrays and publishes the new sample count with an ordered write. Readers on other
+ * threads (e.g. the CSV dump) never block the writer. A reader may see a sample that is overwritten
+ * while it is being read, which is acceptable for statistics.
+ */
+public final class SampleRing {
+
+    private final long[] nanos;
+    private final int[] entities;
+    private final long[] allocatedBytes;
+    private final int mask;
+    private final AtomicLong written = new AtomicLong();
+    private final long[] sorted;
+
+    /**
+     * Create a new ring buffer.
+     *
+     * @param capacity minimum number of samples to keep, will be rounded up to the next power of
+     *     two
+     */
+    public SampleRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        nanos = new long[size];
+        entities = new int[size];
+        allocatedBytes = new long[size];
+        sorted = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Add a new sample, overwriting the oldest one if the buffer is full.
+     *
+     * <p>Must only be called by one thread.
+     *
+     * @param nanos measured time in nanoseconds
+     * @param entities number of processed entities
+     * @param allocatedBytes estimated allocated bytes, or -1 if unknown
+     */
+    public void record(long nanos, int entities, long allocatedBytes) {
+        long count = written.get();
+        int index = (int) (count & mask);
+        this.nanos[index] = nanos;
+        this.entities[index] = entities;
+        this.allocatedBytes[index] = allocatedBytes;
+        written.lazySet(count + 1);
+    }
+
+    /**
+     * @return the maximum number of samples in this buffer.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return the number of samples currently stored.
+     */
+    public int size() {
+        return (int) Math.min(written.get(), capacity());
+    }
+
+    /**
+     * @return the total number of samples recorded, including overwritten ones.
+     */
+    public long written() {
+        return written.get();
+    }
+
+    /**
+     * Get the measured time of a stored sample.
+     *
+     * @param sample index of the sample, 0 is the oldest stored sample
+     * @return the measured time in nanoseconds
+     */
+    public long nanos(int sample) {
+        return nanos[index(sample)];
+    }
+
+    /**
+     * Get the number of processed entities of a stored sample.
+     *
+     * @param sample index of the sample, 0 is the oldest stored sample
+     * @return the number of processed entities
+     */
+    public int entities(int sample) {
+        return entities[index(sample)];
+    }
+
+    /**
+     * Get the estimated allocated bytes of a stored sample.
+     *
+     * @param sample index of the sample, 0 is the oldest stored sample
+     * @return the estimated allocated bytes, or -1 if unknown
+     */
+    public long allocatedBytes(int sample) {
+        return allocatedBytes[index(sample)];
+    }
+
+    private int index(int sample) {
+        return (int) ((written.get() - size() + sample) & mask);
+    }
+
+    /**
+     * Calculate a percentile of the measured times of the stored samples.
+     *
+     * @param percentile the percentile between 0 and 1, e.g. 0.95 for p95
+     * @return the measured time in nanoseconds below or equal to which the given fraction of the
+     *     samples lies, or 0 if no sample was recorded
+     */
+    public synchronized long percentile(double percentile) {
+        int size = size();
+        if (size == 0) return 0;
+        for (int i = 0; i < size; i++) sorted[i] = nanos(i);
+        Arrays.sort(sorted, 0, size);
+        int rank = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, rank))];
+    }
+
+    /**
+     * @return the average number of processed entities of the stored samples.
+     */
+    public float averageEntities() {
+        int size = size();
+        if (size == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += entities(i);
+        return (float) sum / size;
+    }
+
+    /**
+     * @return the average estimated allocated bytes of the stored samples, or -1 if unknown.
+     */
+    public long averageAllocatedBytes() {
+        int size = size();
+        if (size == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            long bytes = allocatedBytes(i);
+            if (bytes < 0) return -1;
+            sum += bytes;
+        }
+        return sum / size;
+    }
+}
@@ -0,0 +1,208 @@
+package core.utils.profiling;
+
+import core.System;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures the execution of each {@link System} per frame.
+ *
+ * <p>For each system, the execution time in nanoseconds, the number of entities the system
+ * processes and an estimate of the bytes allocated during the execution are stored in a {@link
+ * SampleRing}. The whole frame is measured as well, see {@link #frames()}.
+ *
+ * <p>The allocation estimate uses the per-thread allocation counter of the JVM. If the JVM does not
+ * support it, -1 is recorded instead.
+ *
+ * <p>The profiler is used by the {@link core.game.GameLoop} if {@link
+ * core.game.PreRunConfiguration#profiling()} is enabled. The collected data can be shown with a
+ * {@link ProfilerOverlay} and written to a CSV file with {@link #writeCsv(Path)}.
+ */
+public final class SystemProfiler {
+
+    /** Default number of frames kept per system. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final String FRAME = "Frame";
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private final int capacity;
+    private final Map<Class<? extends System>, SampleRing> systems = new LinkedHashMap<>();
+    private final SampleRing frames;
+    private long frameStart;
+    private long frameAllocationStart;
+    private int frameEntities;
+
+    /**
+     * Create a new profiler.
+     *
+     * @param capacity number of frames that are kept for each system
+     */
+    public SystemProfiler(int capacity) {
+        this.capacity = capacity;
+        frames = new SampleRing(capacity);
+    }
+
+    /** Create a new profiler that keeps the last {@link #DEFAULT_CAPACITY} frames. */
+    public SystemProfiler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** Start the measurement of a new frame. */
+    public void beginFrame() {
+        frameEntities = 0;
+        frameAllocationStart = allocatedBytes();
+        frameStart = java.lang.System.nanoTime();
+    }
+
+    /** Stop the measurement of the current frame and record it. */
+    public void endFrame() {
+        long nanos = java.lang.System.nanoTime() - frameStart;
+        frames.record(nanos, frameEntities, allocated(frameAllocationStart));
+    }
+
+    /**
+     * Execute the given system and record the measurement.
+     *
+     * <p>Different systems may be measured concurrently, but each system only by one thread at a
+     * time.
+     *
+     * @param system the system to execute
+     * @param entities number of entities the system will process
+     */
+    public void execute(final System system, int entities) {
+        long allocationStart = allocatedBytes();
+        long start = java.lang.System.nanoTime();
+        system.execute();
+        long nanos = java.lang.System.nanoTime() - start;
+        long allocated = allocated(allocationStart);
+        SampleRing ring;
+        // systems may be executed concurrently by the SystemScheduler
+        synchronized (systems) {
+            ring = systems.get(system.getClass());
+            if (ring == null) {
+                ring = new SampleRing(capacity);
+                systems.put(system.getClass(), ring);
+            }
+            frameEntities += entities;
+        }
+        ring.record(nanos, entities, allocated);
+    }
+
+    /**
+     * Get the samples of the whole frames.
+     *
+     * @return ring buffer with one sample per frame
+     */
+    public SampleRing frames() {
+        return frames;
+    }
+
+    /**
+     * Get the samples of each measured system.
+     *
+     * @return unmodifiable view of the ring buffers, in the order the systems were first executed
+     */
+    public Map<Class<? extends System>, SampleRing> systems() {
+        return Collections.unmodifiableMap(systems);
+    }
+
+    /**
+     * Create a human-readable summary with the p50, p95 and p99 times of each system.
+     *
+     * @return the summary, one line per system
+     */
+    public String summary() {
+        StringBuilder builder = new StringBuilder();
+        appendSummary(builder, FRAME, frames);
+        systems.forEach((system, ring) -> appendSummary(builder, system.getSimpleName(), ring));
+        return builder.toString();
+    }
+
+    private static void appendSummary(
+            final StringBuilder builder, final String name, final SampleRing ring) {
+        builder.append(
+                String.format(
+                        Locale.ROOT,
+                        "%-20s p50 %6.2fms  p95 %6.2fms  p99 %6.2fms  %5.0f entities  %s%n",
+                        name,
+                        ring.percentile(0.5) / 1e6,
+                        ring.percentile(0.95) / 1e6,
+                        ring.percentile(0.99) / 1e6,
+                        ring.averageEntities(),
+                        bytes(ring.averageAllocatedBytes())));
+    }
+
+    private static String bytes(long bytes) {
+        if (bytes < 0) return "";
+        if (bytes < 1024) return bytes + " B";
+        return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024f);
+    }
+
+    /**
+     * Write all stored samples to a CSV file.
+     *
+     * <p>The file contains one row per system and frame with the columns {@code system}, {@code
+     * sample}, {@code nanos}, {@code entities} and {@code allocatedBytes}. The samples of the whole
+     * frames use the system name {@code Frame}.
+     *
+     * @param path the file to write, will be overwritten if it exists
+     * @throws IOException if the file can not be written
+     */
+    public void writeCsv(final Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write("system,sample,nanos,entities,allocatedBytes");
+            writer.newLine();
+            writeCsv(writer, FRAME, frames);
+            for (Map.Entry<Class<? extends System>, SampleRing> entry : systems.entrySet())
+                writeCsv(writer, entry.getKey().getSimpleName(), entry.getValue());
+        }
+    }
+
+    private static void writeCsv(
+            final BufferedWriter writer, final String name, final SampleRing ring)
+            throws IOException {
+        long first = ring.written() - ring.size();
+        for (int i = 0; i < ring.size(); i++) {
+            writer.write(
+                    name
+                            + ","
+                            + (first + i)
+                            + ","
+                            + ring.nanos(i)
+                            + ","
+                            + ring.entities(i)
+                            + ","
+                            + ring.allocatedBytes(i));
+            writer.newLine();
+        }
+    }
+
+    private static long allocated(long start) {
+        if (start < 0) return -1;
+        return allocatedBytes() - start;
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS == null) return -1;
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (!sunBean.isThreadAllocatedMemorySupported()
+                || !sunBean.isThreadAllocatedMemoryEnabled()) return null;
+        return sunBean;
+    }
+}
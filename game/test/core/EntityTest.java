@@ -36,6 +36,13 @@ public class EntityTest {
         assertTrue(entity.fetch(testComponent.getClass()).isEmpty());
     }
 
+    @Test
+    public void fetchOrNull() {
+        assertSame(testComponent, entity.fetchOrNull(testComponent.getClass()));
+        entity.removeComponent(testComponent.getClass());
+        assertNull(entity.fetchOrNull(testComponent.getClass()));
+    }
+
     @Test
     public void compareToSameID() {
         assertEquals(entity.id(), entity.id());
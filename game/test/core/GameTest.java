@@ -68,5 +68,23 @@ public class GameTest {
         assertTrue(Game.find(dc).isEmpty());
     }
 
+    @Test
+    public void remove_system_onRemove() {
+        int[] removed = {0};
+        System system =
+                new System() {
+                    @Override
+                    public void execute() {}
+
+                    @Override
+                    public void onRemove() {
+                        removed[0]++;
+                    }
+                };
+        Game.add(system);
+        Game.remove(system.getClass());
+        assertEquals(1, removed[0]);
+    }
+
     private class DummyComponent implements Component {}
 }
@@ -1,9 +1,14 @@
 package core.components;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import core.game.PreRunConfiguration;
 import core.utils.Point;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -17,6 +22,11 @@ public class PositionComponentTest {
         positionComponent = new PositionComponent(position);
     }
 
+    @After
+    public void cleanup() {
+        PreRunConfiguration.denseComponentStorage(false);
+    }
+
     @Test
     public void setPosition() {
         assertEquals(position, positionComponent.position());
@@ -24,4 +34,60 @@ public class PositionComponentTest {
         positionComponent.position(newPoint);
         assertEquals(newPoint, positionComponent.position());
     }
+
+    @Test
+    public void setPositionDenseStorage() {
+        PreRunConfiguration.denseComponentStorage(true);
+        PositionComponent pc = new PositionComponent(position);
+        assertTrue(pc.denseStorage());
+        assertEquals(3, pc.x(), 0.001);
+        assertEquals(3, pc.y(), 0.001);
+        pc.position(5, 6);
+        assertEquals(5, pc.position().x, 0.001);
+        assertEquals(6, pc.position().y, 0.001);
+        assertEquals(5, PositionComponent.STORAGE.get(0, pc.slot()), 0.001);
+    }
+
+    @Test
+    public void positionDenseStorage_samePointUntilChanged() {
+        PreRunConfiguration.denseComponentStorage(true);
+        PositionComponent pc = new PositionComponent(position);
+        Point first = pc.position();
+        assertSame(first, pc.position());
+        pc.position(5, 6);
+        assertNotSame(first, pc.position());
+        assertEquals(3, first.x, 0.001);
+    }
+
+    @Test
+    public void storeDensePreviousPositions() {
+        PreRunConfiguration.denseComponentStorage(true);
+        PositionComponent pc = new PositionComponent(position);
+        pc.position(5, 7);
+        PositionComponent.storeDensePreviousPositions();
+        assertEquals(5, pc.interpolatedX(0), 0.001);
+        assertEquals(7, pc.interpolatedY(0), 0.001);
+    }
+
+    @Test
+    public void interpolatePosition() {
+        positionComponent.position(5, 7);
+        assertEquals(3, positionComponent.interpolatedX(0), 0.001);
+        assertEquals(4, positionComponent.interpolatedX(0.5f), 0.001);
+        assertEquals(5, positionComponent.interpolatedY(0.5f), 0.001);
+        assertEquals(7, positionComponent.interpolatedY(1), 0.001);
+        positionComponent.storePreviousPosition();
+        assertEquals(5, positionComponent.interpolatedX(0), 0.001);
+    }
+
+    @Test
+    public void interpolatePositionDenseStorage() {
+        PreRunConfiguration.denseComponentStorage(true);
+        PositionComponent pc = new PositionComponent(position);
+        pc.position(5, 7);
+        assertEquals(4, pc.interpolatedX(0.5f), 0.001);
+        assertEquals(5, pc.interpolatedY(0.5f), 0.001);
+        pc.storePreviousPosition();
+        assertEquals(7, pc.interpolatedY(0), 0.001);
+    }
 }
@@ -0,0 +1,39 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class FixedTimestepTest {
+
+    @Test
+    public void ticksPerFrame() {
+        FixedTimestep timestep = new FixedTimestep(0.25f);
+        assertEquals(0, timestep.advance(0.1f));
+        assertEquals(0.4f, timestep.alpha(), 0.001);
+        assertEquals(1, timestep.advance(0.2f));
+        assertEquals(0.2f, timestep.alpha(), 0.001);
+        assertEquals(2, timestep.advance(0.5f));
+        assertEquals(0.2f, timestep.alpha(), 0.001);
+    }
+
+    @Test
+    public void dropTimeAboveMaxTicks() {
+        FixedTimestep timestep = new FixedTimestep(0.25f, 2);
+        assertEquals(2, timestep.advance(10f));
+        assertEquals(0, timestep.alpha(), 0.001);
+        assertEquals(0, timestep.advance(0.1f));
+    }
+
+    @Test
+    public void ignoreNegativeDelta() {
+        FixedTimestep timestep = new FixedTimestep(0.25f);
+        assertEquals(0, timestep.advance(-1f));
+        assertEquals(0, timestep.alpha(), 0.001);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidStep() {
+        new FixedTimestep(0f);
+    }
+}
@@ -0,0 +1,54 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import core.Game;
+import core.level.elements.ILevel;
+import core.level.generator.BackgroundLevelGenerator;
+import core.systems.LevelSystem;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class GameLoopTest {
+
+    @After
+    public void cleanup() {
+        Game.removeAllSystems();
+    }
+
+    @Test
+    public void switchLevel_keepsGeneratingInBackground() {
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        BackgroundLevelGenerator generator =
+                new BackgroundLevelGenerator(
+                        seed -> {
+                            threads.add(Thread.currentThread());
+                            return mock(ILevel.class);
+                        });
+        LevelSystem levelSystem = new LevelSystem(null, GameLoop::switchLevel, generator);
+        Game.add(levelSystem);
+
+        levelSystem.loadLevel();
+        levelSystem.loadLevel();
+        assertFalse(generator.isShutdown());
+        // waits for the level that was prefetched after the second switch
+        generator.next();
+        // the first level is generated on this thread, the following ones in the background
+        assertEquals(3, threads.size());
+        assertEquals(Thread.currentThread(), threads.get(0));
+        assertNotEquals(Thread.currentThread(), threads.get(1));
+        assertNotEquals(Thread.currentThread(), threads.get(2));
+
+        Game.remove(LevelSystem.class);
+        assertTrue(generator.isShutdown());
+    }
+}
@@ -0,0 +1,86 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+
+import core.Game;
+import core.System;
+import core.utils.GameRandom;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class HeadlessRunnerTest {
+
+    @After
+    public void cleanup() {
+        Game.removeAllSystems();
+        GameTime.fixedDeltaTime(0);
+    }
+
+    @Test
+    public void executesSystemsEachTick() {
+        HeadlessRunner runner = new HeadlessRunner(1, 0.5f);
+        CountingSystem system = new CountingSystem();
+        Game.add(system);
+        runner.run(5);
+        assertEquals(5, system.executions);
+        assertEquals(5, runner.ticks());
+        assertEquals(2.5, runner.simulatedTime(), 0.0001);
+    }
+
+    @Test
+    public void skipsSystems() {
+        HeadlessRunner runner = new HeadlessRunner(1, 0.5f);
+        CountingSystem system = new CountingSystem();
+        Game.add(system);
+        runner.skip(CountingSystem.class);
+        runner.tick();
+        assertEquals(0, system.executions);
+        runner.execute(CountingSystem.class);
+        runner.tick();
+        assertEquals(1, system.executions);
+    }
+
+    @Test
+    public void fixedTimestep() {
+        new HeadlessRunner(1, 0.25f);
+        assertEquals(0.25f, Game.deltaTime(), 0.0001f);
+    }
+
+    @Test
+    public void seedsRandom() {
+        new HeadlessRunner(42);
+        long first = GameRandom.RANDOM.nextLong();
+        assertEquals(new Random(42).nextLong(), first);
+        new HeadlessRunner(42);
+        assertEquals(first, GameRandom.RANDOM.nextLong());
+    }
+
+    @Test
+    public void close_restoresGlobalState() {
+        GameRandom.seed(7);
+        GameTime.fixedDeltaTime(0.1f);
+        Random expected = new Random(7);
+        expected.nextLong();
+        GameRandom.RANDOM.nextLong();
+        try (HeadlessRunner runner = new HeadlessRunner(42, 0.5f)) {
+            runner.tick();
+            GameRandom.RANDOM.nextLong();
+            assertEquals(0.5f, GameTime.fixedDeltaTime(), 0.0001f);
+        }
+        assertEquals(0.1f, GameTime.fixedDeltaTime(), 0.0001f);
+        // the previous sequence continues where it was left
+        assertEquals(expected.nextLong(), GameRandom.RANDOM.nextLong());
+    }
+
+    private static final class CountingSystem extends System {
+        private int executions = 0;
+
+        @Override
+        public void execute() {
+            executions++;
+        }
+    }
+}
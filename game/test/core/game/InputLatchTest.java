@@ -0,0 +1,63 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+
+import com.badlogic.gdx.Input;
+
+import core.Entity;
+import core.components.PlayerComponent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class InputLatchTest {
+
+    private static final int KEY = Input.Keys.E;
+
+    private final Input input = Mockito.mock(Input.class);
+    private final Entity entity = new Entity();
+    private final PlayerComponent pc = new PlayerComponent();
+    private int counter;
+
+    @Before
+    public void setup() {
+        pc.registerCallback(KEY, e -> counter++, false);
+        entity.addComponent(pc);
+    }
+
+    @After
+    public void cleanup() {
+        InputLatch.endTick();
+    }
+
+    private void frame(boolean pressed, int ticks) {
+        Mockito.when(input.isKeyJustPressed(KEY)).thenReturn(pressed);
+        InputLatch.sample(input);
+        for (int i = 0; i < ticks; i++) {
+            pc.execute(entity, false);
+            InputLatch.endTick();
+        }
+    }
+
+    @Test
+    public void pressInFrameWithoutTick() {
+        frame(true, 0);
+        assertEquals(0, counter);
+        frame(false, 1);
+        assertEquals(1, counter);
+        frame(false, 1);
+        assertEquals(1, counter);
+    }
+
+    @Test
+    public void pressInFrameWithManyTicks() {
+        frame(true, 3);
+        assertEquals(1, counter);
+        frame(false, 2);
+        assertEquals(1, counter);
+        frame(true, 2);
+        assertEquals(2, counter);
+    }
+}
@@ -0,0 +1,140 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.AIComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.components.XPComponent;
+import core.systems.AISystem;
+import core.systems.XPSystem;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class SystemSchedulerTest {
+
+    @After
+    public void cleanup() {
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+    }
+
+    @Test
+    public void stages() {
+        System a = new DeclaredSystem(Set.of(), Set.of(PositionComponent.class));
+        System b = new DeclaredSystem(Set.of(), Set.of(VelocityComponent.class));
+        System c = new DeclaredSystem(Set.of(PositionComponent.class), Set.of());
+        System d = new UndeclaredSystem();
+        System e = new DeclaredSystem(Set.of(), Set.of());
+        List<List<System>> stages = new SystemScheduler().stages(List.of(a, b, c, d, e));
+        assertEquals(List.of(List.of(a, b), List.of(c), List.of(d), List.of(e)), stages);
+    }
+
+    @Test
+    public void conflicts() {
+        System writer = new DeclaredSystem(Set.of(), Set.of(PositionComponent.class));
+        System reader = new DeclaredSystem(Set.of(PositionComponent.class), Set.of());
+        System other = new DeclaredSystem(Set.of(VelocityComponent.class), Set.of());
+        assertTrue(SystemScheduler.conflicts(writer, reader));
+        assertTrue(SystemScheduler.conflicts(reader, writer));
+        assertFalse(SystemScheduler.conflicts(reader, other));
+        assertFalse(SystemScheduler.conflicts(writer, other));
+        assertTrue(SystemScheduler.conflicts(other, new UndeclaredSystem()));
+    }
+
+    @Test
+    public void executeInOrder() {
+        List<System> executed = new ArrayList<>();
+        System a = new DeclaredSystem(Set.of(), Set.of(PositionComponent.class));
+        System b = new UndeclaredSystem();
+        System c = new DeclaredSystem(Set.of(), Set.of(PositionComponent.class));
+        new SystemScheduler().execute(List.of(a, b, c), executed::add);
+        assertEquals(List.of(a, b, c), executed);
+    }
+
+    @Test
+    public void deferEntityChanges() {
+        int before = (int) Game.entityStream().count();
+        int[] during = new int[1];
+        System spawner =
+                new DeclaredSystem(Set.of(), Set.of()) {
+                    @Override
+                    public void execute() {
+                        Game.add(new Entity());
+                        during[0] = (int) Game.entityStream().count();
+                    }
+                };
+        System other = new DeclaredSystem(Set.of(), Set.of());
+        new SystemScheduler().execute(List.of(spawner, other), System::execute);
+        assertEquals(before, during[0]);
+        assertEquals(before + 1, Game.entityStream().count());
+    }
+
+    @Test
+    public void callbackSystemsRunAlone() {
+        System ai = new AISystem();
+        System xp = new XPSystem();
+        Game.add(ai);
+        Game.add(xp);
+        Thread caller = Thread.currentThread();
+        List<Thread> callbackThreads = new ArrayList<>();
+        int before = (int) Game.entityStream().count();
+        Entity entity = new Entity();
+        entity.addComponent(
+                new AIComponent(
+                        e -> {},
+                        e -> {
+                            callbackThreads.add(Thread.currentThread());
+                            // like a skill, spawn an entity while the system is executed
+                            Game.add(new Entity());
+                        },
+                        e -> false));
+        XPComponent xpComponent =
+                new XPComponent(
+                        e -> {
+                            callbackThreads.add(Thread.currentThread());
+                            e.addComponent(new VelocityComponent());
+                        });
+        xpComponent.addXP(100);
+        entity.addComponent(xpComponent);
+        Game.add(entity);
+
+        System position = new DeclaredSystem(Set.of(), Set.of(PositionComponent.class));
+        System velocity = new DeclaredSystem(Set.of(), Set.of(VelocityComponent.class));
+        List<System> systems = List.of(position, ai, xp, velocity);
+        assertEquals(
+                List.of(List.of(position), List.of(ai), List.of(xp), List.of(velocity)),
+                new SystemScheduler().stages(systems));
+
+        new SystemScheduler().execute(systems, System::execute);
+        assertEquals(List.of(caller, caller), callbackThreads);
+        assertEquals(before + 2, Game.entityStream().count());
+        assertTrue(entity.isPresent(VelocityComponent.class));
+    }
+
+    private static class DeclaredSystem extends System {
+        private DeclaredSystem(
+                Set<Class<? extends Component>> reads, Set<Class<? extends Component>> writes) {
+            declareAccess(reads, writes);
+        }
+
+        @Override
+        public void execute() {}
+    }
+
+    private static class UndeclaredSystem extends System {
+        @Override
+        public void execute() {}
+    }
+}
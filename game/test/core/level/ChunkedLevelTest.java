@@ -0,0 +1,173 @@
+package core.level;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Point;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class ChunkedLevelTest {
+
+    private static final int SIZE = 8 * ChunkedLevel.CHUNK_SIZE;
+
+    private LevelElement[][] layout;
+    private ChunkedLevel level;
+
+    @Before
+    public void setup() {
+        layout = new LevelElement[SIZE][SIZE];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        for (int i = 0; i < SIZE; i++) {
+            layout[0][i] = LevelElement.WALL;
+            layout[SIZE - 1][i] = LevelElement.WALL;
+            layout[i][0] = LevelElement.WALL;
+            layout[i][SIZE - 1] = LevelElement.WALL;
+        }
+        layout[2][2] = LevelElement.EXIT;
+        level = new ChunkedLevel(layout, DesignLabel.DEFAULT);
+        level.startTile(level.tileAt(new Coordinate(1, 1)));
+        // focus somewhere else first, so the level loads the chunks around the start again
+        level.focus(new Point(SIZE - 1, SIZE - 1));
+        level.focus(new Point(1, 1));
+    }
+
+    @Test
+    public void test_focus_loadsOnlyNearChunks() {
+        int side = ChunkedLevel.LOAD_RADIUS + 1;
+        int tiles = side * side * ChunkedLevel.CHUNK_SIZE * ChunkedLevel.CHUNK_SIZE;
+        assertEquals(side * side, level.loadedChunks());
+        assertNotNull(level.loadedTile(1, 1));
+        assertNull(level.loadedTile(SIZE - 2, SIZE - 2));
+        assertEquals(
+                tiles,
+                level.floorTiles().size() + level.wallTiles().size() + level.exitTiles().size());
+    }
+
+    @Test
+    public void test_tileAt_loadsChunk() {
+        Tile tile = level.tileAt(new Coordinate(SIZE - 2, SIZE - 2));
+        assertNotNull(tile);
+        assertSame(tile, level.loadedTile(SIZE - 2, SIZE - 2));
+        assertSame(level, tile.level());
+        assertEquals(LevelElement.FLOOR, tile.levelElement());
+        assertNull(level.tileAt(new Coordinate(SIZE, 0)));
+    }
+
+    @Test
+    public void test_textures_sameAsTileLevel() {
+        TileLevel tileLevel = new TileLevel(layout, DesignLabel.DEFAULT);
+        for (int y = 0; y < 2 * ChunkedLevel.CHUNK_SIZE; y++) {
+            for (int x = 0; x < 2 * ChunkedLevel.CHUNK_SIZE; x++) {
+                Coordinate coordinate = new Coordinate(x, y);
+                assertEquals(
+                        tileLevel.tileAt(coordinate).texturePath(),
+                        level.tileAt(coordinate).texturePath());
+            }
+        }
+    }
+
+    @Test
+    public void test_endTile_pinned() {
+        level.focus(new Point(SIZE - 1, SIZE - 1));
+        assertNotNull(level.loadedTile(2, 2));
+        assertSame(level.loadedTile(2, 2), level.endTile());
+    }
+
+    @Test
+    public void test_changeTileElementType_keptAfterUnload() {
+        Coordinate coordinate = new Coordinate(SIZE - 2, SIZE - 2);
+        level.changeTileElementType(level.tileAt(coordinate), LevelElement.HOLE);
+        assertEquals(LevelElement.HOLE, level.tileAt(coordinate).levelElement());
+        level.focus(new Point(SIZE - 1, SIZE - 1));
+        level.focus(new Point(1, 1));
+        assertNull(level.loadedTile(coordinate.x, coordinate.y));
+        assertEquals(LevelElement.HOLE, level.tileAt(coordinate).levelElement());
+    }
+
+    @Test
+    public void test_findPath_loadedTiles() {
+        Tile start = level.tileAt(new Coordinate(1, 1));
+        Tile end = level.tileAt(new Coordinate(ChunkedLevel.CHUNK_SIZE + 1, 1));
+        assertEquals(ChunkedLevel.CHUNK_SIZE + 1, level.findPath(start, end).getCount());
+    }
+
+    @Test
+    public void test_longWalk_boundedChunks() {
+        LevelElement[][] floor = floor(64 * ChunkedLevel.CHUNK_SIZE);
+        ChunkedLevel big = new ChunkedLevel(floor, DesignLabel.DEFAULT);
+        int size = big.width();
+        for (int i = 0; i < size; i += 3) {
+            big.focus(new Point(i, i));
+            // other callers ask for tiles all over the map
+            big.tileAt(new Coordinate(size - 1 - i, i));
+            big.randomTile(LevelElement.FLOOR);
+            assertTrue(big.loadedChunks() <= ChunkedLevel.MAX_LOADED_CHUNKS);
+        }
+        Tile tile = big.tileAt(new Coordinate(size - 2, size - 2));
+        assertTrue(tile.index() < big.getNodeCount());
+        int cells = ChunkedLevel.CHUNK_SIZE * ChunkedLevel.CHUNK_SIZE;
+        assertEquals(ChunkedLevel.MAX_LOADED_CHUNKS * cells, big.getNodeCount());
+    }
+
+    @Test
+    public void test_findPath_chunkOfStartUnloaded() {
+        int chunk = ChunkedLevel.CHUNK_SIZE;
+        LevelElement[][] floor = floor(16 * chunk);
+        floor[1][1] = LevelElement.EXIT;
+        ChunkedLevel big = new ChunkedLevel(floor, DesignLabel.DEFAULT);
+        big.startTile(big.tileAt(new Coordinate(2, 2)));
+        // only the chunks around the start stay loaded
+        big.focus(new Point(big.width() - 1, big.height() - 1));
+        big.focus(new Point(1, 1));
+
+        Coordinate a = new Coordinate(6 * chunk - 1, 1);
+        Tile start = big.tileAt(a);
+        // fill the free slots with chunks far away
+        for (int i = 0; big.loadedChunks() < ChunkedLevel.MAX_LOADED_CHUNKS; i++)
+            big.tileAt(new Coordinate((i % 16) * chunk, (8 + i / 16) * chunk));
+        // loads the next chunk, so the chunk of the start is unloaded
+        Tile end = big.tileAt(new Coordinate(6 * chunk, 1));
+        assertNotSame(start, big.loadedTile(a.x, a.y));
+
+        GraphPath<Tile> path = big.findPath(start, end);
+        assertEquals(2, path.getCount());
+        assertSame(big.loadedTile(a.x, a.y), path.get(0));
+        assertSame(end, path.get(1));
+    }
+
+    @Test
+    public void test_layout_loadedTiles() {
+        int near = ChunkedLevel.CHUNK_SIZE + 1;
+        Tile[][] tiles = level.layout();
+        assertSame(tiles, level.layout());
+        assertNotNull(tiles[1][near]);
+        assertSame(level.loadedTile(near, 1), tiles[1][near]);
+        assertNull(tiles[SIZE - 2][SIZE - 2]);
+
+        Tile far = level.tileAt(new Coordinate(SIZE - 2, SIZE - 2));
+        assertSame(far, tiles[SIZE - 2][SIZE - 2]);
+        level.changeTileElementType(level.tileAt(new Coordinate(3, 3)), LevelElement.HOLE);
+        assertSame(level.loadedTile(3, 3), tiles[3][3]);
+        assertEquals(LevelElement.HOLE, tiles[3][3].levelElement());
+
+        level.focus(new Point(SIZE - 1, SIZE - 1));
+        assertNull(tiles[1][near]);
+        // the chunk of the start and the end tile stays loaded
+        assertNotNull(tiles[2][2]);
+        assertSame(level.loadedTile(SIZE - 2, SIZE - 2), tiles[SIZE - 2][SIZE - 2]);
+    }
+
+    private static LevelElement[][] floor(int size) {
+        LevelElement[][] layout = new LevelElement[size][size];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        return layout;
+    }
+}
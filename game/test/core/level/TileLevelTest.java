@@ -5,6 +5,7 @@ import static org.junit.Assert.*;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 
 import core.level.elements.astar.TileConnection;
+import core.level.elements.tile.DoorTile;
 import core.level.elements.tile.ExitTile;
 import core.level.elements.tile.FloorTile;
 import core.level.elements.tile.TileFactory;
@@ -16,8 +17,10 @@ import core.utils.Point;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class TileLevelTest {
@@ -741,6 +744,20 @@ public class TileLevelTest {
         assertEquals(2, counter.get());
     }
 
+    @Test
+    public void test_changeTileElementType_updatesNeighbourTextures() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Tile wall = level.tileAt(new Coordinate(1, 0));
+        assertEquals("dungeon/default/wall/wall_bottom.png", wall.texturePath());
+        level.changeTileElementType(level.tileAt(new Coordinate(1, 1)), LevelElement.WALL);
+        assertEquals("dungeon/default/wall/wall_outer_corner_bottom_left.png", wall.texturePath());
+    }
+
     @Test
     public void test_changeTileElementType_notOnLevel() {
         LevelElement[][] layout =
@@ -762,4 +779,132 @@ public class TileLevelTest {
         assertNotEquals(LevelElement.WALL, level.tileAt(new Coordinate(1, 0)).levelElement());
         assertEquals(3, counter.get());
     }
+
+    @Test
+    public void test_onTileChanged_changeTileElementType() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        List<Tile> changed = new ArrayList<>();
+        level.onTileChanged(changed::add);
+        level.changeTileElementType(level.tileAt(new Coordinate(0, 0)), LevelElement.WALL);
+        assertTrue(changed.contains(level.tileAt(new Coordinate(0, 0))));
+    }
+
+    @Test
+    public void test_onTileChanged_doorState() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        DoorTile door = new DoorTile("door.png", new Coordinate(1, 0), DesignLabel.DEFAULT, level);
+        List<Tile> changed = new ArrayList<>();
+        level.onTileChanged(changed::add);
+        door.close();
+        door.open();
+        assertEquals(List.of(door, door), changed);
+    }
+
+    @Test
+    public void test_findPath_cached() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Tile start = level.tileAt(new Coordinate(0, 0));
+        Tile end = level.tileAt(new Coordinate(2, 0));
+        GraphPath<Tile> path = level.findPath(start, end);
+        assertSame(path, level.findPath(start, end));
+        assertEquals(1, level.pathCache().size());
+        assertThrows(UnsupportedOperationException.class, () -> path.add(start));
+    }
+
+    @Test
+    public void test_findPath_changeTileElementType() {
+        LevelElement[][] layout = new LevelElement[3][3];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(2, 0);
+        assertEquals(3, level.findPath(level.tileAt(start), level.tileAt(end)).getCount());
+
+        level.changeTileElementType(level.tileAt(new Coordinate(1, 0)), LevelElement.WALL);
+        GraphPath<Tile> path = level.findPath(level.tileAt(start), level.tileAt(end));
+        assertEquals(5, path.getCount());
+        for (Tile tile : path) assertTrue(tile.isAccessible());
+    }
+
+    @Test
+    public void test_findPath_doorClosed() {
+        Tile[][] layout = new Tile[2][3];
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 2; y++) {
+                layout[y][x] = new FloorTile("", new Coordinate(x, y), DesignLabel.DEFAULT, null);
+            }
+        }
+        DoorTile door = new DoorTile("door.png", new Coordinate(1, 0), DesignLabel.DEFAULT, null);
+        layout[0][1] = door;
+        TileLevel level = new TileLevel(layout);
+        GraphPath<Tile> throughDoor = level.findPath(layout[0][0], layout[0][1]);
+        GraphPath<Tile> besideDoor = level.findPath(layout[1][0], layout[1][2]);
+        assertTrue(throughDoor.getCount() > 0);
+
+        door.close();
+        assertEquals(1, level.pathCache().size());
+        assertSame(besideDoor, level.findPath(layout[1][0], layout[1][2]));
+
+        door.open();
+        assertEquals(0, level.pathCache().size());
+    }
+
+    @Test
+    public void test_navigationGrid_changeTileElementType() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.WALL}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        assertTrue(level.navigationGrid().walkable(0, 0));
+        assertFalse(level.navigationGrid().walkable(2, 0));
+
+        level.changeTileElementType(level.tileAt(new Coordinate(0, 0)), LevelElement.WALL);
+        level.changeTileElementType(level.tileAt(new Coordinate(2, 0)), LevelElement.FLOOR);
+        assertFalse(level.navigationGrid().walkable(0, 0));
+        assertTrue(level.navigationGrid().walkable(2, 0));
+    }
+
+    @Test
+    public void test_findPath_searchedInNavigationGrid() {
+        LevelElement[][] layout = new LevelElement[2][3];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        level.navigationGrid().walkable(1, 0, false);
+        Tile start = level.tileAt(new Coordinate(0, 0));
+        Tile end = level.tileAt(new Coordinate(2, 0));
+        GraphPath<Tile> path = level.findPath(start, end);
+        assertEquals(5, path.getCount());
+        assertSame(level.tileAt(new Coordinate(1, 1)), path.get(2));
+    }
+
+    @Test
+    public void test_removeTile_indicesStayDense() {
+        LevelElement[][] layout = new LevelElement[3][3];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        level.changeTileElementType(level.tileAt(new Coordinate(1, 0)), LevelElement.WALL);
+        level.changeTileElementType(level.tileAt(new Coordinate(1, 1)), LevelElement.WALL);
+        level.changeTileElementType(level.tileAt(new Coordinate(1, 0)), LevelElement.FLOOR);
+        assertEquals(8, level.getNodeCount());
+        assertEquals(
+                8,
+                Arrays.stream(level.layout())
+                        .flatMap(x -> Arrays.stream(x).filter(Tile::isAccessible).map(Tile::index))
+                        .filter(index -> index < 8)
+                        .distinct()
+                        .count());
+    }
 }
@@ -1,6 +1,7 @@
 package core.level;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
@@ -469,4 +470,35 @@ public class TileTextureFactoryTest {
                         new TileTextureFactory.LevelPart(
                                 layout[coordinate.y][coordinate.x], design, layout, coordinate)));
     }
+
+    /** Tiles with the same texture should share the same path. */
+    @Test
+    public void test_findTexturePath_sharedPath() {
+        Coordinate first = new Coordinate(5, 4);
+        Coordinate second = new Coordinate(6, 5);
+        assertSame(
+                TileTextureFactory.findTexturePath(
+                        new TileTextureFactory.LevelPart(
+                                layout[first.y][first.x], design, layout, first)),
+                TileTextureFactory.findTexturePath(
+                        new TileTextureFactory.LevelPart(
+                                layout[second.y][second.x], design, layout, second)));
+    }
+
+    /** The texture of a tile should not depend on the type of the layout. */
+    @Test
+    public void test_findTexturePath_tileLayout() {
+        TileLevel level = new TileLevel(layout, design);
+        for (int y = 0; y < layout.length; y++) {
+            for (int x = 0; x < layout[0].length; x++) {
+                Coordinate coordinate = new Coordinate(x, y);
+                assertEquals(
+                        TileTextureFactory.findTexturePath(
+                                new TileTextureFactory.LevelPart(
+                                        layout[y][x], design, layout, coordinate)),
+                        TileTextureFactory.findTexturePath(
+                                level.tileAt(coordinate), level.layout()));
+            }
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class FlowFieldTest {
+
+    private TileLevel level;
+
+    @Before
+    public void setup() {
+        /* F F F
+         * F W F
+         * F F F */
+        LevelElement[][] layout = new LevelElement[3][3];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        layout[1][1] = LevelElement.WALL;
+        level = new TileLevel(layout, DesignLabel.DEFAULT);
+    }
+
+    @Test
+    public void distance() {
+        FlowField field = level.flowField();
+        var target = level.tileAt(new Coordinate(0, 0));
+        assertEquals(0, field.distance(target, target));
+        assertEquals(1, field.distance(level.tileAt(new Coordinate(1, 0)), target));
+        assertEquals(4, field.distance(level.tileAt(new Coordinate(2, 2)), target));
+        assertEquals(
+                FlowField.UNREACHABLE, field.distance(level.tileAt(new Coordinate(1, 1)), target));
+    }
+
+    @Test
+    public void next() {
+        FlowField field = level.flowField();
+        var target = level.tileAt(new Coordinate(0, 0));
+        assertNull(field.next(target, target));
+        assertSame(target, field.next(level.tileAt(new Coordinate(0, 1)), target));
+        assertSame(
+                level.tileAt(new Coordinate(2, 0)),
+                field.next(level.tileAt(new Coordinate(2, 1)), target));
+    }
+
+    @Test
+    public void targetMoved() {
+        FlowField field = level.flowField();
+        var from = level.tileAt(new Coordinate(2, 2));
+        assertEquals(4, field.distance(from, level.tileAt(new Coordinate(0, 0))));
+        assertEquals(1, field.distance(from, level.tileAt(new Coordinate(2, 1))));
+    }
+
+    @Test
+    public void tileChanged() {
+        FlowField field = level.flowField();
+        var target = level.tileAt(new Coordinate(0, 0));
+        assertEquals(2, field.distance(level.tileAt(new Coordinate(2, 0)), target));
+
+        level.changeTileElementType(level.tileAt(new Coordinate(1, 0)), LevelElement.WALL);
+        assertEquals(6, field.distance(level.tileAt(new Coordinate(2, 0)), target));
+    }
+}
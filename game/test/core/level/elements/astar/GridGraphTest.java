@@ -0,0 +1,93 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class GridGraphTest {
+
+    /** Create a graph from the rows of the given map, '#' is a wall. Row 0 is at the bottom. */
+    private static GridGraph graph(boolean diagonal, String... rows) {
+        GridGraph graph = new GridGraph(rows[0].length(), rows.length, diagonal);
+        for (int y = 0; y < rows.length; y++)
+            for (int x = 0; x < rows[y].length(); x++)
+                graph.walkable(x, y, rows[rows.length - 1 - y].charAt(x) != '#');
+        return graph;
+    }
+
+    @Test
+    public void walkable() {
+        GridGraph graph = new GridGraph(100, 3, false);
+        assertFalse(graph.walkable(70, 1));
+        graph.walkable(70, 1, true);
+        assertTrue(graph.walkable(70, 1));
+        assertFalse(graph.walkable(69, 1));
+        assertFalse(graph.walkable(100, 1));
+        graph.walkable(70, 1, false);
+        assertFalse(graph.walkable(70, 1));
+    }
+
+    @Test
+    public void findPath_straight() {
+        GridGraph graph = graph(false, "...", "...");
+        int[] path = graph.findPath(graph.index(0, 0), graph.index(2, 0));
+        assertArrayEquals(
+                new int[] {graph.index(0, 0), graph.index(1, 0), graph.index(2, 0)}, path);
+    }
+
+    @Test
+    public void findPath_aroundWall() {
+        GridGraph graph = graph(false, "...", ".#.", "...");
+        int[] path = graph.findPath(graph.index(0, 1), graph.index(2, 1));
+        assertEquals(5, path.length);
+        for (int node : path) assertTrue(graph.walkable(graph.x(node), graph.y(node)));
+    }
+
+    @Test
+    public void findPath_diagonal() {
+        GridGraph graph = graph(true, "...", "...", "...");
+        int[] path = graph.findPath(graph.index(0, 0), graph.index(2, 2));
+        assertArrayEquals(
+                new int[] {graph.index(0, 0), graph.index(1, 1), graph.index(2, 2)}, path);
+    }
+
+    @Test
+    public void findPath_diagonalDoesNotCutCorners() {
+        GridGraph graph = graph(true, "#.", ".#");
+        assertEquals(0, graph.findPath(graph.index(0, 0), graph.index(1, 1)).length);
+    }
+
+    @Test
+    public void findPath_noPath() {
+        GridGraph graph = graph(false, ".#.");
+        assertEquals(0, graph.findPath(graph.index(0, 0), graph.index(2, 0)).length);
+    }
+
+    @Test
+    public void findPath_notWalkable() {
+        GridGraph graph = graph(false, ".#.");
+        int start = graph.index(0, 0);
+        int wall = graph.index(1, 0);
+        assertThrows(IllegalArgumentException.class, () -> graph.findPath(start, wall));
+    }
+
+    @Test
+    public void findPath_outsideGrid() {
+        GridGraph graph = graph(false, "...");
+        assertThrows(IllegalArgumentException.class, () -> graph.findPath(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> graph.findPath(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> graph.walkable(3, 0, true));
+    }
+
+    @Test
+    public void findPath_reusedSearch() {
+        GridGraph graph = graph(false, "....", "....");
+        assertEquals(4, graph.findPath(graph.index(0, 0), graph.index(3, 0)).length);
+        graph.walkable(1, 0, false);
+        assertEquals(6, graph.findPath(graph.index(0, 0), graph.index(3, 0)).length);
+    }
+}
@@ -0,0 +1,116 @@
+package core.level.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import core.level.elements.ILevel;
+import core.utils.GameRandom;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BackgroundLevelGeneratorTest {
+
+    @Test
+    public void next_prefetched() {
+        ILevel level = mock(ILevel.class);
+        List<Thread> threads = new ArrayList<>();
+        BackgroundLevelGenerator generator =
+                new BackgroundLevelGenerator(
+                        seed -> {
+                            threads.add(Thread.currentThread());
+                            return level;
+                        });
+        generator.prefetch();
+        assertSame(level, generator.next());
+        assertEquals(1, threads.size());
+        assertNotEquals(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    public void next_notPrefetched() {
+        ILevel level = mock(ILevel.class);
+        List<Thread> threads = new ArrayList<>();
+        BackgroundLevelGenerator generator =
+                new BackgroundLevelGenerator(
+                        seed -> {
+                            threads.add(Thread.currentThread());
+                            return level;
+                        });
+        // like the first level, which is not prefetched
+        assertSame(level, generator.next());
+        assertEquals(List.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void shutdown() {
+        AtomicInteger calls = new AtomicInteger();
+        BackgroundLevelGenerator generator =
+                new BackgroundLevelGenerator(
+                        seed -> {
+                            calls.incrementAndGet();
+                            return mock(ILevel.class);
+                        });
+        generator.shutdown();
+        assertTrue(generator.isShutdown());
+        generator.prefetch();
+        assertFalse(generator.isReady());
+        generator.next();
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void prefetch_onlyOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        BackgroundLevelGenerator generator =
+                new BackgroundLevelGenerator(
+                        seed -> {
+                            calls.incrementAndGet();
+                            return mock(ILevel.class);
+                        });
+        generator.prefetch();
+        generator.prefetch();
+        generator.next();
+        assertEquals(1, calls.get());
+        generator.next();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void next_generatorFailed() {
+        BackgroundLevelGenerator generator =
+                new BackgroundLevelGenerator(
+                        seed -> {
+                            throw new IllegalArgumentException("no level");
+                        });
+        assertThrows(IllegalArgumentException.class, generator::next);
+    }
+
+    @Test
+    public void prefetch_seedFromGameRandom() {
+        List<Long> seeds = Collections.synchronizedList(new ArrayList<>());
+        BackgroundLevelGenerator generator =
+                new BackgroundLevelGenerator(
+                        seed -> {
+                            seeds.add(seed);
+                            return mock(ILevel.class);
+                        });
+        GameRandom.seed(3);
+        generator.prefetch();
+        generator.next();
+        // the same seed as the prefetched level, although it is generated on this thread
+        GameRandom.seed(3);
+        generator.next();
+        assertEquals(2, seeds.size());
+        assertEquals(seeds.get(0), seeds.get(1));
+    }
+}
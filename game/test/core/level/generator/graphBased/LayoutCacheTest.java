@@ -0,0 +1,79 @@
+package core.level.generator.graphBased;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import core.level.generator.graphBased.levelGraph.Direction;
+import core.level.generator.graphBased.levelGraph.LevelNode;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LayoutCacheTest {
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final LevelElement[][] LAYOUT = {
+        {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
+        {LevelElement.FLOOR, LevelElement.DOOR, LevelElement.SKIP}
+    };
+
+    @Test
+    public void layout_generatedOnce() {
+        Path directory = folder.getRoot().toPath().resolve("layouts");
+        LayoutCache cache = new LayoutCache(directory);
+        AtomicInteger generated = new AtomicInteger();
+        LevelElement[][] first =
+                cache.layout(
+                        LevelSize.SMALL,
+                        42,
+                        0b101,
+                        () -> {
+                            generated.incrementAndGet();
+                            return LAYOUT;
+                        });
+        assertTrue(Files.isRegularFile(cache.file(LevelSize.SMALL, 42, 0b101)));
+
+        // a new cache in the same directory, like in a second run
+        LevelElement[][] second =
+                new LayoutCache(directory)
+                        .layout(
+                                LevelSize.SMALL,
+                                42,
+                                0b101,
+                                () -> {
+                                    generated.incrementAndGet();
+                                    return LAYOUT;
+                                });
+        assertEquals(1, generated.get());
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void file_differentKeys() {
+        LayoutCache cache = new LayoutCache(folder.getRoot().toPath());
+        Path file = cache.file(LevelSize.SMALL, 42, 1);
+        assertNotEquals(file, cache.file(LevelSize.LARGE, 42, 1));
+        assertNotEquals(file, cache.file(LevelSize.SMALL, 43, 1));
+        assertNotEquals(file, cache.file(LevelSize.SMALL, 42, 2));
+    }
+
+    @Test
+    public void roomGenerator_sameSeedSameLayout() {
+        LevelNode[] doors = new LevelNode[Direction.values().length];
+        LayoutCache cache = new LayoutCache(folder.getRoot().toPath());
+        LevelElement[][] generated = new RoomGenerator(null).layout(LevelSize.MEDIUM, 7, doors);
+        assertArrayEquals(generated, new RoomGenerator(null).layout(LevelSize.MEDIUM, 7, doors));
+        assertArrayEquals(generated, new RoomGenerator(cache).layout(LevelSize.MEDIUM, 7, doors));
+        assertArrayEquals(generated, new RoomGenerator(cache).layout(LevelSize.MEDIUM, 7, doors));
+    }
+}
@@ -0,0 +1,43 @@
+package core.level.generator.graphBased;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import core.Entity;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.GameRandom;
+
+import org.junit.Test;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class RoombasedLevelGeneratorTest {
+
+    private static ILevel generate(long seed) {
+        Set<Set<Entity>> entities = new LinkedHashSet<>();
+        for (int i = 0; i < 10; i++) entities.add(Set.of(new Entity()));
+        return GameRandom.withSeed(
+                seed, () -> RoombasedLevelGenerator.level(entities, DesignLabel.DEFAULT));
+    }
+
+    private static LevelElement[][] elements(ILevel level) {
+        Tile[][] layout = level.layout();
+        LevelElement[][] elements = new LevelElement[layout.length][layout[0].length];
+        for (int y = 0; y < layout.length; y++)
+            for (int x = 0; x < layout[0].length; x++)
+                elements[y][x] = layout[y][x].levelElement();
+        return elements;
+    }
+
+    @Test
+    public void level_sameSeedSameRooms() {
+        ILevel first = generate(42);
+        ILevel second = generate(42);
+        assertArrayEquals(elements(first), elements(second));
+        assertEquals(first.doorTiles().size(), second.doorTiles().size());
+    }
+}
@@ -96,4 +96,15 @@ public class CameraSystemTest {
         float y = 100.0f;
         assertFalse(CameraSystem.isPointInFrustum(x, y));
     }
+
+    @Test
+    public void visibleTilesFollowCamera() {
+        Game.currentLevel(level);
+        cameraSystem.execute();
+        assertTrue(CameraSystem.firstVisibleColumn() < testPoint.x);
+        assertTrue(CameraSystem.lastVisibleColumn() > testPoint.x);
+        assertTrue(CameraSystem.firstVisibleRow() < testPoint.y);
+        assertTrue(CameraSystem.lastVisibleRow() > testPoint.y);
+        assertFalse(CameraSystem.isPointInFrustum(CameraSystem.lastVisibleColumn() + 2, 3));
+    }
 }
@@ -895,4 +895,68 @@ public class CollisionSystemTest {
         assertEquals("One interaction ends for e3", 1, sc3OnLeave.getCount());
         cleanUpEnvironment();
     }*/
+
+    /** Checks that onEnter is only called once for an ongoing collision found by the grid */
+    @Test
+    public void checkGridEnterOnlyOnce() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        Game.add(cs);
+        SimpleCounter onEnter = new SimpleCounter();
+        SimpleCounter onLeave = new SimpleCounter();
+        Entity e1 = prepareEntityWithPosition(new Point(3.9f, 2.9f));
+        e1.addComponent(
+                new CollideComponent(
+                        new Point(0, 0),
+                        new Point(1, 1),
+                        (a, b, c) -> onEnter.inc(),
+                        (a, b, c) -> onLeave.inc()));
+        Entity e2 = prepareEntityWithPosition(new Point(4.5f, 3.5f));
+        e2.addComponent(new CollideComponent(new Point(0, 0), new Point(1, 1), null, null));
+        Entity e3 = prepareEntityWithPosition(new Point(10, 10));
+        e3.addComponent(
+                new CollideComponent(
+                        new Point(0, 0),
+                        new Point(1, 1),
+                        (a, b, c) -> onEnter.inc(),
+                        (a, b, c) -> onLeave.inc()));
+        Game.add(e1);
+        Game.add(e2);
+        Game.add(e3);
+        cs.execute();
+        cs.execute();
+        assertEquals("Only one interaction begins", 1, onEnter.getCount());
+        assertEquals("No interaction ends", 0, onLeave.getCount());
+        cleanUpEnvironment();
+    }
+
+    /** Checks that onLeave is called once after the entities moved apart */
+    @Test
+    public void checkGridLeaveOnlyOnce() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        Game.add(cs);
+        SimpleCounter onEnter = new SimpleCounter();
+        SimpleCounter onLeave = new SimpleCounter();
+        Entity e1 = prepareEntityWithPosition(new Point(0, 0));
+        e1.addComponent(
+                new CollideComponent(
+                        new Point(0, 0),
+                        new Point(1, 1),
+                        (a, b, c) -> onEnter.inc(),
+                        (a, b, c) -> onLeave.inc()));
+        Entity e2 = prepareEntityWithPosition(new Point(0.5f, 0.5f));
+        e2.addComponent(new CollideComponent(new Point(0, 0), new Point(1, 1), null, null));
+        Game.add(e1);
+        Game.add(e2);
+        cs.execute();
+        e1.fetch(PositionComponent.class)
+                .orElseThrow(() -> new AssertionError(MISSING_POSITION_COMPONENT))
+                .position(new Point(5, 5));
+        cs.execute();
+        cs.execute();
+        assertEquals("Only one interaction begins", 1, onEnter.getCount());
+        assertEquals("Only one interaction ends", 1, onLeave.getCount());
+        cleanUpEnvironment();
+    }
 }
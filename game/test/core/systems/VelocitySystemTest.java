@@ -44,6 +44,7 @@ public class VelocitySystemTest {
         Game.currentLevel(level);
         Mockito.when(tile.friction()).thenReturn(0.75f);
         Mockito.when(level.tileAt((Point) Mockito.any())).thenReturn(tile);
+        Mockito.when(level.tileAt(Mockito.anyFloat(), Mockito.anyFloat())).thenReturn(tile);
         entity = new Entity();
         velocitySystem = new VelocitySystem();
         Game.add(velocitySystem);
@@ -0,0 +1,62 @@
+package core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+
+import org.junit.Test;
+
+import java.util.Set;
+
+public class ComponentMaskTest {
+
+    @Test
+    public void emptyMask() {
+        assertSame(ComponentMask.EMPTY, ComponentMask.of(Set.of()));
+        assertTrue(ComponentMask.EMPTY.containsAll(ComponentMask.EMPTY));
+    }
+
+    @Test
+    public void sameClassesEqualMasks() {
+        ComponentMask a = ComponentMask.of(Set.of(DummyA.class, DummyB.class));
+        ComponentMask b = ComponentMask.EMPTY.with(DummyB.class).with(DummyA.class);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    public void containsAll() {
+        ComponentMask ab = ComponentMask.of(Set.of(DummyA.class, DummyB.class));
+        ComponentMask a = ComponentMask.of(Set.of(DummyA.class));
+        assertTrue(ab.containsAll(a));
+        assertFalse(a.containsAll(ab));
+        assertTrue(a.containsAll(ComponentMask.EMPTY));
+    }
+
+    @Test
+    public void without() {
+        ComponentMask ab = ComponentMask.of(Set.of(DummyA.class, DummyB.class));
+        ComponentMask a = ab.without(DummyB.class);
+        assertTrue(a.contains(DummyA.class));
+        assertFalse(a.contains(DummyB.class));
+        assertTrue(ab.contains(DummyB.class));
+        assertSame(a, a.without(DummyB.class));
+    }
+
+    @Test
+    public void entityMaskFollowsComponents() {
+        Entity entity = new Entity();
+        entity.addComponent(new DummyA());
+        assertTrue(entity.componentMask().contains(DummyA.class));
+        entity.removeComponent(DummyA.class);
+        assertEquals(ComponentMask.EMPTY, entity.componentMask());
+    }
+
+    private static class DummyA implements Component {}
+
+    private static class DummyB implements Component {}
+}
@@ -0,0 +1,33 @@
+package core.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class GameRandomTest {
+
+    @Test
+    public void withSeed_sameSequence() {
+        int first = GameRandom.withSeed(42, () -> GameRandom.RANDOM.nextInt());
+        int second = GameRandom.withSeed(42, () -> GameRandom.RANDOM.nextInt());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void withSeed_sharedSequenceUnchanged() {
+        GameRandom.seed(1);
+        long expected = GameRandom.RANDOM.nextLong();
+        GameRandom.seed(1);
+        GameRandom.withSeed(42, () -> GameRandom.RANDOM.nextLong());
+        assertEquals(expected, GameRandom.RANDOM.nextLong());
+    }
+
+    @Test
+    public void withSeed_sameGaussian() {
+        // a gaussian of the shared sequence must not leave a cached number for the seeded work
+        GameRandom.RANDOM.nextGaussian();
+        double first = GameRandom.withSeed(42, () -> GameRandom.RANDOM.nextGaussian());
+        double second = GameRandom.withSeed(42, () -> GameRandom.RANDOM.nextGaussian());
+        assertEquals(first, second, 0);
+    }
+}
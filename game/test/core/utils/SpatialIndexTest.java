@@ -0,0 +1,121 @@
+package core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.Entity;
+import core.components.PositionComponent;
+import core.level.TileLevel;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class SpatialIndexTest {
+
+    private ILevel level;
+    private SpatialIndex index;
+
+    @Before
+    public void setup() {
+        LevelElement[][] layout = new LevelElement[10][10];
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 10; x++) {
+                layout[y][x] = LevelElement.FLOOR;
+            }
+        }
+        level = new TileLevel(layout, DesignLabel.DEFAULT);
+        index = new SpatialIndex();
+    }
+
+    private Entity entityAt(float x, float y) {
+        Entity entity = new Entity();
+        entity.addComponent(new PositionComponent(x, y));
+        index.update(entity);
+        return entity;
+    }
+
+    @Test
+    public void entitiesAtTile() {
+        Entity a = entityAt(2.5f, 3.5f);
+        Entity b = entityAt(2.1f, 3.9f);
+        entityAt(5f, 5f);
+        List<Entity> result =
+                index.entitiesAt(level.tileAt(new Coordinate(2, 3))).collect(Collectors.toList());
+        assertEquals(2, result.size());
+        assertTrue(result.contains(a));
+        assertTrue(result.contains(b));
+        assertEquals(0, index.entitiesAt(level.tileAt(new Coordinate(0, 0))).count());
+    }
+
+    @Test
+    public void followsPositionChange() {
+        Entity entity = entityAt(1f, 1f);
+        entity.fetch(PositionComponent.class).orElseThrow().position(new Point(7.5f, 8.5f));
+        assertEquals(0, index.entitiesAt(level.tileAt(new Coordinate(1, 1))).count());
+        assertEquals(
+                List.of(entity),
+                index.entitiesAt(level.tileAt(new Coordinate(7, 8))).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void followsPositionChange_withOtherListener() {
+        Entity entity = entityAt(1f, 1f);
+        PositionComponent pc = entity.fetch(PositionComponent.class).orElseThrow();
+        List<PositionComponent> changes = new ArrayList<>();
+        pc.addPositionListener(changes::add);
+        pc.position(new Point(7.5f, 8.5f));
+        assertEquals(List.of(pc), changes);
+        assertEquals(
+                List.of(entity),
+                index.entitiesAt(level.tileAt(new Coordinate(7, 8))).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void entitiesInRadius() {
+        Entity inside = entityAt(3f, 3f);
+        Entity border = entityAt(5f, 3f);
+        entityAt(5.1f, 3f);
+        entityAt(9f, 9f);
+        List<Entity> result =
+                index.entitiesInRadius(new Point(3f, 3f), 2f).collect(Collectors.toList());
+        assertEquals(2, result.size());
+        assertTrue(result.contains(inside));
+        assertTrue(result.contains(border));
+    }
+
+    @Test
+    public void nearest() {
+        Entity near = entityAt(4f, 4f);
+        Entity far = entityAt(8f, 8f);
+        assertEquals(Optional.of(near), index.nearest(new Point(3f, 3f), e -> true));
+        assertEquals(Optional.of(far), index.nearest(new Point(3f, 3f), e -> e != near));
+        assertFalse(index.nearest(new Point(3f, 3f), e -> false).isPresent());
+    }
+
+    @Test
+    public void removeEntity() {
+        Entity entity = entityAt(1f, 1f);
+        index.remove(entity);
+        assertEquals(0, index.size());
+        entity.fetch(PositionComponent.class).orElseThrow().position(new Point(2f, 2f));
+        assertEquals(0, index.entitiesInRadius(new Point(2f, 2f), 1f).count());
+    }
+
+    @Test
+    public void removePositionComponent() {
+        Entity entity = entityAt(1f, 1f);
+        entity.removeComponent(PositionComponent.class);
+        index.update(entity);
+        assertEquals(0, index.size());
+    }
+}
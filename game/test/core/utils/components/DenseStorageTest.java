@@ -0,0 +1,86 @@
+package core.utils.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+public class DenseStorageTest {
+
+    @Test
+    public void allocateDistinctSlots() {
+        DenseStorage storage = new DenseStorage(2);
+        Object a = new Object();
+        Object b = new Object();
+        int slotA = storage.allocate(a);
+        int slotB = storage.allocate(b);
+        assertNotEquals(slotA, slotB);
+        assertEquals(2, storage.size());
+    }
+
+    @Test
+    public void setAndGet() {
+        DenseStorage storage = new DenseStorage(2);
+        Object owner = new Object();
+        int slot = storage.allocate(owner);
+        storage.set(1, slot, 4.5f);
+        assertEquals(0f, storage.get(0, slot), 0.001);
+        assertEquals(4.5f, storage.get(1, slot), 0.001);
+        float[] page = storage.page(1, slot / DenseStorage.PAGE_SIZE);
+        assertEquals(4.5f, page[slot % DenseStorage.PAGE_SIZE], 0.001);
+    }
+
+    @Test
+    public void grow() {
+        DenseStorage storage = new DenseStorage(1);
+        Object[] owners = new Object[200];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = new Object();
+            storage.set(0, storage.allocate(owners[i]), i);
+        }
+        for (int i = 0; i < owners.length; i++) assertEquals(i, storage.get(0, i), 0.001);
+    }
+
+    @Test
+    public void grow_keepsPages() {
+        DenseStorage storage = new DenseStorage(1);
+        Object[] owners = new Object[DenseStorage.PAGE_SIZE + 1];
+        owners[0] = new Object();
+        int slot = storage.allocate(owners[0]);
+        float[] page = storage.page(0, 0);
+        for (int i = 1; i < owners.length; i++) {
+            owners[i] = new Object();
+            storage.allocate(owners[i]);
+        }
+        assertEquals(2, storage.pageCount());
+        page[slot] = 3f;
+        assertEquals(3f, storage.get(0, slot), 0.001);
+    }
+
+    @Test
+    public void allocate_concurrent() throws InterruptedException {
+        DenseStorage storage = new DenseStorage(1);
+        int perThread = 10 * DenseStorage.PAGE_SIZE;
+        Object[][] owners = new Object[4][perThread];
+        int[][] slots = new int[4][perThread];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int thread = t;
+            threads[t] =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < perThread; i++) {
+                                    owners[thread][i] = new Object();
+                                    slots[thread][i] = storage.allocate(owners[thread][i]);
+                                    storage.set(0, slots[thread][i], thread * perThread + i);
+                                }
+                            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        for (int t = 0; t < threads.length; t++)
+            for (int i = 0; i < perThread; i++)
+                assertEquals(t * perThread + i, storage.get(0, slots[t][i]), 0.001);
+        assertEquals(4 * perThread, storage.size());
+    }
+}
@@ -0,0 +1,82 @@
+package core.utils.components.collision;
+
+import static org.junit.Assert.assertEquals;
+
+import core.Entity;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class BroadPhaseTest {
+
+    private static final int HITBOXES = 300;
+    private static final int FRAMES = 20;
+
+    /**
+     * Fill the buffer with the given positions and collect the reported pairs.
+     *
+     * @return set of pairs, encoded as "lowerIndex:higherIndex"
+     */
+    private static Set<String> pairs(
+            BroadPhase broadPhase, HitboxBuffer buffer, Entity[] entities, float[] x, float[] y) {
+        buffer.clear();
+        for (int i = 0; i < entities.length; i++)
+            buffer.add(entities[i], null, x[i], y[i], x[i] + 0.75f, y[i] + 0.75f);
+        Set<String> pairs = new HashSet<>();
+        broadPhase.findPairs(
+                buffer,
+                (a, b) -> {
+                    boolean added = pairs.add(Math.min(a, b) + ":" + Math.max(a, b));
+                    assertEquals("Pair reported twice", true, added);
+                });
+        return pairs;
+    }
+
+    private static void compareWithAllPairs(BroadPhase broadPhase) {
+        Random random = new Random(7);
+        Entity[] entities = new Entity[HITBOXES];
+        float[] x = new float[HITBOXES];
+        float[] y = new float[HITBOXES];
+        for (int i = 0; i < HITBOXES; i++) {
+            entities[i] = new Entity();
+            x[i] = random.nextFloat() * 20 - 2;
+            y[i] = random.nextFloat() * 20 - 2;
+        }
+        HitboxBuffer expectedBuffer = new HitboxBuffer();
+        HitboxBuffer buffer = new HitboxBuffer();
+        AllPairsBroadPhase allPairs = new AllPairsBroadPhase();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            for (int i = 0; i < HITBOXES; i++) {
+                x[i] += random.nextFloat() - 0.5f;
+                y[i] += random.nextFloat() - 0.5f;
+            }
+            assertEquals(
+                    pairs(allPairs, expectedBuffer, entities, x, y),
+                    pairs(broadPhase, buffer, entities, x, y));
+        }
+    }
+
+    @Test
+    public void uniformGrid() {
+        compareWithAllPairs(new UniformGridBroadPhase());
+    }
+
+    @Test
+    public void sweepAndPrune() {
+        compareWithAllPairs(new SweepAndPruneBroadPhase());
+    }
+
+    @Test
+    public void touchingHitboxesDoNotOverlap() {
+        HitboxBuffer buffer = new HitboxBuffer();
+        buffer.add(new Entity(), null, 0, 0, 1, 1);
+        buffer.add(new Entity(), null, 1, 0, 2, 1);
+        Set<String> pairs = new HashSet<>();
+        new UniformGridBroadPhase().findPairs(buffer, (a, b) -> pairs.add(a + ":" + b));
+        new SweepAndPruneBroadPhase().findPairs(buffer, (a, b) -> pairs.add(a + ":" + b));
+        assertEquals(0, pairs.size());
+    }
+}
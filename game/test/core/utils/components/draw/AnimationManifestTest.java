@@ -0,0 +1,47 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.components.DrawComponent;
+
+import org.junit.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class AnimationManifestTest {
+
+    private static final String PATH = "textures/test_hero";
+
+    @Test
+    public void animations() throws IOException {
+        Map<String, List<String>> animations = AnimationManifest.instance().animations(PATH);
+        assertTrue(animations.containsKey("idle_left"));
+        assertTrue(animations.containsKey("run_right"));
+        assertEquals(
+                List.of(
+                        PATH + "/run_right/knight_m_run_anim_f0.png",
+                        PATH + "/run_right/knight_m_run_anim_f1.png",
+                        PATH + "/run_right/knight_m_run_anim_f2.png",
+                        PATH + "/run_right/knight_m_run_anim_f3.png"),
+                animations.get("run_right"));
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void animationsOfMissingPath() throws IOException {
+        AnimationManifest.instance().animations("textures/does_not_exist");
+    }
+
+    @Test
+    public void shareFrames() throws IOException {
+        DrawComponent first = new DrawComponent(PATH);
+        DrawComponent second = new DrawComponent(PATH);
+        assertSame(
+                first.getAnimation(CoreAnimations.RUN_LEFT).orElseThrow().getAnimationFrames(),
+                second.getAnimation(CoreAnimations.RUN_LEFT).orElseThrow().getAnimationFrames());
+    }
+}
@@ -0,0 +1,84 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class AnimationQueueTest {
+
+    @Test
+    public void topIsHighestPriority() {
+        AnimationQueue queue = new AnimationQueue();
+        assertNull(queue.top());
+        queue.queue(CoreAnimations.IDLE_LEFT, 1);
+        queue.queue(CoreAnimations.RUN_LEFT, 1);
+        assertEquals(CoreAnimations.RUN_LEFT, queue.top());
+        queue.removePriority(CoreAnimationPriorities.RUN.priority());
+        assertEquals(CoreAnimations.IDLE_LEFT, queue.top());
+    }
+
+    @Test
+    public void onePerPriority() {
+        AnimationQueue queue = new AnimationQueue();
+        queue.queue(CoreAnimations.IDLE_LEFT, 1);
+        queue.queue(CoreAnimations.IDLE_RIGHT, 5);
+        assertEquals(1, queue.size());
+        // like the former TreeMap, the first animation of a priority is kept
+        assertEquals(CoreAnimations.IDLE_LEFT, queue.top());
+        assertEquals(5, queue.remainingFrames(0));
+        assertTrue(queue.contains(CoreAnimations.IDLE_LEFT));
+        assertFalse(queue.contains(CoreAnimations.IDLE_RIGHT));
+    }
+
+    @Test
+    public void update() {
+        AnimationQueue queue = new AnimationQueue();
+        queue.queue(CoreAnimations.IDLE_LEFT, 0);
+        queue.queue(CoreAnimations.RUN_LEFT, 1);
+        queue.update();
+        assertEquals(1, queue.size());
+        assertEquals(CoreAnimations.RUN_LEFT, queue.top());
+        queue.update();
+        assertNull(queue.top());
+    }
+
+    @Test
+    public void grow() {
+        AnimationQueue queue = new AnimationQueue();
+        for (AdditionalAnimations animation : AdditionalAnimations.values())
+            queue.queue(animation, 1);
+        queue.queue(CoreAnimations.IDLE, 1);
+        queue.queue(CoreAnimations.RUN, 1);
+        for (int i = 1; i < queue.size(); i++)
+            assertTrue(queue.path(i - 1).priority() < queue.path(i).priority());
+    }
+
+    @Test
+    public void asMap_writesThrough() {
+        AnimationQueue queue = new AnimationQueue();
+        Map<IPath, Integer> map = queue.asMap();
+        queue.queue(CoreAnimations.RUN_LEFT, 3);
+        map.put(CoreAnimations.IDLE_LEFT, 2);
+        assertEquals(
+                List.of(CoreAnimations.IDLE_LEFT, CoreAnimations.RUN_LEFT),
+                List.copyOf(map.keySet()));
+        // keys are compared by priority, like in the former TreeMap
+        assertEquals(Integer.valueOf(3), map.put(CoreAnimations.RUN_RIGHT, 7));
+        assertEquals(CoreAnimations.RUN_LEFT, queue.top());
+        assertEquals(7, queue.remainingFrames(1));
+        assertEquals(Integer.valueOf(2), map.get(CoreAnimations.IDLE_RIGHT));
+
+        map.keySet().removeIf(path -> path.priority() == CoreAnimations.RUN_LEFT.priority());
+        assertEquals(1, queue.size());
+        map.entrySet().iterator().next().setValue(9);
+        assertEquals(9, queue.remainingFrames(0));
+        map.clear();
+        assertEquals(0, queue.size());
+    }
+}
@@ -2,6 +2,7 @@ package core.utils.components.draw;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -87,4 +88,36 @@ public class AnimationTest {
         assertEquals(testStrings.get(1), ta.nextAnimationTexturePath());
         assertEquals(testStrings.get(1), ta.nextAnimationTexturePath());
     }
+
+    @Test
+    public void CheckAnimation_update_currentTextureNotAdvanced() {
+        List<String> testStrings = List.of("a", "b");
+        Animation ta = new Animation(testStrings, 1, true, 1);
+        assertEquals(testStrings.get(0), ta.currentAnimationTexturePath());
+        assertEquals(testStrings.get(0), ta.currentAnimationTexturePath());
+        ta.update();
+        assertEquals(testStrings.get(1), ta.currentAnimationTexturePath());
+        ta.update();
+        assertEquals(testStrings.get(0), ta.currentAnimationTexturePath());
+    }
+
+    @Test
+    public void sharedClip() {
+        Animation first = new Animation(List.of("a", "b"), 1, true, 1);
+        Animation second = new Animation(List.of("a", "b"), 1, true, 1);
+        assertSame(first.clip(), second.clip());
+        first.update();
+        assertEquals("b", first.currentAnimationTexturePath());
+        assertEquals("a", second.currentAnimationTexturePath());
+    }
+
+    @Test
+    public void setLoopDoesNotChangeSharedClip() {
+        Animation first = new Animation(List.of("a", "b"), 1, true, 1);
+        Animation second = new Animation(first.clip());
+        first.setLoop(false);
+        assertFalse(first.isLooping());
+        assertTrue(second.isLooping());
+        assertTrue(second.clip().isLooping());
+    }
 }
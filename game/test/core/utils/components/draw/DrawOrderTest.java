@@ -0,0 +1,88 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import core.Entity;
+import core.components.DrawComponent;
+import core.components.PositionComponent;
+
+import org.junit.Test;
+
+public class DrawOrderTest {
+
+    private final DrawOrder order = new DrawOrder();
+
+    private Entity add(DepthLayer layer, float y) {
+        Entity entity = new Entity();
+        DrawComponent dc = new DrawComponent(Animation.of("texture.png"));
+        dc.depthLayer(layer);
+        order.add(entity, dc, new PositionComponent(0, y));
+        return entity;
+    }
+
+    @Test
+    public void sortByLayer() {
+        Entity projectile = add(DepthLayer.PROJECTILE, 0);
+        Entity hero = add(DepthLayer.PLAYER, 0);
+        Entity monster = add(DepthLayer.DEFAULT, 0);
+        Entity item = add(DepthLayer.GROUND, 0);
+        assertEquals(item, order.entity(0));
+        assertEquals(monster, order.entity(1));
+        assertEquals(hero, order.entity(2));
+        assertEquals(projectile, order.entity(3));
+    }
+
+    @Test
+    public void sortByY() {
+        Entity front = add(DepthLayer.DEFAULT, 1);
+        Entity back = add(DepthLayer.DEFAULT, 5);
+        assertEquals(back, order.entity(0));
+        assertEquals(front, order.entity(1));
+        // the entity in front walks behind the other one
+        order.positionComponent(1).position(0, 10);
+        order.sort();
+        assertEquals(front, order.entity(0));
+        assertEquals(back, order.entity(1));
+    }
+
+    @Test
+    public void stableForSamePosition() {
+        Entity first = add(DepthLayer.DEFAULT, 3);
+        Entity second = add(DepthLayer.DEFAULT, 3);
+        order.sort();
+        assertEquals(first, order.entity(0));
+        assertEquals(second, order.entity(1));
+    }
+
+    @Test
+    public void replacedComponents() {
+        Entity front = add(DepthLayer.DEFAULT, 1);
+        Entity back = add(DepthLayer.DEFAULT, 5);
+        DrawComponent dc = new DrawComponent(Animation.of("texture.png"));
+        dc.depthLayer(DepthLayer.GROUND);
+        PositionComponent pc = new PositionComponent(0, 10);
+        front.addComponent(dc);
+        front.addComponent(pc);
+        order.sort();
+        assertEquals(front, order.entity(0));
+        assertSame(dc, order.drawComponent(0));
+        assertSame(pc, order.positionComponent(0));
+        // the replaced position is used, even if the layer is the same again
+        dc.depthLayer(DepthLayer.DEFAULT);
+        order.sort();
+        assertEquals(front, order.entity(0));
+        assertEquals(back, order.entity(1));
+    }
+
+    @Test
+    public void remove() {
+        Entity a = add(DepthLayer.DEFAULT, 3);
+        Entity b = add(DepthLayer.DEFAULT, 2);
+        Entity c = add(DepthLayer.DEFAULT, 1);
+        order.remove(b);
+        assertEquals(2, order.size());
+        assertEquals(a, order.entity(0));
+        assertEquals(c, order.entity(1));
+    }
+}
@@ -0,0 +1,52 @@
+package core.utils.profiling;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SampleRingTest {
+
+    @Test
+    public void capacityRoundedUp() {
+        assertEquals(8, new SampleRing(5).capacity());
+        assertEquals(8, new SampleRing(8).capacity());
+    }
+
+    @Test
+    public void percentiles() {
+        SampleRing ring = new SampleRing(100);
+        for (int i = 1; i <= 100; i++) ring.record(i, 0, 0);
+        assertEquals(50, ring.percentile(0.5));
+        assertEquals(95, ring.percentile(0.95));
+        assertEquals(99, ring.percentile(0.99));
+        assertEquals(100, ring.percentile(1));
+    }
+
+    @Test
+    public void percentileEmpty() {
+        assertEquals(0, new SampleRing(4).percentile(0.5));
+    }
+
+    @Test
+    public void overwritesOldestSample() {
+        SampleRing ring = new SampleRing(4);
+        for (int i = 0; i < 6; i++) ring.record(i, i, i * 10);
+        assertEquals(4, ring.size());
+        assertEquals(6, ring.written());
+        assertEquals(2, ring.nanos(0));
+        assertEquals(5, ring.nanos(3));
+        assertEquals(3, ring.entities(1));
+        assertEquals(40, ring.allocatedBytes(2));
+    }
+
+    @Test
+    public void averages() {
+        SampleRing ring = new SampleRing(4);
+        ring.record(1, 2, 100);
+        ring.record(1, 4, 300);
+        assertEquals(3f, ring.averageEntities(), 0.001f);
+        assertEquals(200, ring.averageAllocatedBytes());
+        ring.record(1, 4, -1);
+        assertEquals(-1, ring.averageAllocatedBytes());
+    }
+}
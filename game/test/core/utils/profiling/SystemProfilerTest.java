@@ -0,0 +1,62 @@
+package core.utils.profiling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import core.System;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class SystemProfilerTest {
+
+    @Test
+    public void recordsEachSystem() {
+        SystemProfiler profiler = new SystemProfiler(16);
+        CountingSystem system = new CountingSystem();
+        for (int i = 0; i < 3; i++) {
+            profiler.beginFrame();
+            profiler.execute(system, 7);
+            profiler.endFrame();
+        }
+        assertEquals(3, system.executions);
+        SampleRing ring = profiler.systems().get(CountingSystem.class);
+        assertEquals(3, ring.size());
+        assertEquals(7, ring.entities(0));
+        assertEquals(3, profiler.frames().size());
+        assertEquals(7, profiler.frames().entities(2));
+        assertTrue(profiler.summary().contains(CountingSystem.class.getSimpleName()));
+    }
+
+    @Test
+    public void writeCsv() throws IOException {
+        SystemProfiler profiler = new SystemProfiler(16);
+        profiler.beginFrame();
+        profiler.execute(new CountingSystem(), 2);
+        profiler.endFrame();
+        Path file = Files.createTempFile("profiler", ".csv");
+        try {
+            profiler.writeCsv(file);
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(3, lines.size());
+            assertEquals("system,sample,nanos,entities,allocatedBytes", lines.get(0));
+            assertTrue(lines.get(1).startsWith("Frame,0,"));
+            assertTrue(lines.get(2).startsWith("CountingSystem,0,"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static final class CountingSystem extends System {
+        private int executions = 0;
+
+        @Override
+        public void execute() {
+            executions++;
+        }
+    }
+}